@@ -1,28 +1,82 @@
 package com.mixram.telegram.bot.config;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.mixram.telegram.bot.utils.concurrent.*;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 /**
+ * "bot.settings.execution.mode" defines how blocking tasks are executed: by pools of platform threads (by default) or by virtual
+ * threads (JDK 21+).<br>
+ * "bot.settings.executors" - JSON with settings of {@link WorkloadExecutors} by workloads` names, e.g.:
+ * {"scrape": {"threads": 2, "queue-capacity": 10, "rejection-policy": "ABORT"}}.
+ *
  * @author mixram on 2019-03-29.
  * @since 0.1.1.0
  */
-@EnableAsync
 @Configuration
 public class AsyncConfig {
 
-    @Bean(name = "customPoolTaskExecutor")
-    public Executor customPoolTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("custom_async_");
+    private final ExecutionMode executionMode;
 
-        return executor;
+    public AsyncConfig(@Value("${bot.settings.execution.mode:POOLED}") ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    /**
+     * Executors per workload (bulkheads).
+     *
+     * @since 1.9.0.0
+     */
+    @Bean(name = "workloadExecutors", destroyMethod = "shutdown")
+    public WorkloadExecutors workloadExecutors(@Value("${bot.settings.executors:}") String settings) {
+        Map<String, WorkloadSettings> settingsMap = StringUtils.isBlank(settings) ? new HashMap<>() :
+                                                    JsonUtil.fromJson(settings, new TypeReference<Map<String, WorkloadSettings>>() {});
+
+        return new WorkloadExecutors(executionMode, settingsMap);
+    }
+
+    /**
+     * Executor for blocking tasks, that are run in parallel (e.g., requests to shops` sites).
+     *
+     * @since 1.9.0.0
+     */
+    @Bean(name = "blockingTaskExecutor", destroyMethod = "shutdown")
+    public ExecutorService blockingTaskExecutor(@Value("${bot.settings.execution.pool-size:10}") int poolSize) {
+        return ExecutorFactory.newExecutor(executionMode, "blocking_task_", poolSize);
+    }
+
+    /**
+     * Dispatcher for updates processing: updates of one chat are processed one by one, updates of different chats - in parallel.
+     *
+     * @since 1.9.0.0
+     */
+    @Bean(name = "updatesDispatcher", destroyMethod = "shutdown")
+    public KeyedOrderedExecutor<Long> updatesDispatcher(@Value("${bot.settings.dispatcher.parallelism:8}") int parallelism,
+                                                        @Value("${bot.settings.dispatcher.capacity:1000}") int capacity) {
+        Executor executor = ExecutorFactory.newExecutor(executionMode, "update_dispatcher_", parallelism);
+
+        return new KeyedOrderedExecutor<>("updates", parallelism, capacity, executor);
+    }
+
+    /**
+     * Dispatcher for the outbox: messages to one chat are sent one by one, messages to different chats - in parallel.
+     *
+     * @since 1.9.0.0
+     */
+    @Bean(name = "outboxDispatcher", destroyMethod = "shutdown")
+    public KeyedOrderedExecutor<Long> outboxDispatcher(@Value("${bot.settings.outbox.parallelism:8}") int parallelism,
+                                                       @Value("${bot.settings.outbox.capacity:1000}") int capacity) {
+        Executor executor = ExecutorFactory.newExecutor(executionMode, "outbox_dispatcher_", parallelism);
+
+        return new KeyedOrderedExecutor<>("outbox", parallelism, capacity, executor);
     }
 }
@@ -1,13 +1,16 @@
 package com.mixram.telegram.bot.config.cache;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.mixram.telegram.bot.services.domain.entity.Data3DPlastic;
 import com.mixram.telegram.bot.services.domain.entity.Message;
 import com.mixram.telegram.bot.services.services.bot.entity.LazyActionData;
 import com.mixram.telegram.bot.services.services.bot.entity.NewMemberTempData;
 import com.mixram.telegram.bot.services.services.stat.entity.StatData;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -22,6 +25,11 @@ import java.util.List;
 import java.util.Map;
 
 /**
+ * Values of plastic are written by {@link VersionedRedisSerializer} in the format of "bot.settings.redis.formats.plastic" (SMILE
+ * by default), values of former versions are read as they are and are migrated on the next write.<br>
+ * Templates of statistics, new members, lazy actions and postponed messages are not written any more (the data is kept in plain
+ * Redis structures) - they only read and delete keys of former versions, so they keep the former serializer.
+ *
  * @author mixram on 2019-04-14.
  * @since ...
  */
@@ -32,6 +40,9 @@ public class RedisConfig {
 
     private RedisConnectionFactory connectionFactory;
 
+    @Value("${bot.settings.redis.compress-threshold:1024}")
+    private int compressThreshold;
+
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="***Util elements***">
@@ -50,9 +61,10 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisTemplate<String, Data3DPlastic> data3DPlasticRedisTemplate() {
+    public RedisTemplate<String, Data3DPlastic> data3DPlasticRedisTemplate(
+            @Value("${bot.settings.redis.formats.plastic:SMILE}") RedisValueFormat format) {
         RedisTemplate<String, Data3DPlastic> template = new RedisTemplate<>();
-        updateTemplate(template);
+        updateTemplate(template, createVersionedSerializer(new TypeReference<Data3DPlastic>() {}, format));
 
         return template;
     }
@@ -60,7 +72,7 @@ public class RedisConfig {
     @Bean
     public RedisTemplate<String, StatData> dataStatDataRedisTemplate() {
         RedisTemplate<String, StatData> template = new RedisTemplate<>();
-        updateTemplate(template);
+        updateTemplate(template, genericJackson2JsonRedisSerializer());
 
         return template;
     }
@@ -68,7 +80,7 @@ public class RedisConfig {
     @Bean
     public RedisTemplate<String, Map<String, NewMemberTempData>> dataNewMemberTempDataRedisTemplate() {
         RedisTemplate<String, Map<String, NewMemberTempData>> template = new RedisTemplate<>();
-        updateTemplate(template);
+        updateTemplate(template, genericJackson2JsonRedisSerializer());
 
         return template;
     }
@@ -76,7 +88,7 @@ public class RedisConfig {
     @Bean
     public RedisTemplate<String, List<LazyActionData>> dataLazyActionDataRedisTemplate() {
         RedisTemplate<String, List<LazyActionData>> template = new RedisTemplate<>();
-        updateTemplate(template);
+        updateTemplate(template, genericJackson2JsonRedisSerializer());
 
         return template;
     }
@@ -84,7 +96,7 @@ public class RedisConfig {
     @Bean
     public RedisTemplate<String, Map<String, List<Message>>> dataPostponedMessagesDataRedisTemplate() {
         RedisTemplate<String, Map<String, List<Message>>> template = new RedisTemplate<>();
-        updateTemplate(template);
+        updateTemplate(template, genericJackson2JsonRedisSerializer());
 
         return template;
     }
@@ -107,18 +119,27 @@ public class RedisConfig {
 
     // <editor-fold defaultstate="collapsed" desc="***Private elements***">
 
+    /**
+     * @since 1.9.0.0
+     */
+    private RedisSerializer<?> createVersionedSerializer(TypeReference<?> type,
+                                                         RedisValueFormat format) {
+        return new VersionedRedisSerializer<>(TypeFactory.defaultInstance().constructType(type), format, compressThreshold,
+                                              genericJackson2JsonRedisSerializer());
+    }
+
     /**
      * @since 1.3.0.0
      */
-    private void updateTemplate(RedisTemplate<?, ?> template) {
-        RedisSerializer<Object> jacksonSerializer = genericJackson2JsonRedisSerializer();
+    private void updateTemplate(RedisTemplate<?, ?> template,
+                                RedisSerializer<?> valueSerializer) {
         RedisSerializer<String> stringSerializer = stringRedisSerializer();
 
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(stringSerializer);
         template.setHashKeySerializer(stringSerializer);
-        template.setValueSerializer(jacksonSerializer);
-        template.setHashValueSerializer(jacksonSerializer);
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
     }
 
     // </editor-fold>
@@ -5,16 +5,34 @@ import com.mixram.telegram.bot.services.domain.entity.Message;
 import com.mixram.telegram.bot.services.domain.enums.Shop3D;
 import com.mixram.telegram.bot.services.services.bot.entity.LazyActionData;
 import com.mixram.telegram.bot.services.services.bot.entity.NewMemberTempData;
+import com.mixram.telegram.bot.services.services.bot.enums.LazyAction;
+import com.mixram.telegram.bot.services.services.broadcast.entity.BroadcastData;
+import com.mixram.telegram.bot.services.services.market.entity.MediaGroupPart;
 import com.mixram.telegram.bot.services.services.stat.entity.StatData;
+import com.mixram.telegram.bot.services.services.stat.enums.StatEvent;
+import com.mixram.telegram.bot.services.services.stat.enums.StatResolution;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.Nonnull;
-import java.util.List;
-import java.util.Map;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * @author mixram on 2019-04-14.
@@ -28,9 +46,126 @@ public class RedisTemplateHelper {
     private static final String PLASTIC_SHOP_PREFIX = "plastic_shop";
     private static final String PLASTIC_SHOP_OLD_PREFIX = "plastic_shop_old";
     private static final String STAT_PREFIX = "statistics";
+    private static final String STAT_CHAT_PREFIX = "stat_chat";
+    private static final String STAT_SERIES_PREFIX = "stat_";
+    private static final String STAT_USERS_PREFIX = "stat_users";
+    private static final String STAT_CHATS_PREFIX = "stat_chats";
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
     private static final String NEW_MEMBER_PREFIX = "new_member";
+    private static final String NEW_MEMBERS_PREFIX = "new_members";
+    private static final String NEW_MEMBERS_DUE_PREFIX = "new_members_due";
+    private static final String NEW_MEMBER_MESSAGES_PREFIX = "new_member_messages";
     private static final String LAZY_ACTION_PREFIX = "lazy_action";
+    private static final String LAZY_ACTIONS_PREFIX = "lazy_actions";
+    private static final String LAZY_ACTION_MEMBER_SEPARATOR = ":";
     private static final String POSTPONED_MESSAGES_PREFIX = "postponed_messages";
+    private static final String MEDIA_GROUP_PREFIX = "media_group";
+    private static final String MEDIA_GROUPS_DUE_PREFIX = "media_groups_due";
+    private static final String UPDATES_OFFSET_PREFIX = "updates_offset";
+    private static final String PROCESSED_UPDATES_PREFIX = "processed_updates";
+    private static final String BROADCAST_PREFIX = "broadcast";
+    private static final String BROADCAST_DELIVERED_PREFIX = "broadcast_delivered";
+    private static final String BROADCASTS_ACTIVE_PREFIX = "broadcasts_active";
+    private static final String OUTBOX_PREFIX = "outbox";
+    private static final String OUTBOX_PROCESSING_PREFIX = "outbox_processing";
+    /**
+     * Moves up to ARGV[1] entries from the head of the outbox (KEYS[1]) to the tail of the processing list (KEYS[2]).
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> OUTBOX_TAKE_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) " +
+                    "if #entries > 0 then " +
+                    "redis.call('LTRIM', KEYS[1], #entries, -1) " +
+                    "redis.call('RPUSH', KEYS[2], unpack(entries)) " +
+                    "end " +
+                    "return entries", List.class);
+    /**
+     * Removes entry ARGV[1] from the processing list (KEYS[2]) and puts entry ARGV[2] to the head of the outbox (KEYS[1]).
+     */
+    private static final RedisScript<Long> OUTBOX_RETURN_SCRIPT = new DefaultRedisScript<>(
+            "local removed = redis.call('LREM', KEYS[2], 1, ARGV[1]) " +
+                    "if removed > 0 then " +
+                    "redis.call('LPUSH', KEYS[1], ARGV[2]) " +
+                    "end " +
+                    "return removed", Long.class);
+    /**
+     * Moves all entries of the processing list (KEYS[2]) to the head of the outbox (KEYS[1]) keeping their order.
+     */
+    private static final RedisScript<Long> OUTBOX_RESTORE_SCRIPT = new DefaultRedisScript<>(
+            "local count = 0 " +
+                    "while redis.call('RPOPLPUSH', KEYS[2], KEYS[1]) do " +
+                    "count = count + 1 " +
+                    "end " +
+                    "return count", Long.class);
+    /**
+     * Removes up to ARGV[2] members of the sorted set (KEYS[1]) with scores not greater than ARGV[1] and returns them with scores.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LAZY_ACTIONS_CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, " +
+                    "tonumber(ARGV[2])) " +
+                    "local members = {} " +
+                    "for i = 1, #due, 2 do " +
+                    "members[#members + 1] = due[i] " +
+                    "end " +
+                    "if #members > 0 then " +
+                    "redis.call('ZREM', KEYS[1], unpack(members)) " +
+                    "end " +
+                    "return due", List.class);
+    /**
+     * Puts data ARGV[2] of the member ARGV[1] to the hash (KEYS[1]) and registers its deadline ARGV[3] in the due index (KEYS[2]).
+     */
+    private static final RedisScript<Long> NEW_MEMBER_STORE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "return redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])", Long.class);
+    /**
+     * Adds message ARGV[2] to the list (KEYS[2]) of the member ARGV[1], if the member is in the hash (KEYS[1]).
+     */
+    private static final RedisScript<Long> NEW_MEMBER_ADD_MESSAGE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then " +
+                    "return 0 " +
+                    "end " +
+                    "redis.call('RPUSH', KEYS[2], ARGV[2]) " +
+                    "redis.call('EXPIRE', KEYS[2], tonumber(ARGV[3])) " +
+                    "return 1", Long.class);
+    /**
+     * Removes the member ARGV[1] from the hash (KEYS[1]), the due index (KEYS[2]) and its list of messages (KEYS[3]) and returns
+     * its data followed by its messages (or nothing, if the member is not in the hash).
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> NEW_MEMBER_TAKE_SCRIPT = new DefaultRedisScript<>(
+            "local data = redis.call('HGET', KEYS[1], ARGV[1]) " +
+                    "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+                    "if not data then " +
+                    "redis.call('DEL', KEYS[3]) " +
+                    "return {} " +
+                    "end " +
+                    "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+                    "local result = redis.call('LRANGE', KEYS[3], 0, -1) " +
+                    "redis.call('DEL', KEYS[3]) " +
+                    "table.insert(result, 1, data) " +
+                    "return result", List.class);
+    /**
+     * Adds part ARGV[1] to the list of the media group (KEYS[1]), sets its time to live to ARGV[2] seconds and sets time to
+     * process the group ARGV[3] (member ARGV[4] of the due index KEYS[2]).
+     */
+    private static final RedisScript<Long> MEDIA_GROUP_ADD_SCRIPT = new DefaultRedisScript<>(
+            "local size = redis.call('RPUSH', KEYS[1], ARGV[1]) " +
+                    "redis.call('EXPIRE', KEYS[1], tonumber(ARGV[2])) " +
+                    "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[4]) " +
+                    "return size", Long.class);
+    /**
+     * Removes the media group ARGV[1] from the due index (KEYS[2]) and returns parts of the group (KEYS[1]) removing them (or
+     * nothing, if the group is not in the index).
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MEDIA_GROUP_TAKE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[2], ARGV[1]) == 0 then " +
+                    "return {} " +
+                    "end " +
+                    "local parts = redis.call('LRANGE', KEYS[1], 0, -1) " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "return parts", List.class);
 
     private final String prefix;
 
@@ -39,6 +174,7 @@ public class RedisTemplateHelper {
     private final RedisTemplate<String, Map<String, NewMemberTempData>> redisTemplateNewMemberTempData;
     private final RedisTemplate<String, List<LazyActionData>> redisLazyActionData;
     private final RedisTemplate<String, Map<String, List<Message>>> redisTemplatePostponedMessagesData;
+    private final StringRedisTemplate stringRedisTemplate;
 
     // </editor-fold>
 
@@ -51,12 +187,14 @@ public class RedisTemplateHelper {
             @Qualifier("dataNewMemberTempDataRedisTemplate") RedisTemplate<String, Map<String, NewMemberTempData>> redisTemplateNewMemberTempData,
             @Qualifier("dataLazyActionDataRedisTemplate") RedisTemplate<String, List<LazyActionData>> redisLazyActionData,
             @Qualifier("dataPostponedMessagesDataRedisTemplate") RedisTemplate<String, Map<String, List<Message>>> redisTemplatePostponedMessagesData,
+            StringRedisTemplate stringRedisTemplate,
             @Value("${spring.redis.prefix}") String prefix) {
         this.redisTemplate3DPlastic = redisTemplate3DPlastic;
         this.redisTemplateStatData = redisTemplateStatData;
         this.redisTemplateNewMemberTempData = redisTemplateNewMemberTempData;
         this.redisLazyActionData = redisLazyActionData;
         this.redisTemplatePostponedMessagesData = redisTemplatePostponedMessagesData;
+        this.stringRedisTemplate = stringRedisTemplate;
         this.prefix = prefix;
     }
 
@@ -140,20 +278,7 @@ public class RedisTemplateHelper {
 
 
     /**
-     * To save statistics in redis.
-     *
-     * @param stat statistics to save.
-     * @param key  key to save with.
-     *
-     * @since 1.3.0.0
-     */
-    public void storeStatisticsToRedis(@Nonnull StatData stat,
-                                       @Nonnull String key) {
-        redisTemplateStatData.opsForValue().set(prepareKey(key, STAT_PREFIX), stat);
-    }
-
-    /**
-     * To delete statistics from redis.
+     * To delete statistics (blob of 1.3.x-1.8.x versions) from redis.
      *
      * @param key key to delete with.
      *
@@ -164,7 +289,7 @@ public class RedisTemplateHelper {
     }
 
     /**
-     * To get statistics from redis.
+     * To get statistics (blob of 1.3.x-1.8.x versions) from redis.
      *
      * @param key key to get with.
      *
@@ -177,20 +302,227 @@ public class RedisTemplateHelper {
     }
 
     /**
-     * To save new members temporary data in redis.
+     * To record activity in a chat in one round trip (pipeline): counters of the chat, buckets of its activity series, its
+     * distinct users (HyperLogLog, in total and per day) and its time of the last activity.
+     * <p>
+     * Buckets are kept in a hash per chat, resolution and day (UTC); daily distinct users are kept as long as the longest lived
+     * buckets.
      *
-     * @param data data to save.
-     * @param key  key to save with.
+     * @param chatId chat ID.
+     * @param userId user ID (null - if unknown).
+     * @param events kinds of activity to count.
+     * @param time   time of the activity.
+     * @param ttls   time to live of buckets of every resolution to record, seconds.
+     * @param key    key part of the index of chats.
      *
-     * @since 1.7.0.0
+     * @since 1.9.0.0
+     */
+    public void recordStatisticsToRedis(@Nonnull Long chatId,
+                                        Long userId,
+                                        @Nonnull Collection<StatEvent> events,
+                                        @Nonnull LocalDateTime time,
+                                        @Nonnull Map<StatResolution, Long> ttls,
+                                        @Nonnull String key) {
+        long epochMilli = toEpochMilli(time);
+        long day = epochMilli / DAY_MILLIS;
+        String chatKey = prepareKey(chatId, STAT_CHAT_PREFIX);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            for (StatEvent event : events) {
+                stringConnection.hIncrBy(chatKey, event.name(), 1);
+            }
+
+            long usersTtl = 0;
+            for (Map.Entry<StatResolution, Long> ttl : ttls.entrySet()) {
+                String seriesKey = prepareSeriesKey(chatId, ttl.getKey(), day);
+                stringConnection.hIncrBy(seriesKey, String.valueOf(epochMilli / ttl.getKey().getMillis()), 1);
+                stringConnection.expire(seriesKey, ttl.getValue());
+
+                usersTtl = Math.max(usersTtl, ttl.getValue());
+            }
+
+            if (userId != null) {
+                String user = String.valueOf(userId);
+                stringConnection.pfAdd(prepareKey(chatId, STAT_USERS_PREFIX), user);
+                if (usersTtl > 0) {
+                    String usersKey = prepareKey(chatId + "_" + day, STAT_USERS_PREFIX);
+                    stringConnection.pfAdd(usersKey, user);
+                    stringConnection.expire(usersKey, usersTtl);
+                }
+            }
+
+            stringConnection.zAdd(prepareKey(key, STAT_CHATS_PREFIX), epochMilli, String.valueOf(chatId));
+
+            return null;
+        });
+    }
+
+    /**
+     * To add a number to a counter of a chat.
+     *
+     * @param chatId chat ID.
+     * @param event  kind of activity.
+     * @param delta  number to add.
+     *
+     * @since 1.9.0.0
+     */
+    public void addStatisticsCounterToRedis(@Nonnull Long chatId,
+                                            @Nonnull StatEvent event,
+                                            long delta) {
+        stringRedisTemplate.opsForHash().increment(prepareKey(chatId, STAT_CHAT_PREFIX), event.name(), delta);
+    }
+
+    /**
+     * To get counters of a chat.
+     *
+     * @param chatId chat ID.
+     *
+     * @return counters (may be empty).
+     *
+     * @since 1.9.0.0
+     */
+    public Map<StatEvent, Long> getStatisticsCountersFromRedis(@Nonnull Long chatId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(prepareKey(chatId, STAT_CHAT_PREFIX));
+
+        Map<StatEvent, Long> result = new EnumMap<>(StatEvent.class);
+        for (StatEvent event : StatEvent.values()) {
+            Object value = entries.get(event.name());
+            if (value != null) {
+                result.put(event, Long.valueOf(value.toString()));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * To get an activity series of a chat in one round trip (pipeline).
+     *
+     * @param chatId     chat ID.
+     * @param resolution size of buckets.
+     * @param from       time in the first bucket.
+     * @param to         time in the last bucket (inclusive).
+     *
+     * @return number of activities in every bucket (start of the bucket - number) in order of time.
+     *
+     * @since 1.9.0.0
+     */
+    public LinkedHashMap<LocalDateTime, Long> getStatisticsSeriesFromRedis(@Nonnull Long chatId,
+                                                                           @Nonnull StatResolution resolution,
+                                                                           @Nonnull LocalDateTime from,
+                                                                           @Nonnull LocalDateTime to) {
+        long bucketMillis = resolution.getMillis();
+        long bucketsPerDay = DAY_MILLIS / bucketMillis;
+        long fromBucket = toEpochMilli(from) / bucketMillis;
+        long toBucket = toEpochMilli(to) / bucketMillis;
+
+        LinkedHashMap<LocalDateTime, Long> result = new LinkedHashMap<>();
+        if (toBucket < fromBucket) {
+            return result;
+        }
+
+        List<Object> values = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            for (long day = fromBucket / bucketsPerDay; day <= toBucket / bucketsPerDay; day++) {
+                long first = Math.max(fromBucket, day * bucketsPerDay);
+                long last = Math.min(toBucket, (day + 1) * bucketsPerDay - 1);
+                String[] fields = new String[(int) (last - first + 1)];
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = String.valueOf(first + i);
+                }
+
+                stringConnection.hMGet(prepareSeriesKey(chatId, resolution, day), fields);
+            }
+
+            return null;
+        });
+
+        long bucket = fromBucket;
+        for (Object dayValues : values) {
+            for (Object value : (List<?>) dayValues) {
+                result.put(fromEpochMilli(bucket * bucketMillis), value == null ? 0L : Long.valueOf(value.toString()));
+                bucket++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * To get approximate number of distinct users of a chat.
+     *
+     * @param chatId chat ID.
+     *
+     * @return number of users.
+     *
+     * @since 1.9.0.0
      */
-    public void storeNewMembersTempDataToRedis(@Nonnull Map<String, NewMemberTempData> data,
-                                               @Nonnull String key) {
-        redisTemplateNewMemberTempData.opsForValue().set(prepareKey(key, NEW_MEMBER_PREFIX), data);
+    public long getStatisticsDistinctUsersFromRedis(@Nonnull Long chatId) {
+        Long size = stringRedisTemplate.opsForHyperLogLog().size(prepareKey(chatId, STAT_USERS_PREFIX));
+
+        return size == null ? 0 : size;
     }
 
     /**
-     * To delete new members temporary data from redis.
+     * To get approximate number of distinct users of a chat in days (UTC) of a period.
+     *
+     * @param chatId chat ID.
+     * @param from   time in the first day.
+     * @param to     time in the last day (inclusive).
+     *
+     * @return number of users.
+     *
+     * @since 1.9.0.0
+     */
+    public long getStatisticsDistinctUsersFromRedis(@Nonnull Long chatId,
+                                                    @Nonnull LocalDateTime from,
+                                                    @Nonnull LocalDateTime to) {
+        long fromDay = toEpochMilli(from) / DAY_MILLIS;
+        long toDay = toEpochMilli(to) / DAY_MILLIS;
+        if (toDay < fromDay) {
+            return 0;
+        }
+
+        String[] keys = new String[(int) (toDay - fromDay + 1)];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = prepareKey(chatId + "_" + (fromDay + i), STAT_USERS_PREFIX);
+        }
+        Long size = stringRedisTemplate.opsForHyperLogLog().size(keys);
+
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * To get chats, that were active since a time.
+     *
+     * @param since time.
+     * @param key   key part of the index of chats.
+     *
+     * @return chats (chat ID - time of the last activity) in order of the last activity (may be empty).
+     *
+     * @since 1.9.0.0
+     */
+    public LinkedHashMap<Long, LocalDateTime> getStatisticsChatsFromRedis(@Nonnull LocalDateTime since,
+                                                                          @Nonnull String key) {
+        Set<ZSetOperations.TypedTuple<String>> chats =
+                stringRedisTemplate.opsForZSet().rangeByScoreWithScores(prepareKey(key, STAT_CHATS_PREFIX),
+                                                                        toEpochMilli(since), Double.POSITIVE_INFINITY);
+
+        LinkedHashMap<Long, LocalDateTime> result = new LinkedHashMap<>();
+        if (chats != null) {
+            for (ZSetOperations.TypedTuple<String> chat : chats) {
+                result.put(Long.valueOf(chat.getValue()), fromEpochMilli(chat.getScore().longValue()));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * To delete new members temporary data (map of 1.8.x versions) from redis.
      *
      * @param key key to delete with.
      *
@@ -201,7 +533,7 @@ public class RedisTemplateHelper {
     }
 
     /**
-     * To get new members temporary data from redis.
+     * To get new members temporary data (map of 1.8.x versions) from redis.
      *
      * @param key key to get with.
      *
@@ -214,20 +546,7 @@ public class RedisTemplateHelper {
     }
 
     /**
-     * To save lazy-action data in redis.
-     *
-     * @param data data to save.
-     * @param key  key to save with.
-     *
-     * @since 1.8.2.0
-     */
-    public void storeLazyActionDataToRedis(@Nonnull List<LazyActionData> data,
-                                           @Nonnull String key) {
-        redisLazyActionData.opsForValue().set(prepareKey(key, LAZY_ACTION_PREFIX), data);
-    }
-
-    /**
-     * To delete lazy-action data from redis.
+     * To delete lazy-action data (list of 1.8.x versions) from redis.
      *
      * @param key key to delete with.
      *
@@ -238,7 +557,7 @@ public class RedisTemplateHelper {
     }
 
     /**
-     * To get lazy-action data from redis.
+     * To get lazy-action data (list of 1.8.x versions) from redis.
      *
      * @param key key to get with.
      *
@@ -251,7 +570,183 @@ public class RedisTemplateHelper {
     }
 
     /**
-     * To get postponed messages data from redis.
+     * To save data of a new member (its messages to delete are kept separately) and to register its deadline - atomically, so a
+     * stored member always has a deadline.
+     *
+     * @param memberId ID of the member (chat and user).
+     * @param data     data of the member.
+     * @param deadline time to check the member.
+     * @param key      key part of the members` hash.
+     *
+     * @since 1.9.0.0
+     */
+    public void storeNewMemberToRedis(@Nonnull String memberId,
+                                      @Nonnull NewMemberTempData data,
+                                      @Nonnull LocalDateTime deadline,
+                                      @Nonnull String key) {
+        stringRedisTemplate.execute(NEW_MEMBER_STORE_SCRIPT,
+                                    Arrays.asList(prepareKey(key, NEW_MEMBERS_PREFIX), prepareKey(key, NEW_MEMBERS_DUE_PREFIX)),
+                                    memberId, JsonUtil.toJson(data), String.valueOf(toEpochMilli(deadline)));
+    }
+
+    /**
+     * To add a message to messages of a new member, that are deleted with the member`s check.
+     *
+     * @param memberId  ID of the member (chat and user).
+     * @param messageId message ID.
+     * @param ttl       time to live of the messages` list, seconds.
+     * @param key       key part of the members` hash.
+     *
+     * @return false - if there is no such member.
+     *
+     * @since 1.9.0.0
+     */
+    public boolean addNewMemberMessageToRedis(@Nonnull String memberId,
+                                              long messageId,
+                                              long ttl,
+                                              @Nonnull String key) {
+        Long added = stringRedisTemplate.execute(NEW_MEMBER_ADD_MESSAGE_SCRIPT,
+                                                 Arrays.asList(prepareKey(key, NEW_MEMBERS_PREFIX),
+                                                               prepareKey(memberId, NEW_MEMBER_MESSAGES_PREFIX)),
+                                                 memberId, String.valueOf(messageId), String.valueOf(ttl));
+
+        return added != null && added > 0;
+    }
+
+    /**
+     * To take data of a new member: the member is removed atomically, so it is taken once (by the answer or by the deadline).
+     *
+     * @param memberId ID of the member (chat and user).
+     * @param key      key part of the members` hash.
+     *
+     * @return data with messages to delete or null, if there is no such member.
+     *
+     * @since 1.9.0.0
+     */
+    @SuppressWarnings("unchecked")
+    public NewMemberTempData takeNewMemberFromRedis(@Nonnull String memberId,
+                                                    @Nonnull String key) {
+        List<String> taken = stringRedisTemplate.execute(NEW_MEMBER_TAKE_SCRIPT,
+                                                         Arrays.asList(prepareKey(key, NEW_MEMBERS_PREFIX),
+                                                                       prepareKey(key, NEW_MEMBERS_DUE_PREFIX),
+                                                                       prepareKey(memberId, NEW_MEMBER_MESSAGES_PREFIX)),
+                                                         memberId);
+        if (taken == null || taken.isEmpty()) {
+            return null;
+        }
+
+        NewMemberTempData data = JsonUtil.fromJson(taken.get(0), NewMemberTempData.class);
+        List<Long> messagesToDelete = new ArrayList<>();
+        if (data.getMessagesToDelete() != null) {
+            messagesToDelete.addAll(data.getMessagesToDelete());
+        }
+        taken.subList(1, taken.size()).forEach(id -> messagesToDelete.add(Long.valueOf(id)));
+        data.setMessagesToDelete(messagesToDelete);
+
+        return data;
+    }
+
+    /**
+     * To get new members, whose deadlines are passed.
+     *
+     * @param key   key part of the members` hash.
+     * @param now   current time.
+     * @param count max number of members.
+     *
+     * @return IDs of members (chat and user, may be empty).
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    public Set<String> getDueNewMembersFromRedis(@Nonnull String key,
+                                                 @Nonnull LocalDateTime now,
+                                                 int count) {
+        Set<String> ids = stringRedisTemplate.opsForZSet().rangeByScore(prepareKey(key, NEW_MEMBERS_DUE_PREFIX), 0,
+                                                                        toEpochMilli(now), 0, count);
+
+        return ids == null ? Collections.emptySet() : ids;
+    }
+
+    /**
+     * To add lazy actions to the sorted set (scored by time of the action). An action, that is in the set already, gets the new
+     * time.
+     *
+     * @param data lazy actions.
+     * @param key  key part of the set.
+     *
+     * @since 1.9.0.0
+     */
+    public void addLazyActionsToRedis(@Nonnull Collection<LazyActionData> data,
+                                      @Nonnull String key) {
+        if (data.isEmpty()) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(data.size());
+        for (LazyActionData lazyActionData : data) {
+            tuples.add(new DefaultTypedTuple<>(toLazyActionMember(lazyActionData),
+                                               (double) toEpochMilli(lazyActionData.getActionDateTime())));
+        }
+        stringRedisTemplate.opsForZSet().add(prepareKey(key, LAZY_ACTIONS_PREFIX), tuples);
+    }
+
+    /**
+     * To remove lazy actions from the sorted set (time of an action is not taken into account).
+     *
+     * @param data lazy actions.
+     * @param key  key part of the set.
+     *
+     * @since 1.9.0.0
+     */
+    public void removeLazyActionsFromRedis(@Nonnull Collection<LazyActionData> data,
+                                           @Nonnull String key) {
+        if (data.isEmpty()) {
+            return;
+        }
+
+        stringRedisTemplate.opsForZSet().remove(prepareKey(key, LAZY_ACTIONS_PREFIX),
+                                                data.stream()
+                                                    .map(RedisTemplateHelper :: toLazyActionMember)
+                                                    .toArray());
+    }
+
+    /**
+     * To take lazy actions, that are due, from the sorted set: taken actions are removed atomically, so an action is taken once,
+     * even if several instances take actions at the same time.
+     *
+     * @param key   key part of the set.
+     * @param now   current time.
+     * @param count max number of actions.
+     *
+     * @return actions (ordered by time, may be empty).
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public List<LazyActionData> claimDueLazyActionsFromRedis(@Nonnull String key,
+                                                             @Nonnull LocalDateTime now,
+                                                             int count) {
+        List<String> due = stringRedisTemplate.execute(LAZY_ACTIONS_CLAIM_SCRIPT,
+                                                       Collections.singletonList(prepareKey(key, LAZY_ACTIONS_PREFIX)),
+                                                       String.valueOf(toEpochMilli(now)), String.valueOf(count));
+        if (due == null || due.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<LazyActionData> result = new ArrayList<>(due.size() / 2);
+        for (int i = 0; i + 1 < due.size(); i += 2) {
+            LazyActionData lazyActionData = fromLazyActionMember(due.get(i), (long) Double.parseDouble(due.get(i + 1)));
+            if (lazyActionData != null) {
+                result.add(lazyActionData);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * To get postponed messages data (map of 1.8.x versions) from redis.
      *
      * @param key key to get with.
      *
@@ -264,16 +759,335 @@ public class RedisTemplateHelper {
     }
 
     /**
-     * To save postponed messaged to Redis.
+     * To delete postponed messages data (map of 1.8.x versions) from redis.
      *
-     * @param data data to save.
-     * @param key  key part.
+     * @param key key part.
      *
-     * @since 1.8.8.0
+     * @since 1.9.0.0
+     */
+    public void deletePostponedMessagesDataFromRedis(@Nonnull String key) {
+        redisTemplatePostponedMessagesData.delete(prepareKey(key, POSTPONED_MESSAGES_PREFIX));
+    }
+
+    /**
+     * To add a part to its media group and to put off processing of the group.
+     *
+     * @param mediaGroupId ID of the media group.
+     * @param part         part of the group.
+     * @param processAt    time to process the group.
+     * @param ttl          time to live of the group, seconds.
+     * @param key          key part of the due index.
+     *
+     * @since 1.9.0.0
+     */
+    public void addMediaGroupPartToRedis(@Nonnull String mediaGroupId,
+                                         @Nonnull MediaGroupPart part,
+                                         @Nonnull LocalDateTime processAt,
+                                         long ttl,
+                                         @Nonnull String key) {
+        stringRedisTemplate.execute(MEDIA_GROUP_ADD_SCRIPT,
+                                    Arrays.asList(prepareKey(mediaGroupId, MEDIA_GROUP_PREFIX),
+                                                  prepareKey(key, MEDIA_GROUPS_DUE_PREFIX)),
+                                    JsonUtil.toJson(part), String.valueOf(ttl), String.valueOf(toEpochMilli(processAt)),
+                                    mediaGroupId);
+    }
+
+    /**
+     * To get media groups, that have to be processed.
+     *
+     * @param key   key part of the due index.
+     * @param now   current time.
+     * @param count max number of groups.
+     *
+     * @return IDs of media groups (may be empty).
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    public Set<String> getDueMediaGroupsFromRedis(@Nonnull String key,
+                                                  @Nonnull LocalDateTime now,
+                                                  int count) {
+        Set<String> ids = stringRedisTemplate.opsForZSet().rangeByScore(prepareKey(key, MEDIA_GROUPS_DUE_PREFIX), 0,
+                                                                        toEpochMilli(now), 0, count);
+
+        return ids == null ? Collections.emptySet() : ids;
+    }
+
+    /**
+     * To take parts of a media group: the group is removed atomically, so it is taken once.
+     *
+     * @param mediaGroupId ID of the media group.
+     * @param key          key part of the due index.
+     *
+     * @return parts (in order of arrival, may be empty).
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public List<MediaGroupPart> takeMediaGroupFromRedis(@Nonnull String mediaGroupId,
+                                                        @Nonnull String key) {
+        List<String> parts = stringRedisTemplate.execute(MEDIA_GROUP_TAKE_SCRIPT,
+                                                         Arrays.asList(prepareKey(mediaGroupId, MEDIA_GROUP_PREFIX),
+                                                                       prepareKey(key, MEDIA_GROUPS_DUE_PREFIX)),
+                                                         mediaGroupId);
+        if (parts == null) {
+            return Collections.emptyList();
+        }
+
+        return parts.stream()
+                    .map(p -> JsonUtil.fromJson(p, MediaGroupPart.class))
+                    .collect(Collectors.toList());
+    }
+
+    /**
+     * To save committed offset of updates to Redis.
+     *
+     * @param offset offset.
+     * @param key    key part.
+     *
+     * @since 1.9.0.0
+     */
+    public void storeUpdatesOffsetToRedis(long offset,
+                                          @Nonnull String key) {
+        stringRedisTemplate.opsForValue().set(prepareKey(key, UPDATES_OFFSET_PREFIX), String.valueOf(offset));
+    }
+
+    /**
+     * To get committed offset of updates from Redis.
+     *
+     * @param key key part.
+     *
+     * @return offset or null.
+     *
+     * @since 1.9.0.0
+     */
+    public Long getUpdatesOffsetFromRedis(@Nonnull String key) {
+        String offset = stringRedisTemplate.opsForValue().get(prepareKey(key, UPDATES_OFFSET_PREFIX));
+
+        return offset == null ? null : Long.valueOf(offset);
+    }
+
+    /**
+     * To save IDs of recently processed updates to Redis.
+     *
+     * @param ids IDs.
+     * @param key key part.
+     *
+     * @since 1.9.0.0
+     */
+    public void storeProcessedUpdatesToRedis(@Nonnull long[] ids,
+                                             @Nonnull String key) {
+        String value = Arrays.stream(ids)
+                             .mapToObj(String :: valueOf)
+                             .collect(Collectors.joining(","));
+
+        stringRedisTemplate.opsForValue().set(prepareKey(key, PROCESSED_UPDATES_PREFIX), value);
+    }
+
+    /**
+     * To get IDs of recently processed updates from Redis.
+     *
+     * @param key key part.
+     *
+     * @return IDs (may be empty).
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    public long[] getProcessedUpdatesFromRedis(@Nonnull String key) {
+        String value = stringRedisTemplate.opsForValue().get(prepareKey(key, PROCESSED_UPDATES_PREFIX));
+        if (StringUtils.isBlank(value)) {
+            return new long[0];
+        }
+
+        return Arrays.stream(value.split(","))
+                     .mapToLong(Long :: parseLong)
+                     .toArray();
+    }
+
+    /**
+     * To save a broadcast to Redis and to register it as active.
+     *
+     * @param data broadcast.
+     * @param key  key part of the registry of active broadcasts.
+     * @param ttl  time to live of the broadcast, seconds.
+     *
+     * @since 1.9.0.0
      */
-    public void storePostponedMessagesDataToRedis(@Nonnull Map<String, List<Message>> data,
-                                                  @Nonnull String key) {
-        redisTemplatePostponedMessagesData.opsForValue().set(prepareKey(key, POSTPONED_MESSAGES_PREFIX), data);
+    public void storeBroadcastToRedis(@Nonnull BroadcastData data,
+                                      @Nonnull String key,
+                                      long ttl) {
+        stringRedisTemplate.opsForValue().set(prepareKey(data.getId(), BROADCAST_PREFIX), JsonUtil.toJson(data), ttl,
+                                              TimeUnit.SECONDS);
+        stringRedisTemplate.opsForSet().add(prepareKey(key, BROADCASTS_ACTIVE_PREFIX), data.getId());
+    }
+
+    /**
+     * To get a broadcast from Redis.
+     *
+     * @param id ID of the broadcast.
+     *
+     * @return broadcast or null.
+     *
+     * @since 1.9.0.0
+     */
+    public BroadcastData getBroadcastFromRedis(@Nonnull String id) {
+        String value = stringRedisTemplate.opsForValue().get(prepareKey(id, BROADCAST_PREFIX));
+
+        return value == null ? null : JsonUtil.fromJson(value, BroadcastData.class);
+    }
+
+    /**
+     * To delete a broadcast (and its delivery state) from Redis.
+     *
+     * @param id  ID of the broadcast.
+     * @param key key part of the registry of active broadcasts.
+     *
+     * @since 1.9.0.0
+     */
+    public void deleteBroadcastFromRedis(@Nonnull String id,
+                                         @Nonnull String key) {
+        stringRedisTemplate.delete(Arrays.asList(prepareKey(id, BROADCAST_PREFIX), prepareKey(id, BROADCAST_DELIVERED_PREFIX)));
+        stringRedisTemplate.opsForSet().remove(prepareKey(key, BROADCASTS_ACTIVE_PREFIX), id);
+    }
+
+    /**
+     * To get IDs of active broadcasts from Redis.
+     *
+     * @param key key part of the registry of active broadcasts.
+     *
+     * @return IDs (may be empty).
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    public Set<String> getActiveBroadcastsFromRedis(@Nonnull String key) {
+        Set<String> ids = stringRedisTemplate.opsForSet().members(prepareKey(key, BROADCASTS_ACTIVE_PREFIX));
+
+        return ids == null ? Collections.emptySet() : ids;
+    }
+
+    /**
+     * To mark a chat as one, that has got the broadcast.
+     *
+     * @param chatId chat ID.
+     * @param id     ID of the broadcast.
+     * @param ttl    time to live of the delivery state, seconds.
+     *
+     * @since 1.9.0.0
+     */
+    public void storeBroadcastDeliveredToRedis(long chatId,
+                                               @Nonnull String id,
+                                               long ttl) {
+        String key = prepareKey(id, BROADCAST_DELIVERED_PREFIX);
+
+        stringRedisTemplate.opsForSet().add(key, String.valueOf(chatId));
+        stringRedisTemplate.expire(key, ttl, TimeUnit.SECONDS);
+    }
+
+    /**
+     * To get chats, that have got the broadcast.
+     *
+     * @param id ID of the broadcast.
+     *
+     * @return chat IDs (may be empty).
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    public Set<Long> getBroadcastDeliveredFromRedis(@Nonnull String id) {
+        Set<String> chatIds = stringRedisTemplate.opsForSet().members(prepareKey(id, BROADCAST_DELIVERED_PREFIX));
+        if (chatIds == null) {
+            return Collections.emptySet();
+        }
+
+        return chatIds.stream()
+                      .map(Long :: valueOf)
+                      .collect(Collectors.toSet());
+    }
+
+    /**
+     * To add an entry to the tail of the outbox.
+     *
+     * @param entry entry (serialized).
+     * @param key   key part of the outbox.
+     *
+     * @since 1.9.0.0
+     */
+    public void pushToOutboxInRedis(@Nonnull String entry,
+                                    @Nonnull String key) {
+        stringRedisTemplate.opsForList().rightPush(prepareKey(key, OUTBOX_PREFIX), entry);
+    }
+
+    /**
+     * To take entries from the head of the outbox: taken entries are kept in the processing list until they are removed by
+     * {@link #removeFromOutboxInRedis(String, String)} or returned by {@link #returnToOutboxInRedis(String, String, String)}.
+     *
+     * @param key   key part of the outbox.
+     * @param count max number of entries.
+     *
+     * @return entries (serialized, may be empty).
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public List<String> takeFromOutboxInRedis(@Nonnull String key,
+                                              int count) {
+        List<String> entries = stringRedisTemplate.execute(OUTBOX_TAKE_SCRIPT,
+                                                           Arrays.asList(prepareKey(key, OUTBOX_PREFIX),
+                                                                         prepareKey(key, OUTBOX_PROCESSING_PREFIX)),
+                                                           String.valueOf(count));
+
+        return entries == null ? Collections.emptyList() : entries;
+    }
+
+    /**
+     * To remove a processed entry from the processing list.
+     *
+     * @param entry entry (serialized, as it was taken).
+     * @param key   key part of the outbox.
+     *
+     * @since 1.9.0.0
+     */
+    public void removeFromOutboxInRedis(@Nonnull String entry,
+                                        @Nonnull String key) {
+        stringRedisTemplate.opsForList().remove(prepareKey(key, OUTBOX_PROCESSING_PREFIX), 1, entry);
+    }
+
+    /**
+     * To return an entry from the processing list to the head of the outbox.
+     *
+     * @param entry    entry (serialized, as it was taken).
+     * @param newEntry entry to put to the outbox (serialized).
+     * @param key      key part of the outbox.
+     *
+     * @since 1.9.0.0
+     */
+    public void returnToOutboxInRedis(@Nonnull String entry,
+                                      @Nonnull String newEntry,
+                                      @Nonnull String key) {
+        stringRedisTemplate.execute(OUTBOX_RETURN_SCRIPT,
+                                    Arrays.asList(prepareKey(key, OUTBOX_PREFIX), prepareKey(key, OUTBOX_PROCESSING_PREFIX)),
+                                    entry, newEntry);
+    }
+
+    /**
+     * To return all entries of the processing list (taken, but not processed before a restart) to the head of the outbox.
+     *
+     * @param key key part of the outbox.
+     *
+     * @return number of returned entries.
+     *
+     * @since 1.9.0.0
+     */
+    public long restoreOutboxInRedis(@Nonnull String key) {
+        Long count = stringRedisTemplate.execute(OUTBOX_RESTORE_SCRIPT,
+                                                 Arrays.asList(prepareKey(key, OUTBOX_PREFIX),
+                                                               prepareKey(key, OUTBOX_PROCESSING_PREFIX)));
+
+        return count == null ? 0 : count;
     }
 
 
@@ -287,5 +1101,58 @@ public class RedisTemplateHelper {
         return prefix + "::" + prefixCustom + "::" + key;
     }
 
+    /**
+     * @since 1.9.0.0
+     */
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static LocalDateTime fromEpochMilli(long epochMilli) {
+        return Instant.ofEpochMilli(epochMilli).atZone(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private String prepareSeriesKey(Long chatId,
+                                    StatResolution resolution,
+                                    long day) {
+        return prepareKey(chatId + "_" + day, STAT_SERIES_PREFIX + resolution.getName());
+    }
+
+    /**
+     * Member of the sorted set identifies an action - "chatId:messageId:action".
+     *
+     * @since 1.9.0.0
+     */
+    private static String toLazyActionMember(LazyActionData data) {
+        return data.getChatId() + LAZY_ACTION_MEMBER_SEPARATOR + data.getMessageId() + LAZY_ACTION_MEMBER_SEPARATOR +
+                data.getAction().name();
+    }
+
+    /**
+     * @return data or null, if the member can not be parsed.
+     *
+     * @since 1.9.0.0
+     */
+    private static LazyActionData fromLazyActionMember(String member,
+                                                       long epochMilli) {
+        String[] parts = StringUtils.split(member, LAZY_ACTION_MEMBER_SEPARATOR);
+        try {
+            return LazyActionData.builder()
+                                 .chatId(Long.valueOf(parts[0]))
+                                 .messageId(Long.valueOf(parts[1]))
+                                 .action(LazyAction.valueOf(parts[2]))
+                                 .actionDateTime(fromEpochMilli(epochMilli))
+                                 .build();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     // </editor-fold>
 }
@@ -0,0 +1,36 @@
+package com.mixram.telegram.bot.config.cache;
+
+import lombok.Getter;
+
+/**
+ * Format of values, that are written by {@link VersionedRedisSerializer}.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum RedisValueFormat {
+
+    /**
+     * JSON with class names of all nested objects and without a header (format of 1.8.x versions) - to be read by instances of
+     * former versions.
+     */
+    LEGACY((byte) 0),
+    /**
+     * JSON of the declared type.
+     */
+    JSON((byte) 1),
+    /**
+     * <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> (binary JSON) of the declared type.
+     */
+    SMILE((byte) 2);
+
+    /**
+     * ID of the format in the header of a value.
+     */
+    @Getter
+    private final byte id;
+
+    RedisValueFormat(byte id) {
+        this.id = id;
+    }
+}
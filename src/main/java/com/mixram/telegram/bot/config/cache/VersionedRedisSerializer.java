@@ -0,0 +1,174 @@
+package com.mixram.telegram.bot.config.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.apache.commons.lang3.Validate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Serializer of values of the declared type (without class names in values).
+ * <p>
+ * A value is written as a header - version of the layout ({@link #VERSION}), ID of the format ({@link RedisValueFormat}) and
+ * flags (compressed or not) - followed by the body. Bodies, that are not shorter than the threshold, are compressed (deflate).
+ * <p>
+ * Values without a header (they start with "{" or "[") are written by former versions and are read by the legacy serializer, so
+ * existing keys are read as they are and are migrated on their next writing.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class VersionedRedisSerializer<T> implements RedisSerializer<T> {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    /**
+     * Version of the layout of values; first bytes of values of former versions are printable characters, so versions must be
+     * less than 0x20.
+     */
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 3;
+    static final byte FLAG_COMPRESSED = 1;
+
+    private static final ObjectMapper JSON_MAPPER = new Jackson2ObjectMapperBuilder().failOnEmptyBeans(false)
+                                                                                     .build();
+    private static final ObjectMapper SMILE_MAPPER = new Jackson2ObjectMapperBuilder().factory(new SmileFactory())
+                                                                                      .failOnEmptyBeans(false)
+                                                                                      .build();
+
+    private final JavaType type;
+    private final RedisValueFormat format;
+    private final int compressThreshold;
+    private final RedisSerializer<Object> legacySerializer;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    /**
+     * @param type              declared type of values.
+     * @param format            format to write values with.
+     * @param compressThreshold min size of a body to compress, bytes (0 - not to compress).
+     * @param legacySerializer  serializer of values of former versions.
+     */
+    public VersionedRedisSerializer(@Nonnull JavaType type,
+                                    @Nonnull RedisValueFormat format,
+                                    int compressThreshold,
+                                    @Nonnull RedisSerializer<Object> legacySerializer) {
+        Validate.notNull(type, "Type is not specified!");
+        Validate.notNull(format, "Format is not specified!");
+        Validate.isTrue(compressThreshold >= 0, "Compression threshold must not be negative!");
+        Validate.notNull(legacySerializer, "Legacy serializer is not specified!");
+
+        this.type = type;
+        this.format = format;
+        this.compressThreshold = compressThreshold;
+        this.legacySerializer = legacySerializer;
+    }
+
+    // </editor-fold>
+
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (format == RedisValueFormat.LEGACY) {
+            return legacySerializer.serialize(value);
+        }
+
+        try {
+            byte[] body = mapper(format).writerFor(type).writeValueAsBytes(value);
+            boolean compress = compressThreshold > 0 && body.length >= compressThreshold;
+
+            ByteArrayOutputStream result = new ByteArrayOutputStream(HEADER_SIZE + (compress ? body.length / 2 : body.length));
+            result.write(VERSION);
+            result.write(format.getId());
+            result.write(compress ? FLAG_COMPRESSED : 0);
+            if (compress) {
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (OutputStream out = new DeflaterOutputStream(result, deflater)) {
+                    out.write(body);
+                } finally {
+                    deflater.end();
+                }
+            } else {
+                result.write(body);
+            }
+
+            return result.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] >= 0x20) {
+            return (T) legacySerializer.deserialize(bytes);
+        }
+        if (bytes[0] != VERSION || bytes.length < HEADER_SIZE) {
+            throw new SerializationException(String.format("Unsupported version of value: %s!", bytes[0]));
+        }
+
+        try {
+            InputStream body = new ByteArrayInputStream(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+            if ((bytes[2] & FLAG_COMPRESSED) != 0) {
+                body = new InflaterInputStream(body);
+            }
+
+            return mapper(defineFormat(bytes[1])).readValue(body, type);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read value: " + e.getMessage(), e);
+        }
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static ObjectMapper mapper(RedisValueFormat format) {
+        switch (format) {
+            case JSON:
+                return JSON_MAPPER;
+            case SMILE:
+                return SMILE_MAPPER;
+            default:
+                throw new UnsupportedOperationException(String.format("Format %s has no header!", format));
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static RedisValueFormat defineFormat(byte id) {
+        for (RedisValueFormat format : RedisValueFormat.values()) {
+            if (format != RedisValueFormat.LEGACY && format.getId() == id) {
+                return format;
+            }
+        }
+
+        throw new SerializationException(String.format("Unsupported format of value: %s!", id));
+    }
+
+    // </editor-fold>
+}
@@ -1,10 +1,19 @@
 package com.mixram.telegram.bot.config.web;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
 import com.mixram.telegram.bot.utils.databinding.support.CustomJsonMapper;
 import com.mixram.telegram.bot.utils.databinding.support.CustomXmlMapper;
+import com.mixram.telegram.bot.utils.rest.RestClientPools;
+import com.mixram.telegram.bot.utils.rest.RestClientProfile;
+import com.mixram.telegram.bot.utils.rest.RestClientProfileSettings;
+import com.mixram.telegram.bot.utils.rest.RestResilience;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
@@ -18,11 +27,17 @@ import org.springframework.web.server.WebFilter;
 
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Web configuration.
+ * <p>
+ * "bot.settings.rest.profiles" - JSON with settings of {@link RestClientPools} by profiles` names, e.g.:
+ * {"cas": {"max-connections": 5, "response-timeout": 2000}, "scraping": {"keep-alive": 10000}}.<br>
+ * Former "bot.settings.http.*" properties (deprecated) are defaults of "telegram" and "scraping" profiles, if they are set.
  *
  * @author mixram on 2018-08-02.
  * @since 0.1.0.0
@@ -33,6 +48,12 @@ public class WebConfig {
 
     // <editor-fold defaultstate="collapsed" desc="***API elements***">
 
+    /**
+     * Profiles, that were served by the former rest client.
+     */
+    private static final List<String> LEGACY_PROFILES = Lists.newArrayList(RestClientProfile.TELEGRAM.getName(),
+                                                                           RestClientProfile.SCRAPING.getName());
+
     private static Set<String> actuatorEndpoints = Sets.newHashSet("/health", "/info");
 
     // </editor-fold>
@@ -100,10 +121,75 @@ public class WebConfig {
         return converters;
     }
 
+    /**
+     * Rest clients with own pools per kind of outer services.
+     *
+     * @since 1.9.0.0
+     */
+    @Bean(name = "restClientPools", destroyMethod = "close")
+    public RestClientPools restClientPools(@Value("${bot.settings.rest.profiles:}") String settings,
+                                           @Value("${bot.settings.http.max.connections:}") String maxConnections,
+                                           @Value("${bot.settings.http.max.connection.per.rout:}") String maxConnectionsPerRoute,
+                                           @Value("${bot.settings.http.connection.timeout:}") String connectTimeout,
+                                           @Value("${bot.settings.http.connection.request.timeout:}") String poolTimeout,
+                                           @Value("${bot.settings.http.connection.response.timeout:}") String responseTimeout,
+                                           RestResilience resilience,
+                                           @Qualifier("createMessageConverters") List<HttpMessageConverter<?>> messageConverters) {
+        Map<String, RestClientProfileSettings> settingsMap =
+                StringUtils.isBlank(settings) ? new HashMap<>() :
+                JsonUtil.fromJson(settings, new TypeReference<Map<String, RestClientProfileSettings>>() {});
+
+        RestClientProfileSettings legacySettings = new RestClientProfileSettings();
+        legacySettings.setMaxConnections(toLegacyValue(maxConnections));
+        legacySettings.setMaxConnectionsPerRoute(toLegacyValue(maxConnectionsPerRoute));
+        legacySettings.setConnectTimeout(toLegacyValue(connectTimeout));
+        legacySettings.setConnectionRequestTimeout(toLegacyValue(poolTimeout));
+        legacySettings.setResponseTimeout(toLegacyValue(responseTimeout));
+        if (!legacySettings.equals(new RestClientProfileSettings())) {
+            log.warn("\"bot.settings.http.*\" properties are deprecated - use \"bot.settings.rest.profiles\" instead! " +
+                     "Now they are defaults of profiles {}: {}.", LEGACY_PROFILES, legacySettings);
+
+            for (String name : LEGACY_PROFILES) {
+                applyDefaults(settingsMap.computeIfAbsent(name, n -> new RestClientProfileSettings()), legacySettings);
+            }
+        }
+
+        return new RestClientPools(settingsMap, resilience, messageConverters);
+    }
+
 
     // <editor-fold defaultstate="collapsed" desc="***Private elements***">
 
-    //
+    /**
+     * Former client treated blank and 0 as "not set".
+     *
+     * @since 1.9.0.0
+     */
+    private static Integer toLegacyValue(String value) {
+        return StringUtils.isBlank(value) || Integer.parseInt(value.trim()) == 0 ? null : Integer.valueOf(value.trim());
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static void applyDefaults(RestClientProfileSettings settings,
+                                      RestClientProfileSettings defaults) {
+        if (settings.getMaxConnections() == null) {
+            settings.setMaxConnections(defaults.getMaxConnections());
+        }
+        if (settings.getMaxConnectionsPerRoute() == null) {
+            settings.setMaxConnectionsPerRoute(defaults.getMaxConnectionsPerRoute());
+        }
+        if (settings.getConnectTimeout() == null) {
+            settings.setConnectTimeout(defaults.getConnectTimeout());
+        }
+        if (settings.getConnectionRequestTimeout() == null) {
+            settings.setConnectionRequestTimeout(defaults.getConnectionRequestTimeout());
+        }
+        if (settings.getResponseTimeout() == null) {
+            settings.setResponseTimeout(defaults.getResponseTimeout());
+        }
+    }
 
     // </editor-fold>
 
@@ -7,4 +7,13 @@ package com.mixram.telegram.bot.services.domain;
 public interface LongPooling {
 
     void check();
+
+    /**
+     * To check if updates for the bot are received by "long pooling" (and not by webhook).
+     *
+     * @return true - if "long pooling" is used, otherwise - false.
+     *
+     * @since 1.9.0.0
+     */
+    boolean isActive();
 }
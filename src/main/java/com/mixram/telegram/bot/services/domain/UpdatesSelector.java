@@ -0,0 +1,21 @@
+package com.mixram.telegram.bot.services.domain;
+
+import com.mixram.telegram.bot.services.domain.entity.UpdateHeader;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public interface UpdatesSelector {
+
+    /**
+     * To check if the update must be deserialized in full to be processed.
+     *
+     * @param header header of the update.
+     *
+     * @return true - if the update is needed, false - if the update can be skipped (its ID is kept only).
+     *
+     * @since 1.9.0.0
+     */
+    boolean isNeeded(UpdateHeader header);
+}
@@ -0,0 +1,41 @@
+package com.mixram.telegram.bot.services.domain;
+
+import com.mixram.telegram.bot.services.domain.entity.Update;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public interface Webhook {
+
+    /**
+     * To check if the webhook is enabled for the bot.
+     *
+     * @return true - if the webhook is enabled, otherwise - false.
+     *
+     * @since 1.9.0.0
+     */
+    boolean isEnabled();
+
+    /**
+     * To check the value of "X-Telegram-Bot-Api-Secret-Token" header.
+     *
+     * @param secretToken header value (may be null).
+     *
+     * @return true - if the token is valid, otherwise - false.
+     *
+     * @since 1.9.0.0
+     */
+    boolean isSecretTokenValid(String secretToken);
+
+    /**
+     * To accept an update for processing.
+     *
+     * @param update update from Telegram API.
+     *
+     * @return true - if the update is queued, false - if the queue is full.
+     *
+     * @since 1.9.0.0
+     */
+    boolean accept(Update update);
+}
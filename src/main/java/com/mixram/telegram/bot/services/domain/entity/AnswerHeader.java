@@ -0,0 +1,45 @@
+package com.mixram.telegram.bot.services.domain.entity;
+
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The least of an answer of Telegram API, that is needed for requests, which results are not used (or are used partly).
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AnswerHeader {
+
+    private boolean ok;
+    /**
+     * @apiNote may be null!
+     */
+    private Integer errorCode;
+    /**
+     * @apiNote may be null!
+     */
+    private String description;
+    /**
+     * Seconds to wait before the request may be repeated ("429" answer).
+     *
+     * @apiNote may be null!
+     */
+    private Long retryAfter;
+    /**
+     * ID of the sent message, if the result is a message.
+     *
+     * @apiNote may be null!
+     */
+    private Long messageId;
+
+    @Override
+    public String toString() {
+        return JsonUtil.toJson(this);
+    }
+}
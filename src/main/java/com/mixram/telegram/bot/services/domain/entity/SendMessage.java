@@ -45,6 +45,13 @@ public class SendMessage implements TelegramApiEntity {
      */
     @JsonProperty("message_id")
     private String messageId;
+    /**
+     * Identifiers of 1-100 messages to delete (in case of messages deleting).
+     *
+     * @since 1.9.0.0
+     */
+    @JsonProperty("message_ids")
+    private List<Long> messageIds;
     /**
      * Date when the user will be unbanned, unix time. If user is banned for more than 366 days or less than 30 seconds from the current
      * time they are considered to be banned forever.
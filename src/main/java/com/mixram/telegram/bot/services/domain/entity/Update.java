@@ -1,5 +1,6 @@
 package com.mixram.telegram.bot.services.domain.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.mixram.telegram.bot.services.domain.TelegramApiEntity;
 import com.mixram.telegram.bot.utils.databinding.JsonUtil;
@@ -74,6 +75,14 @@ public class Update implements TelegramApiEntity {
      */
     @JsonProperty("callback_query")
     private CallbackQuery callbackQuery;
+    /**
+     * Header of the update, if the update was skipped by selective decoding (the rest of it is not deserialized).<br>
+     *
+     * @apiNote may be null!
+     * @since 1.9.0.0
+     */
+    @JsonIgnore
+    private UpdateHeader skippedHeader;
 
     //TODO: to realize other response types
 
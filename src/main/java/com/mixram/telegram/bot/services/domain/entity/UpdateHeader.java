@@ -0,0 +1,43 @@
+package com.mixram.telegram.bot.services.domain.entity;
+
+import com.mixram.telegram.bot.services.domain.enums.UpdateKind;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The least of an update, that is read before deciding whether the update must be deserialized in full.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UpdateHeader {
+
+    private Long updateId;
+    private UpdateKind kind;
+    /**
+     * Chat of the message (or of the message with the inline keyboard).<br>
+     *
+     * @apiNote may be null!
+     */
+    private Long chatId;
+    /**
+     * Author of the message (or user of the callback query).<br>
+     *
+     * @apiNote may be null!
+     */
+    private Long userId;
+    /**
+     * The message is an edited one.
+     */
+    private boolean edited;
+
+    @Override
+    public String toString() {
+        return JsonUtil.toJson(this);
+    }
+}
@@ -0,0 +1,18 @@
+package com.mixram.telegram.bot.services.domain.enums;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum LongPoolingMode {
+
+    /**
+     * "getUpdates" is called by cron.
+     */
+    CRON,
+    /**
+     * "getUpdates" is called in an endless loop in a dedicated thread, Telegram API holds the request open up to "timeout"
+     * seconds.
+     */
+    LOOP
+}
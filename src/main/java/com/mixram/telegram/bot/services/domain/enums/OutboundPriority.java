@@ -0,0 +1,24 @@
+package com.mixram.telegram.bot.services.domain.enums;
+
+/**
+ * Class of a request to Telegram API: requests of a higher class (declared earlier) get their turns before requests of lower
+ * classes.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum OutboundPriority {
+
+    /**
+     * Restrictions, kicks, unbans, deletions of spam.
+     */
+    MODERATION,
+    /**
+     * Answers to users, messages to admins, etc.
+     */
+    REPLY,
+    /**
+     * Broadcasts: reminders, announcements, digests.
+     */
+    BULK
+}
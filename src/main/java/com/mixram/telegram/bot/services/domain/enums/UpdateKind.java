@@ -0,0 +1,31 @@
+package com.mixram.telegram.bot.services.domain.enums;
+
+/**
+ * Kind of an update, defined without full deserialization.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum UpdateKind {
+
+    /**
+     * Message starts with a bot command.
+     */
+    COMMAND,
+    /**
+     * Callback query from an inline keyboard.
+     */
+    CALLBACK,
+    /**
+     * New chat members or a left chat member.
+     */
+    MEMBERS,
+    /**
+     * Message is a part of a media group.
+     */
+    MEDIA_GROUP,
+    /**
+     * Any other update.
+     */
+    OTHER
+}
@@ -0,0 +1,19 @@
+package com.mixram.telegram.bot.services.domain.enums;
+
+/**
+ * How updates come from Telegram API to a bot.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum UpdatesIngestion {
+
+    /**
+     * bot requests updates by "getUpdates".
+     */
+    LONG_POOLING,
+    /**
+     * Telegram API posts updates to the bot`s webhook endpoint.
+     */
+    WEBHOOK
+}
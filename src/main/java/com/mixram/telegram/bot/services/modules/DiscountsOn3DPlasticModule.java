@@ -8,8 +8,10 @@ import com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicatio
 import com.mixram.telegram.bot.utils.AsyncHelper;
 import com.mixram.telegram.bot.utils.ConcurrentUtilites;
 import com.mixram.telegram.bot.utils.CustomMessageSource;
+import com.mixram.telegram.bot.utils.concurrent.Workload;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StopWatch;
 
@@ -18,7 +20,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Supplier;
+import java.util.concurrent.Executor;
 
 /**
  * @author mixram on 2019-03-29.
@@ -39,6 +41,7 @@ public class DiscountsOn3DPlasticModule implements Module {
     private final CustomMessageSource messageSource;
     private final Set<PlasticApplier> appliers;
     private final Set<DiscountsListener> listeners;
+    private final Executor blockingTaskExecutor;
 
     // </editor-fold>
 
@@ -50,13 +53,15 @@ public class DiscountsOn3DPlasticModule implements Module {
                                       TelegramAPICommunicationComponent communicationComponent,
                                       CustomMessageSource messageSource,
                                       Set<PlasticApplier> appliers,
-                                      Set<DiscountsListener> listeners) {
+                                      Set<DiscountsListener> listeners,
+                                      @Qualifier("blockingTaskExecutor") Executor blockingTaskExecutor) {
         this.searcher = searcher;
         this.asyncHelper = asyncHelper;
         this.communicationComponent = communicationComponent;
         this.messageSource = messageSource;
         this.appliers = appliers;
         this.listeners = listeners;
+        this.blockingTaskExecutor = blockingTaskExecutor;
     }
 
     // </editor-fold>
@@ -103,7 +108,8 @@ public class DiscountsOn3DPlasticModule implements Module {
         Map<Shop3D, CompletableFuture<Data3DPlastic>> plasticsFromFuture = new HashMap<>(Shop3D.values().length);
         for (Shop3D shop : Shop3D.values()) {
             plasticsFromFuture.put(shop,
-                                   ConcurrentUtilites.supplyAsyncWithLocalThreadContext(aVoid -> searcher.search(shop)));
+                                   ConcurrentUtilites.supplyAsyncWithLocalThreadContext(aVoid -> searcher.search(shop),
+                                                                                       blockingTaskExecutor));
         }
         for (Map.Entry<Shop3D, CompletableFuture<Data3DPlastic>> futureEntry : plasticsFromFuture.entrySet()) {
             plastics.put(futureEntry.getKey(), futureEntry.getValue().join());
@@ -129,7 +135,7 @@ public class DiscountsOn3DPlasticModule implements Module {
      * @since 1.0.0.0
      */
     private void sendMessageToAdmin(String message) {
-        asyncHelper.doAsync((Supplier<Void>) () -> {
+        asyncHelper.doAsync(Workload.ADMIN_NOTIFY, () -> {
             MessageData messageData = MessageData.builder()
                                                  .toResponse(true)
                                                  .userResponse(true)
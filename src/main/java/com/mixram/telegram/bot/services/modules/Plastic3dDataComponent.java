@@ -8,6 +8,7 @@ import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
 import com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent;
 import com.mixram.telegram.bot.utils.AsyncHelper;
 import com.mixram.telegram.bot.utils.CustomMessageSource;
+import com.mixram.telegram.bot.utils.concurrent.Workload;
 import com.mixram.telegram.bot.utils.databinding.JsonUtil;
 import com.mixram.telegram.bot.utils.htmlparser.entity.ParseData;
 import lombok.extern.log4j.Log4j2;
@@ -17,7 +18,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
 import java.util.*;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -112,7 +112,7 @@ public class Plastic3dDataComponent implements PlasticApplier {
      * @since 1.0.0.0
      */
     private void sendMessageToAdmin(String message) {
-        asyncHelper.doAsync((Supplier<Void>) () -> {
+        asyncHelper.doAsync(Workload.ADMIN_NOTIFY, () -> {
             MessageData messageData = MessageData.builder()
                                                  .toResponse(true)
                                                  .userResponse(true)
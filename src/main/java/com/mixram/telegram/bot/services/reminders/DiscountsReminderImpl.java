@@ -4,11 +4,13 @@ import com.google.common.collect.Lists;
 import com.mixram.telegram.bot.services.domain.DiscountsListener;
 import com.mixram.telegram.bot.services.domain.entity.Data3DPlastic;
 import com.mixram.telegram.bot.services.domain.enums.Command;
+import com.mixram.telegram.bot.services.domain.enums.OutboundPriority;
 import com.mixram.telegram.bot.services.domain.enums.Shop3D;
 import com.mixram.telegram.bot.services.modules.DiscountsOn3DPlasticModule;
 import com.mixram.telegram.bot.services.modules.Module3DPlasticDataSearcher;
 import com.mixram.telegram.bot.services.services.bot.Bot3DComponentImpl;
 import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
+import com.mixram.telegram.bot.services.services.broadcast.BroadcastEngine;
 import com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent;
 import com.mixram.telegram.bot.utils.CustomMessageSource;
 import com.mixram.telegram.bot.utils.META;
@@ -42,9 +44,12 @@ public class DiscountsReminderImpl implements DiscountsReminder, DiscountsListen
     private static final String NEW_DISCOUNTS_AVAILABLE_MESSAGE = "telegram.bot.message.new-discounts-available";
     //    private static final String NEW_DISCOUNTS_AVAILABLE_MESSAGE = "telegram.bot.message.new-discounts-available.v2";
     private static final String NEW_DISCOUNTS_ERROR_MESSAGE = "telegram.bot.message.new-discounts-error";
+    private static final String REMINDER_BROADCAST = "reminder";
+    private static final String NEW_DISCOUNTS_BROADCAST = "new-discounts";
 
     private final Bot3DComponentImpl bot3DComponentImpl;
     private final TelegramAPICommunicationComponent communicationComponent;
+    private final BroadcastEngine broadcastEngine;
     private final CustomMessageSource messageSource;
     private final Module3DPlasticDataSearcher searcher;
     private final META meta;
@@ -62,9 +67,11 @@ public class DiscountsReminderImpl implements DiscountsReminder, DiscountsListen
             META meta,
             Bot3DComponentImpl bot3DComponentImpl,
             TelegramAPICommunicationComponent communicationComponent,
+            BroadcastEngine broadcastEngine,
             CustomMessageSource messageSource) {
         this.bot3DComponentImpl = bot3DComponentImpl;
         this.communicationComponent = communicationComponent;
+        this.broadcastEngine = broadcastEngine;
         this.messageSource = messageSource;
         this.searcher = searcher;
         this.meta = meta;
@@ -202,11 +209,12 @@ public class DiscountsReminderImpl implements DiscountsReminder, DiscountsListen
                                         Locale locale) {
         MessageData data = prepareMessage(mainMessage, additionalMessage, locale);
 
-        meta.settings.forEach((groupId, settings) -> {
-            if (settings.getReminders()) {
-                communicationComponent.sendMessageToChat(groupId, data);
-            }
-        });
+        List<Long> chatIds = meta.settings.entrySet().stream()
+                                          .filter(e -> e.getValue().getReminders())
+                                          .map(Map.Entry :: getKey)
+                                          .collect(Collectors.toList());
+
+        broadcastEngine.broadcast(REMINDER_BROADCAST, data, chatIds);
     }
 
     /**
@@ -217,11 +225,12 @@ public class DiscountsReminderImpl implements DiscountsReminder, DiscountsListen
                                                     Locale locale) {
         MessageData data = prepareMessage(mainMessage, additionalMessage, locale);
 
-        meta.settings.forEach((groupId, settings) -> {
-            if (settings.getNewDiscountReminder()) {
-                communicationComponent.sendMessageToChat(groupId, data);
-            }
-        });
+        List<Long> chatIds = meta.settings.entrySet().stream()
+                                          .filter(e -> e.getValue().getNewDiscountReminder())
+                                          .map(Map.Entry :: getKey)
+                                          .collect(Collectors.toList());
+
+        broadcastEngine.broadcast(NEW_DISCOUNTS_BROADCAST, data, chatIds);
     }
 
     /**
@@ -232,6 +241,7 @@ public class DiscountsReminderImpl implements DiscountsReminder, DiscountsListen
                                        Locale locale) {
         return MessageData.builder()
                           .message(messageSource.getMessage(mainMessage, locale, additionalMessage))
+                          .priority(OutboundPriority.BULK)
                           .build();
     }
 
@@ -2,14 +2,17 @@ package com.mixram.telegram.bot.services.services.antibot;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.mixram.telegram.bot.config.cache.RedisTemplateHelper;
 import com.mixram.telegram.bot.services.domain.entity.CASData;
 import com.mixram.telegram.bot.services.domain.entity.CallbackQuery;
 import com.mixram.telegram.bot.services.domain.entity.InlineKeyboard;
 import com.mixram.telegram.bot.services.domain.entity.User;
+import com.mixram.telegram.bot.services.services.bot.PostSendHookFactory;
 import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
 import com.mixram.telegram.bot.services.services.bot.entity.NewMemberTempData;
+import com.mixram.telegram.bot.services.services.bot.entity.PostSendHook;
+import com.mixram.telegram.bot.services.services.bot.entity.PostSendHookData;
+import com.mixram.telegram.bot.services.services.bot.enums.PostSendHookType;
 import com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent;
 import com.mixram.telegram.bot.utils.META;
 import com.mixram.telegram.bot.utils.databinding.JsonUtil;
@@ -19,13 +22,15 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.util.CollectionUtils;
 
 import javax.annotation.Nonnull;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.function.Consumer;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author mixram on 2020-01-19.
@@ -33,7 +38,7 @@ import java.util.function.Consumer;
  */
 @Log4j2
 @Component
-public class AntiBotImpl implements AntiBot {
+public class AntiBotImpl implements AntiBot, PostSendHookFactory {
 
     // <editor-fold defaultstate="collapsed" desc="***API elements***">
 
@@ -44,6 +49,16 @@ public class AntiBotImpl implements AntiBot {
 
     private static final String NEW_MEMBERS_TEMP_DATA = "new_members_temp_data";
     private static final String ID_SEPARATOR = "_";
+    /**
+     * Max number of members, that are taken from Redis at once.
+     */
+    private static final int CHECK_LIMIT = 100;
+    /**
+     * Time to live of a member`s messages to delete after the member`s deadline, seconds.
+     */
+    private static final long MESSAGES_TTL_RESERVE = TimeUnit.DAYS.toSeconds(1);
+
+    private final long timeout;
 
     private final RedisTemplateHelper redisTemplateHelper;
     private final TelegramAPICommunicationComponent telegramAPICommunicationComponent;
@@ -65,7 +80,7 @@ public class AntiBotImpl implements AntiBot {
 
     @Data
     @AllArgsConstructor
-    private class NewMessageAdder implements Consumer<Long> {
+    private class NewMessageAdder implements PostSendHook {
 
         private Long userId;
         private Long chatId;
@@ -75,6 +90,14 @@ public class AntiBotImpl implements AntiBot {
             addMessageToExistingDeleteList(userId, chatId, aLong);
         }
 
+        @Override
+        public PostSendHookData toData() {
+            return PostSendHookData.builder()
+                                   .type(PostSendHookType.ANTI_BOT)
+                                   .chatId(chatId)
+                                   .userId(userId)
+                                   .build();
+        }
     }
 
     // </editor-fold>
@@ -82,12 +105,37 @@ public class AntiBotImpl implements AntiBot {
     // <editor-fold defaultstate="collapsed" desc="***Util elements***">
 
     @Autowired
-    public AntiBotImpl(RedisTemplateHelper redisTemplateHelper,
+    public AntiBotImpl(@Value("${bot.settings.anti-bot.timeout:60}") long timeout,
+                       RedisTemplateHelper redisTemplateHelper,
                        TelegramAPICommunicationComponent telegramAPICommunicationComponent) {
+        Validate.isTrue(timeout > 0, "Timeout must be positive!");
+
+        this.timeout = timeout;
         this.redisTemplateHelper = redisTemplateHelper;
         this.telegramAPICommunicationComponent = telegramAPICommunicationComponent;
     }
 
+    /**
+     * To move members, that are stored as a map (1.8.x versions), to the hash.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            Map<String, NewMemberTempData> membersData = redisTemplateHelper.getMembersTempDataFromRedis(
+                    NEW_MEMBERS_TEMP_DATA);
+            if (membersData == null) {
+                return;
+            }
+
+            membersData.forEach(this :: storeNewMemberToRedis);
+            redisTemplateHelper.deleteNewMembersTempDataFromRedis(NEW_MEMBERS_TEMP_DATA);
+
+            log.info("{} new members are moved to the hash.", membersData :: size);
+        } catch (Exception e) {
+            log.warn("Can not move new members to the hash!", e);
+        }
+    }
+
     // </editor-fold>
 
 
@@ -102,7 +150,6 @@ public class AntiBotImpl implements AntiBot {
         //TODO: need to rebuild in order to be able to check more then one new user at the same time
         Validate.isTrue(newChatMembers.size() == 1, "Can not check more then one user at the same time!");
 
-        Map<String, NewMemberTempData> membersData = getMembersTempDataFromRedis();
         List<MessageData> messages = Lists.newArrayListWithExpectedSize(newChatMembers.size());
         newChatMembers.forEach(u -> {
             int nextInt = getNextInt();
@@ -114,7 +161,7 @@ public class AntiBotImpl implements AntiBot {
                                      .userIncomeMessageId(userIncomeMessageId)
                                      .rightAnswerNumber(nextInt)
                                      .build();
-            membersData.put(prepareId(chatId, u.getId()), newMember);
+            storeNewMemberToRedis(prepareId(chatId, u.getId()), newMember);
             messages.add(MessageData.builder()
                                     .message(defineRandomMessageV2(u.getId(), u.getFirstName(), nextInt))
                                     .replyMarkup(defineStandardKeyboardV2())
@@ -128,34 +175,36 @@ public class AntiBotImpl implements AntiBot {
             }
         });
 
-        storeNewMembersTempDataToRedis(membersData);
-
         return messages.get(0);
     }
 
+    /**
+     * Members, whose deadlines are passed, are taken by the due index (not by scanning all members).
+     */
     @Override
     public void checkUsers() {
-        LocalDateTime checkTime = LocalDateTime.now().minusMinutes(1);
-        Map<String, NewMemberTempData> membersTempDataFromRedis = getMembersTempDataFromRedis();
-
-        List<String> removeFromTemp = Lists.newArrayList();
-        membersTempDataFromRedis.forEach((key, value) -> {
-            LocalDateTime added = value.getAdded();
-            if (added.isBefore(checkTime)) {
-                String[] dataArray = key.split(ID_SEPARATOR);
-                String chatId = dataArray[0];
-                String userId = dataArray[1];
-
-                doRemoveUserProcedures(chatId, userId, value);
-
-                removeFromTemp.add(key);
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> due;
+        do {
+            due = redisTemplateHelper.getDueNewMembersFromRedis(NEW_MEMBERS_TEMP_DATA, now, CHECK_LIMIT);
+            for (String key : due) {
+                try {
+                    NewMemberTempData value = redisTemplateHelper.takeNewMemberFromRedis(key, NEW_MEMBERS_TEMP_DATA);
+                    if (value == null) {
+                        //taken by the answer
+                        continue;
+                    }
+
+                    String[] dataArray = key.split(ID_SEPARATOR);
+                    String chatId = dataArray[0];
+                    String userId = dataArray[1];
+
+                    doRemoveUserProcedures(chatId, userId, value);
+                } catch (Exception e) {
+                    log.warn(String.format("Can not check new member %s!", key), e);
+                }
             }
-        });
-
-        if (!CollectionUtils.isEmpty(removeFromTemp)) {
-            removeFromTemp.forEach(membersTempDataFromRedis :: remove);
-            storeNewMembersTempDataToRedis(membersTempDataFromRedis);
-        }
+        } while (due.size() == CHECK_LIMIT);
     }
 
     @Override
@@ -170,6 +219,20 @@ public class AntiBotImpl implements AntiBot {
         return telegramAPICommunicationComponent.checkCAS(id);
     }
 
+    @Nonnull
+    @Override
+    public PostSendHookType getHookType() {
+        return PostSendHookType.ANTI_BOT;
+    }
+
+    @Nonnull
+    @Override
+    public PostSendHook restoreHook(@Nonnull PostSendHookData data) {
+        Validate.isTrue(data.getType() == PostSendHookType.ANTI_BOT, "Unexpected hook type: %s!", data.getType());
+
+        return new NewMessageAdder(data.getUserId(), data.getChatId());
+    }
+
     // <editor-fold defaultstate="collapsed" desc="***Private elements***">
 
     /**
@@ -194,10 +257,9 @@ public class AntiBotImpl implements AntiBot {
                  () -> userId,
                  () -> chatId);
 
-        telegramAPICommunicationComponent.removeMessageFromChat(chatId,
-                                                                String.valueOf(data.getUserIncomeMessageId()));
-        data.getMessagesToDelete().forEach(
-                m -> telegramAPICommunicationComponent.removeMessageFromChat(chatId, String.valueOf(m)));
+        List<Long> messagesToDelete = Lists.newArrayList(data.getMessagesToDelete());
+        messagesToDelete.add(0, data.getUserIncomeMessageId());
+        telegramAPICommunicationComponent.removeMessagesFromChat(chatId, messagesToDelete);
 
         MessageData messageData = MessageData.builder()
                                              .toAdmin(true)
@@ -220,8 +282,7 @@ public class AntiBotImpl implements AntiBot {
 
         Long chatId = callbackQuery.getMessage().getChat().getChatId();
         String key = prepareId(chatId, user.getId());
-        Map<String, NewMemberTempData> membersTempDataFromRedis = getMembersTempDataFromRedis();
-        NewMemberTempData newMemberTempData = membersTempDataFromRedis.get(key);
+        NewMemberTempData newMemberTempData = redisTemplateHelper.takeNewMemberFromRedis(key, NEW_MEMBERS_TEMP_DATA);
         if (newMemberTempData == null) {
             throw new UnsupportedOperationException(String.format("User %s not found!", key));
         }
@@ -242,13 +303,8 @@ public class AntiBotImpl implements AntiBot {
             log.warn("", e);
         }
 
-        newMemberTempData.getMessagesToDelete().forEach(
-                message -> telegramAPICommunicationComponent.removeMessageFromChat(String.valueOf(chatId),
-                                                                                   String.valueOf(message)));
-
-        membersTempDataFromRedis.remove(key);
-
-        storeNewMembersTempDataToRedis(membersTempDataFromRedis);
+        telegramAPICommunicationComponent.removeMessagesFromChat(String.valueOf(chatId),
+                                                                 newMemberTempData.getMessagesToDelete());
     }
 
     /**
@@ -266,19 +322,13 @@ public class AntiBotImpl implements AntiBot {
 
         Long chatId = callbackQuery.getMessage().getChat().getChatId();
         String key = prepareId(chatId, user.getId());
-        Map<String, NewMemberTempData> membersTempDataFromRedis = getMembersTempDataFromRedis();
-        NewMemberTempData newMemberTempData = membersTempDataFromRedis.get(key);
+        NewMemberTempData newMemberTempData = redisTemplateHelper.takeNewMemberFromRedis(key, NEW_MEMBERS_TEMP_DATA);
         if (newMemberTempData == null) {
             throw new UnsupportedOperationException(String.format("User %s not found!", key));
         }
 
-        newMemberTempData.getMessagesToDelete().forEach(
-                message -> telegramAPICommunicationComponent.removeMessageFromChat(String.valueOf(chatId),
-                                                                                   String.valueOf(message)));
-
-        membersTempDataFromRedis.remove(key);
-
-        storeNewMembersTempDataToRedis(membersTempDataFromRedis);
+        telegramAPICommunicationComponent.removeMessagesFromChat(String.valueOf(chatId),
+                                                                 newMemberTempData.getMessagesToDelete());
     }
 
     /**
@@ -295,34 +345,21 @@ public class AntiBotImpl implements AntiBot {
                                                 Long chatId,
                                                 Long messageId) {
         String key = prepareId(chatId, userId);
-        Map<String, NewMemberTempData> membersData = getMembersTempDataFromRedis();
-        NewMemberTempData data = membersData.get(key);
-        if (data == null) {
+        boolean added = redisTemplateHelper.addNewMemberMessageToRedis(key, messageId, timeout + MESSAGES_TTL_RESERVE,
+                                                                       NEW_MEMBERS_TEMP_DATA);
+        if (!added) {
             log.warn("No data in 'MembersTempDataFromRedis' by key={}", () -> key);
-
-            return;
         }
-
-        data.getMessagesToDelete().add(messageId);
-
-        storeNewMembersTempDataToRedis(membersData);
-    }
-
-    /**
-     * @since 1.7.0.0
-     */
-    private void storeNewMembersTempDataToRedis(Map<String, NewMemberTempData> data) {
-        redisTemplateHelper.storeNewMembersTempDataToRedis(data, NEW_MEMBERS_TEMP_DATA);
     }
 
     /**
-     * @since 1.7.0.0
+     * The member is checked in "bot.settings.anti-bot.timeout" seconds after it is added.
+     *
+     * @since 1.9.0.0
      */
-    private Map<String, NewMemberTempData> getMembersTempDataFromRedis() {
-        Map<String, NewMemberTempData> membersData = redisTemplateHelper.getMembersTempDataFromRedis(
-                NEW_MEMBERS_TEMP_DATA);
-
-        return membersData == null ? Maps.newHashMap() : membersData;
+    private void storeNewMemberToRedis(String key,
+                                       NewMemberTempData data) {
+        redisTemplateHelper.storeNewMemberToRedis(key, data, data.getAdded().plusSeconds(timeout), NEW_MEMBERS_TEMP_DATA);
     }
 
     /**
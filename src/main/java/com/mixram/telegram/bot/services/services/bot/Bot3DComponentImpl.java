@@ -5,12 +5,14 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.mixram.telegram.bot.services.domain.entity.*;
 import com.mixram.telegram.bot.services.domain.enums.Command;
+import com.mixram.telegram.bot.services.domain.enums.OutboundPriority;
 import com.mixram.telegram.bot.services.domain.enums.PlasticType;
 import com.mixram.telegram.bot.services.domain.enums.Shop3D;
 import com.mixram.telegram.bot.services.domain.enums.WorkType;
 import com.mixram.telegram.bot.services.modules.DiscountsOn3DPlasticModule;
 import com.mixram.telegram.bot.services.modules.Module3DPlasticDataSearcher;
 import com.mixram.telegram.bot.services.services.antibot.AntiBot;
+import com.mixram.telegram.bot.services.services.bot.entity.CommandHolder;
 import com.mixram.telegram.bot.services.services.bot.entity.LazyActionData;
 import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
 import com.mixram.telegram.bot.services.services.bot.enums.LazyAction;
@@ -22,6 +24,7 @@ import com.mixram.telegram.bot.utils.AsyncHelper;
 import com.mixram.telegram.bot.utils.CustomMessageSource;
 import com.mixram.telegram.bot.utils.DateTimeUtils;
 import com.mixram.telegram.bot.utils.META;
+import com.mixram.telegram.bot.utils.concurrent.Workload;
 import com.mixram.telegram.bot.utils.databinding.JsonUtil;
 import com.mixram.telegram.bot.utils.htmlparser.entity.ParseData;
 import lombok.AllArgsConstructor;
@@ -42,8 +45,6 @@ import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Consumer;
-import java.util.function.Supplier;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent.SOMETHING_WRONG_MESSAGE;
@@ -63,14 +64,7 @@ public class Bot3DComponentImpl implements Bot3DComponent {
     private static final String GROUP_CHAT_NAME = "group";
     private static final String SUPER_GROUP_CHAT_NAME = "supergroup";
 
-    private static final String SALES_PATTERN_STRING = "^/SALES_.*";
-    private static final String OTHER_COMMANDS_PATTERN_STRING = "^/START.*|^/INFO.*";
-    private static final String TEST_COMMANDS_PATTERN_STRING = "^/TEST.*";
-    private static final String CAS_PATTERN_STRING = "^/CAS_MSG_.*";
-    private static final Pattern SALES_PATTERN = Pattern.compile(SALES_PATTERN_STRING);
-    private static final Pattern OTHER_PATTERN = Pattern.compile(OTHER_COMMANDS_PATTERN_STRING);
-    private static final Pattern TEST_PATTERN = Pattern.compile(TEST_COMMANDS_PATTERN_STRING);
-    private static final Pattern CAS_PATTERN = Pattern.compile(CAS_PATTERN_STRING);
+    private static final CommandRouter COMMAND_ROUTER = new CommandRouter();
 
     private static final String NO_WORK_WITH_SHOP = "telegram.bot.message.no-work-with-shop";
     private static final String NO_DATA_FOR_SHOP = "telegram.bot.message.no-data-for-shop";
@@ -121,33 +115,9 @@ public class Bot3DComponentImpl implements Bot3DComponent {
     private final CustomMessageSource messageSource;
     private final AntiBot antiBot;
     private final META meta;
+    private final ProcessedUpdatesRegistry processedUpdatesRegistry;
 
 
-    @Data
-    @Builder
-    @AllArgsConstructor
-    @NoArgsConstructor
-    private static class CommandHolder {
-
-        /**
-         * Command to execute.
-         */
-        private Command command;
-        /**
-         * true - need full message content, false - need short message content.
-         */
-        private boolean full;
-        /**
-         * Some needed data for the command.
-         */
-        private Object data;
-
-        @Override
-        public String toString() {
-            return JsonUtil.toJson(this);
-        }
-    }
-
     @Data
     @Builder
     @AllArgsConstructor
@@ -187,7 +157,8 @@ public class Bot3DComponentImpl implements Bot3DComponent {
                               CustomMessageSource messageSource,
                               AntiBot antiBot,
                               LazyActionLogic lazyActionLogic,
-                              MarketLogic marketLogic) {
+                              MarketLogic marketLogic,
+                              ProcessedUpdatesRegistry processedUpdatesRegistry) {
         this.maxQuantity = maxQuantity;
         this.workType = workType;
         this.adminEmail = adminEmail;
@@ -208,6 +179,7 @@ public class Bot3DComponentImpl implements Bot3DComponent {
         this.antiBot = antiBot;
         this.lazyActionLogic = lazyActionLogic;
         this.marketLogic = marketLogic;
+        this.processedUpdatesRegistry = processedUpdatesRegistry;
         this.meta = meta;
 
         this.random = new Random();
@@ -226,6 +198,7 @@ public class Bot3DComponentImpl implements Bot3DComponent {
             String message = messageSource.getMessage(VERSION_UPDATE_MESSAGE, META.DEFAULT_LOCALE);
             MessageData data = MessageData.builder()
                                           .message(message)
+                                          .priority(OutboundPriority.BULK)
                                           .build();
 
             meta.settings.forEach((groupId, settings) -> {
@@ -246,6 +219,12 @@ public class Bot3DComponentImpl implements Bot3DComponent {
 
 //        log.debug("UPDATE: {}", () -> update);
 
+        if (processedUpdatesRegistry.isProcessed(update.getUpdateId())) {
+            log.info("Update {} is processed already - skipped.", update :: getUpdateId);
+
+            return null;
+        }
+
         Locale locale = META.DEFAULT_LOCALE;
 
         CallbackQuery callbackQuery = update.getCallbackQuery();
@@ -302,11 +281,9 @@ public class Bot3DComponentImpl implements Bot3DComponent {
             return null;
         }
 
-        final CommandHolder command;
-        try {
-            command = defineCommand(message.getText());
-        } catch (Exception e) {
-            log.warn(String.format("Error in command defining: %s!", message.getText()), e);
+        final CommandHolder command = COMMAND_ROUTER.route(message);
+        if (command == null) {
+            log.warn("Unexpected command: {}!", message :: getText);
 
             return prepareMisunderstandingMessage(locale);
         }
@@ -410,7 +387,7 @@ public class Bot3DComponentImpl implements Bot3DComponent {
     private void checkCAS(CallbackQuery query) {
         if (!casIsOn) return;
 
-        asyncHelper.doAsync((Supplier<Void>) () -> {
+        asyncHelper.doAsync(Workload.MODERATION, () -> {
             try {
                 final Long chatId = query.getMessage().getChat().getChatId();
                 final BotSettings botSettings = meta.settings.get(chatId);
@@ -743,7 +720,7 @@ public class Bot3DComponentImpl implements Bot3DComponent {
      * @since 1.3.0.0
      */
     private void infoAdmin(Update update) {
-        asyncHelper.doAsync((Supplier<Void>) () -> {
+        asyncHelper.doAsync(Workload.ADMIN_NOTIFY, () -> {
             doInfoAdmin(update);
 
             return null;
@@ -1266,77 +1243,6 @@ public class Bot3DComponentImpl implements Bot3DComponent {
                 0).getOffset() != 0;
     }
 
-    /**
-     * @since 0.1.3.0
-     */
-    private CommandHolder defineCommand(String text) {
-        text = text.toUpperCase();
-        if (OTHER_PATTERN.matcher(text).matches()) {
-            String commandDataString = parseCommandDataString(text);
-            commandDataString = commandDataString.replaceAll("/", "");
-            Command command = Command.getByName(commandDataString);
-            if (command == null) {
-                throw new UnsupportedOperationException(String.format("Unexpected command! '%s'", text));
-            }
-
-            return CommandHolder.builder()
-                                .command(command)
-                                .full(false)
-                                .build();
-        }
-        if (SALES_PATTERN.matcher(text).matches()) {
-            String commandDataString = parseCommandDataString(text);
-            String[] commandElements = commandDataString.split("_");
-            Command command = Command.getByName(commandElements[1].toUpperCase());
-            boolean full = commandElements.length == 3 && "f".equalsIgnoreCase(commandElements[2]);
-
-            if (command == null) {
-                throw new UnsupportedOperationException(String.format("Unexpected command! '%s'", text));
-            }
-
-            return CommandHolder.builder()
-                                .command(command)
-                                .full(full)
-                                .build();
-        }
-        if (TEST_PATTERN.matcher(text).matches()) {
-            String commandDataString = parseCommandDataString(text);
-            commandDataString = commandDataString.replaceAll("/", "");
-            Command command = Command.getByName(commandDataString);
-            if (command == null) {
-                throw new UnsupportedOperationException(String.format("Unexpected command! '%s'", text));
-            }
-
-            return CommandHolder.builder()
-                                .command(command)
-                                .full(false)
-                                .build();
-        }
-        if (CAS_PATTERN.matcher(text).matches()) {
-            String commandDataString = parseCommandDataString(text);
-
-            return CommandHolder.builder()
-                                .command(Command.CAS)
-                                .data(commandDataString.substring(commandDataString.lastIndexOf("_") + 1))
-                                .full(false)
-                                .build();
-        }
-
-        throw new UnsupportedOperationException(String.format("Unexpected pattern! '%s'", text));
-    }
-
-    /**
-     * 1.4.0.0
-     */
-    private String parseCommandDataString(String text) {
-        String commandDataString = text.split(" ")[0];
-        if (commandDataString.contains("@")) {
-            commandDataString = commandDataString.substring(0, commandDataString.indexOf("@"));
-        }
-
-        return commandDataString;
-    }
-
     // </editor-fold>
 }
 
@@ -1,21 +1,22 @@
 package com.mixram.telegram.bot.services.services.bot;
 
+import com.mixram.telegram.bot.config.cache.RedisTemplateHelper;
 import com.mixram.telegram.bot.services.domain.LongPooling;
 import com.mixram.telegram.bot.services.domain.entity.Update;
-import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
+import com.mixram.telegram.bot.services.domain.enums.UpdatesIngestion;
 import com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent;
-import com.mixram.telegram.bot.utils.ConcurrentUtilites;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 /**
+ * Received updates are processed asynchronously: the next batch is requested while the previous one is still in processing. The
+ * offset is committed only for processed updates (see {@link UpdatesOffsetTracker}).
+ *
  * @author mixram on 2019-03-29.
  * @since 0.1.1.0
  */
@@ -25,23 +26,38 @@ public class Bot3DLongPooling implements LongPooling {
 
     // <editor-fold defaultstate="collapsed" desc="***API elements***">
 
-    private final Bot3DComponent bot3DComponent;
+    private final UpdatesIngestion ingestion;
+    private final long awaitProcessingTimeout;
+
+    private final Bot3DUpdatesHandler updatesHandler;
     private final TelegramAPICommunicationComponent communicationComponent;
+    private final UpdatesOffsetTracker offsetTracker;
 
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="***Util elements***">
 
     @Autowired
-    public Bot3DLongPooling(Bot3DComponent bot3DComponent,
-                            TelegramAPICommunicationComponent communicationComponent) {
-        this.bot3DComponent = bot3DComponent;
+    public Bot3DLongPooling(@Value("${bot.settings.ingestion:LONG_POOLING}") UpdatesIngestion ingestion,
+                            @Value("${bot.settings.long-pooling.await-processing-timeout:1000}") long awaitProcessingTimeout,
+                            @Value("${bot.settings.bot-name}") String botName,
+                            Bot3DUpdatesHandler updatesHandler,
+                            TelegramAPICommunicationComponent communicationComponent,
+                            RedisTemplateHelper redisTemplateHelper) {
+        this.ingestion = ingestion;
+        this.awaitProcessingTimeout = awaitProcessingTimeout;
+        this.updatesHandler = updatesHandler;
         this.communicationComponent = communicationComponent;
+        this.offsetTracker = new UpdatesOffsetTracker(botName, redisTemplateHelper);
     }
 
     @PostConstruct
     public void init() {
         communicationComponent.assertBot();
+
+        if (isActive()) {
+            offsetTracker.restore();
+        }
     }
 
     // </editor-fold>
@@ -49,27 +65,27 @@ public class Bot3DLongPooling implements LongPooling {
 
     @Override
     public void check() {
+        if (!isActive()) {
+            return;
+        }
+
         log.trace("{} is started!", Bot3DLongPooling.class :: getSimpleName);
 
-        List<Update> updates = communicationComponent.getUpdates();
-
-        Map<Update, CompletableFuture<MessageData>> answers = new HashMap<>(updates.size());
-        updates.forEach(u -> answers.put(u, ConcurrentUtilites.supplyAsyncWithLocalThreadContext(
-                aVoid -> bot3DComponent.proceedUpdate(u))));
-        answers.forEach((k, v) -> {
-            MessageData join = v.join();
-            if (join == null) {
-                log.debug("No need to answer on the question! See logs or underlying code for details.");
-
-                return;
-            }
-            if (join.isToAdmin()) {
-                communicationComponent.sendMessageToAdmin(join);
-            } else {
-                communicationComponent.sendMessage(k, join);
-            }
-        });
+        List<Update> updates = communicationComponent.getUpdates(offsetTracker.getOffset());
+        List<Update> fresh = offsetTracker.register(updates);
+        if (fresh.isEmpty() && !updates.isEmpty()) {
+            //only updates in processing are received - there is no sense to ask again before any of them is processed
+            offsetTracker.awaitAcknowledgement(awaitProcessingTimeout);
+
+            return;
+        }
 
+        updatesHandler.dispatch(fresh, offsetTracker :: acknowledge);
+    }
+
+    @Override
+    public boolean isActive() {
+        return ingestion == UpdatesIngestion.LONG_POOLING;
     }
 
 
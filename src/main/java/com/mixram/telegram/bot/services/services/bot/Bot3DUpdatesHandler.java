@@ -0,0 +1,161 @@
+package com.mixram.telegram.bot.services.services.bot;
+
+import com.mixram.telegram.bot.services.domain.entity.Message;
+import com.mixram.telegram.bot.services.domain.entity.Update;
+import com.mixram.telegram.bot.services.domain.entity.UpdateHeader;
+import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
+import com.mixram.telegram.bot.services.services.stat.StatisticsComponent;
+import com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent;
+import com.mixram.telegram.bot.utils.concurrent.KeyedOrderedExecutor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Processes updates from Telegram API (independently of the way they were received) and sends answers.<br>
+ * Updates of one chat are processed (and answered) in the order of receiving, updates of different chats - in parallel.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+@Component
+public class Bot3DUpdatesHandler {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    /**
+     * Key for updates without a chat.
+     */
+    private static final Long NO_CHAT_KEY = 0L;
+
+    private final Bot3DComponent bot3DComponent;
+    private final TelegramAPICommunicationComponent communicationComponent;
+    private final KeyedOrderedExecutor<Long> dispatcher;
+    private final ProcessedUpdatesRegistry processedUpdatesRegistry;
+    private final StatisticsComponent statisticsComponent;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    @Autowired
+    public Bot3DUpdatesHandler(Bot3DComponent bot3DComponent,
+                               TelegramAPICommunicationComponent communicationComponent,
+                               @Qualifier("updatesDispatcher") KeyedOrderedExecutor<Long> dispatcher,
+                               ProcessedUpdatesRegistry processedUpdatesRegistry,
+                               StatisticsComponent statisticsComponent) {
+        this.bot3DComponent = bot3DComponent;
+        this.communicationComponent = communicationComponent;
+        this.dispatcher = dispatcher;
+        this.processedUpdatesRegistry = processedUpdatesRegistry;
+        this.statisticsComponent = statisticsComponent;
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To submit updates for processing. Returns as soon as the updates are queued.
+     *
+     * @param updates     updates to process.
+     * @param onProcessed consumer of update ID, is called when the update is processed (successfully or not).
+     *
+     * @since 1.9.0.0
+     */
+    public void dispatch(List<Update> updates,
+                         Consumer<Long> onProcessed) {
+        for (Update update : updates) {
+            dispatcher.submit(defineChatKey(update), () -> {
+                if (hasNoPayload(update)) {
+                    //skipped by selective decoding - nothing to process, but it counts in statistics
+                    doRecordSkipped(update);
+                } else {
+                    doHandle(update);
+                }
+
+                return null;
+            }).whenComplete((r, e) -> {
+                if (e != null) {
+                    log.warn("Update processing error!", e);
+                }
+
+                onProcessed.accept(update.getUpdateId());
+            });
+        }
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void doHandle(Update update) {
+        try {
+            if (!processedUpdatesRegistry.isProcessed(update.getUpdateId())) {
+                statisticsComponent.recordUpdate(update);
+            }
+
+            MessageData answer = bot3DComponent.proceedUpdate(update);
+            if (answer == null) {
+                log.debug("No need to answer on the question! See logs or underlying code for details.");
+
+                return;
+            }
+            if (answer.isToAdmin()) {
+                communicationComponent.sendMessageToAdmin(answer);
+            } else {
+                communicationComponent.sendMessage(update, answer);
+            }
+        } finally {
+            processedUpdatesRegistry.markProcessed(update.getUpdateId());
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void doRecordSkipped(Update update) {
+        if (processedUpdatesRegistry.isProcessed(update.getUpdateId())) {
+            return;
+        }
+
+        statisticsComponent.recordSkippedUpdate(update.getSkippedHeader());
+        processedUpdatesRegistry.markProcessed(update.getUpdateId());
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static boolean hasNoPayload(Update update) {
+        return update.getMessage() == null && update.getEditedMessage() == null && update.getCallbackQuery() == null;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static Long defineChatKey(Update update) {
+        UpdateHeader header = update.getSkippedHeader();
+        if (header != null) {
+            return header.getChatId() == null ? NO_CHAT_KEY : header.getChatId();
+        }
+
+        Message message = update.getMessage();
+        if (message == null) {
+            message = update.getEditedMessage();
+        }
+        if (message == null && update.getCallbackQuery() != null) {
+            message = update.getCallbackQuery().getMessage();
+        }
+
+        return message == null || message.getChat() == null ? NO_CHAT_KEY : message.getChat().getChatId();
+    }
+
+    // </editor-fold>
+
+}
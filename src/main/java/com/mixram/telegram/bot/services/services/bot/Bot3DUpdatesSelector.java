@@ -0,0 +1,87 @@
+package com.mixram.telegram.bot.services.services.bot;
+
+import com.mixram.telegram.bot.services.domain.UpdatesSelector;
+import com.mixram.telegram.bot.services.domain.entity.BotSettings;
+import com.mixram.telegram.bot.services.domain.entity.UpdateHeader;
+import com.mixram.telegram.bot.services.domain.enums.WorkType;
+import com.mixram.telegram.bot.utils.META;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Selects updates, that {@link Bot3DComponentImpl#proceedUpdate(com.mixram.telegram.bot.services.domain.entity.Update)} may
+ * react on. Plain messages in known groups without market logic are ignored by the bot, so there is no need to deserialize them.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+@Component
+public class Bot3DUpdatesSelector implements UpdatesSelector {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final WorkType workType;
+    private final boolean marketIsOn;
+
+    private final META meta;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    @Autowired
+    public Bot3DUpdatesSelector(@Value("${bot.settings.work-with}") WorkType workType,
+                                @Value("${bot.settings.other.market-logic-is-on}") boolean marketIsOn,
+                                META meta) {
+        this.workType = workType;
+        this.marketIsOn = marketIsOn;
+        this.meta = meta;
+    }
+
+    // </editor-fold>
+
+
+    @Override
+    public boolean isNeeded(UpdateHeader header) {
+        switch (header.getKind()) {
+            case COMMAND:
+            case CALLBACK:
+            case MEMBERS:
+                return true;
+            case MEDIA_GROUP:
+            case OTHER:
+                return isNeededByChat(header);
+            default:
+                throw new UnsupportedOperationException(String.format("Unexpected update kind: '%s'!", header.getKind()));
+        }
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private boolean isNeededByChat(UpdateHeader header) {
+        Long chatId = header.getChatId();
+        if (chatId == null) {
+            log.debug("Update {} has no message - skipped.", header :: getUpdateId);
+
+            return false;
+        }
+
+        //private chats and unknown groups are answered by the bot, known groups - in "private only" mode
+        BotSettings settings = meta.settings.get(chatId);
+        if (settings == null || workType == WorkType.P) {
+            return true;
+        }
+
+        return marketIsOn && settings.getEnableMarketLogic() != null && settings.getEnableMarketLogic();
+    }
+
+    // </editor-fold>
+
+}
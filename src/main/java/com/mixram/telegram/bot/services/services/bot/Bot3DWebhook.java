@@ -0,0 +1,164 @@
+package com.mixram.telegram.bot.services.services.bot;
+
+import com.google.common.collect.Lists;
+import com.mixram.telegram.bot.services.domain.Webhook;
+import com.mixram.telegram.bot.services.domain.entity.Update;
+import com.mixram.telegram.bot.services.domain.enums.UpdatesIngestion;
+import com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receives updates from the webhook endpoint, puts them into the internal queue and dispatches them from a dedicated thread.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+@Component
+public class Bot3DWebhook implements Webhook {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private static final String CONSUMER_THREAD_NAME = "webhook_consumer";
+    private static final int BATCH_SIZE = 100;
+
+    private final boolean enabled;
+    private final String url;
+    private final byte[] secretToken;
+    private final int maxConnections;
+
+    private final BlockingQueue<Update> queue;
+
+    private final Bot3DUpdatesHandler updatesHandler;
+    private final TelegramAPICommunicationComponent communicationComponent;
+
+    private volatile boolean consumerRunning;
+    private Thread consumerThread;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    @Autowired
+    public Bot3DWebhook(@Value("${bot.settings.ingestion:LONG_POOLING}") UpdatesIngestion ingestion,
+                        @Value("${bot.settings.webhook.url:}") String url,
+                        @Value("${bot.settings.webhook.secret-token:}") String secretToken,
+                        @Value("${bot.settings.webhook.max-connections:40}") int maxConnections,
+                        @Value("${bot.settings.webhook.queue-size:1000}") int queueSize,
+                        Bot3DUpdatesHandler updatesHandler,
+                        TelegramAPICommunicationComponent communicationComponent) {
+        this.enabled = ingestion == UpdatesIngestion.WEBHOOK;
+        if (enabled) {
+            Validate.notBlank(secretToken, "Webhook secret token is not specified!");
+            Validate.isTrue(queueSize > 0, "Webhook queue size must be positive!");
+        }
+
+        this.url = url;
+        this.secretToken = secretToken.getBytes(StandardCharsets.UTF_8);
+        this.maxConnections = maxConnections;
+        this.queue = new LinkedBlockingQueue<>(Math.max(queueSize, 1));
+        this.updatesHandler = updatesHandler;
+        this.communicationComponent = communicationComponent;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        //webhook may be set manually (e.g., if there are several instances behind a load balancer)
+        if (!url.isEmpty()) {
+            communicationComponent.setWebhook(url, new String(secretToken, StandardCharsets.UTF_8), maxConnections);
+        }
+
+        consumerRunning = true;
+        consumerThread = new Thread(this :: doConsume, CONSUMER_THREAD_NAME);
+        consumerThread.setDaemon(true);
+        consumerThread.start();
+
+        log.info("Webhook consumer is started!");
+    }
+
+    @PreDestroy
+    public void stop() {
+        consumerRunning = false;
+        if (consumerThread != null) {
+            consumerThread.interrupt();
+        }
+    }
+
+    // </editor-fold>
+
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean isSecretTokenValid(String secretToken) {
+        return secretToken != null && MessageDigest.isEqual(this.secretToken, secretToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean accept(Update update) {
+        Validate.notNull(update, "Update is not specified!");
+
+        boolean offered = queue.offer(update);
+        if (!offered) {
+            log.warn("Webhook queue is full! Update {} is rejected.", update :: getUpdateId);
+        }
+
+        return offered;
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void doConsume() {
+        List<Update> batch = Lists.newArrayListWithExpectedSize(BATCH_SIZE);
+        while (consumerRunning && !Thread.currentThread().isInterrupted()) {
+            try {
+                Update first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+
+                //updates are not awaited - a slow chat must not stall ingestion of the others
+                updatesHandler.dispatch(batch, id -> {});
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Webhook consumer error!", e);
+            } finally {
+                batch.clear();
+            }
+        }
+
+        log.info("Webhook consumer is stopped!");
+    }
+
+    // </editor-fold>
+
+}
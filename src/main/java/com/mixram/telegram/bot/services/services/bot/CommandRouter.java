@@ -0,0 +1,251 @@
+package com.mixram.telegram.bot.services.services.bot;
+
+import com.google.common.collect.ImmutableSet;
+import com.mixram.telegram.bot.services.domain.entity.Message;
+import com.mixram.telegram.bot.services.domain.entity.MessageEntity;
+import com.mixram.telegram.bot.services.domain.enums.Command;
+import com.mixram.telegram.bot.services.services.bot.entity.CommandHolder;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Defines a command by "bot_command" entity of a message.<br>
+ * Commands are resolved with tries, that are built once from {@link Command}. The text is not copied or upper-cased - it is read
+ * char by char in the bounds of the entity, so nothing is allocated until the command is found.
+ * <p>
+ * Supported commands (case-insensitive, "@bot_name" suffix is ignored):
+ * <ul>
+ * <li>/START, /INFO, /INFO-ADMIN, /TEST;</li>
+ * <li>/SALES_&lt;command name&gt;[_F] ("_F" - full message content);</li>
+ * <li>/CAS_MSG_&lt;user ID&gt;.</li>
+ * </ul>
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public final class CommandRouter {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private static final String BOT_COMMAND_TYPE = "bot_command";
+    private static final String SALES_PREFIX = "SALES_";
+    private static final String CAS_PREFIX = "CAS_MSG_";
+    private static final Set<Command> DIRECT_COMMANDS = ImmutableSet.of(Command.START, Command.INFO, Command.INFO_ADMIN,
+                                                                        Command.TEST);
+    private static final int ALPHABET_SIZE = 128;
+
+    /**
+     * Trie of commands, that follow "/".
+     */
+    private final Node commands = new Node();
+    /**
+     * Trie of all commands` names (for "/SALES_...").
+     */
+    private final Node names = new Node();
+
+    private enum Prefix {
+        SALES,
+        CAS
+    }
+
+    private static final class Node {
+
+        private final Node[] next = new Node[ALPHABET_SIZE];
+        private Command command;
+        private Prefix prefix;
+    }
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    public CommandRouter() {
+        for (Command command : Command.values()) {
+            put(names, command.getName()).command = command;
+        }
+        for (Command command : DIRECT_COMMANDS) {
+            put(commands, command.getName()).command = command;
+        }
+        put(commands, SALES_PREFIX).prefix = Prefix.SALES;
+        put(commands, CAS_PREFIX).prefix = Prefix.CAS;
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To define a command of the message.
+     *
+     * @param message message.
+     *
+     * @return command or null - if the message does not start with a known command.
+     *
+     * @since 1.9.0.0
+     */
+    public CommandHolder route(Message message) {
+        List<MessageEntity> entities = message.getEntities();
+        if (entities == null || entities.isEmpty()) {
+            return null;
+        }
+
+        MessageEntity entity = entities.get(0);
+        if (!BOT_COMMAND_TYPE.equalsIgnoreCase(entity.getType()) || entity.getOffset() == null || entity.getLength() == null) {
+            return null;
+        }
+
+        return route(message.getText(), entity.getOffset(), entity.getLength());
+    }
+
+    /**
+     * To define a command.
+     *
+     * @param text   text of a message.
+     * @param offset offset of "bot_command" entity (in UTF-16 code units).
+     * @param length length of "bot_command" entity (in UTF-16 code units).
+     *
+     * @return command or null - if there is no known command in the bounds.
+     *
+     * @since 1.9.0.0
+     */
+    public CommandHolder route(String text,
+                               int offset,
+                               int length) {
+        if (text == null || offset < 0 || length < 2 || offset + length > text.length() || text.charAt(offset) != '/') {
+            return null;
+        }
+
+        int end = defineCommandEnd(text, offset, length);
+        Node node = commands;
+        for (int i = offset + 1; i < end; i++) {
+            node = step(node, text.charAt(i));
+            if (node == null) {
+                return null;
+            }
+            if (node.prefix == Prefix.SALES) {
+                return routeSales(text, i + 1, end);
+            }
+            if (node.prefix == Prefix.CAS) {
+                return routeCas(text, i + 1, end);
+            }
+        }
+
+        return node.command == null ? null : CommandHolder.builder()
+                                                          .command(node.command)
+                                                          .full(false)
+                                                          .build();
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * Telegram API does not include "-" into the entity ("/info-admin" is "/info" for it), so the command lasts till a whitespace;
+     * "@bot_name" is cut off.
+     *
+     * @since 1.9.0.0
+     */
+    private static int defineCommandEnd(String text,
+                                        int offset,
+                                        int length) {
+        int end = offset + length;
+        while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        for (int i = offset + 1; i < end; i++) {
+            if (text.charAt(i) == '@') {
+                return i;
+            }
+        }
+
+        return end;
+    }
+
+    /**
+     * "/SALES_&lt;name&gt;[_F]": "_F" means full content only if it is the last part.
+     *
+     * @since 1.9.0.0
+     */
+    private CommandHolder routeSales(String text,
+                                     int from,
+                                     int end) {
+        Node node = names;
+        int i = from;
+        for (; i < end && text.charAt(i) != '_'; i++) {
+            node = step(node, text.charAt(i));
+            if (node == null) {
+                return null;
+            }
+        }
+        if (i == from || node.command == null) {
+            return null;
+        }
+
+        //trailing "_" are ignored
+        int tail = end;
+        while (tail > i && text.charAt(tail - 1) == '_') {
+            tail--;
+        }
+        boolean full = tail == i + 2 && Character.toUpperCase(text.charAt(i + 1)) == 'F';
+
+        return CommandHolder.builder()
+                            .command(node.command)
+                            .full(full)
+                            .build();
+    }
+
+    /**
+     * "/CAS_MSG_&lt;user ID&gt;": the data is the part after the last "_".
+     *
+     * @since 1.9.0.0
+     */
+    private static CommandHolder routeCas(String text,
+                                          int from,
+                                          int end) {
+        int start = end;
+        while (start > from && text.charAt(start - 1) != '_') {
+            start--;
+        }
+
+        return CommandHolder.builder()
+                            .command(Command.CAS)
+                            .data(text.substring(start, end))
+                            .full(false)
+                            .build();
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static Node step(Node node,
+                             char c) {
+        if (c >= ALPHABET_SIZE) {
+            return null;
+        }
+        if (c >= 'a' && c <= 'z') {
+            c -= 'a' - 'A';
+        }
+
+        return node.next[c];
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static Node put(Node root,
+                            String word) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (node.next[c] == null) {
+                node.next[c] = new Node();
+            }
+            node = node.next[c];
+        }
+
+        return node;
+    }
+
+    // </editor-fold>
+
+}
@@ -0,0 +1,36 @@
+package com.mixram.telegram.bot.services.services.bot;
+
+import com.mixram.telegram.bot.services.services.bot.entity.PostSendHook;
+import com.mixram.telegram.bot.services.services.bot.entity.PostSendHookData;
+import com.mixram.telegram.bot.services.services.bot.enums.PostSendHookType;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Restores {@link PostSendHook}s of its type.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public interface PostSendHookFactory {
+
+    /**
+     * @return type of hooks, that are restored by the factory.
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    PostSendHookType getHookType();
+
+    /**
+     * To restore a hook.
+     *
+     * @param data data of the hook.
+     *
+     * @return hook.
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    PostSendHook restoreHook(@Nonnull PostSendHookData data);
+}
@@ -0,0 +1,121 @@
+package com.mixram.telegram.bot.services.services.bot;
+
+import com.mixram.telegram.bot.config.cache.RedisTemplateHelper;
+import com.mixram.telegram.bot.utils.RecentIdsFilter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * Keeps IDs of recently processed updates to drop repeated ones (after a restart or repeated webhook calls).<br>
+ * The check is done in memory only; IDs are saved to Redis by {@link #flush()} and on shutdown and are restored on start.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+@Component
+public class ProcessedUpdatesRegistry {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final String key;
+
+    private final RecentIdsFilter filter;
+    private final RedisTemplateHelper redisTemplateHelper;
+
+    private volatile boolean dirty;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    @Autowired
+    public ProcessedUpdatesRegistry(@Value("${bot.settings.bot-name}") String botName,
+                                    @Value("${bot.settings.processed-updates.capacity:4096}") int capacity,
+                                    RedisTemplateHelper redisTemplateHelper) {
+        this.key = botName;
+        this.filter = new RecentIdsFilter(capacity);
+        this.redisTemplateHelper = redisTemplateHelper;
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            long[] ids = redisTemplateHelper.getProcessedUpdatesFromRedis(key);
+            for (long id : ids) {
+                filter.add(id);
+            }
+
+            log.info("Processed updates are restored: {}", () -> ids.length);
+        } catch (Exception e) {
+            log.warn("Can not restore processed updates!", e);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To check if the update was processed.
+     *
+     * @param updateId update ID.
+     *
+     * @return true - if the update was processed recently, otherwise - false.
+     *
+     * @since 1.9.0.0
+     */
+    public boolean isProcessed(Long updateId) {
+        return updateId != null && filter.contains(updateId);
+    }
+
+    /**
+     * To mark the update as processed.
+     *
+     * @param updateId update ID.
+     *
+     * @since 1.9.0.0
+     */
+    public void markProcessed(Long updateId) {
+        if (updateId != null && filter.add(updateId)) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * To save IDs of processed updates to Redis (if there are changes).
+     *
+     * @since 1.9.0.0
+     */
+    public void flush() {
+        if (!dirty) {
+            return;
+        }
+
+        dirty = false;
+        try {
+            redisTemplateHelper.storeProcessedUpdatesToRedis(filter.toArray(), key);
+        } catch (Exception e) {
+            dirty = true;
+
+            log.warn("Can not save processed updates!", e);
+        }
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    //
+
+    // </editor-fold>
+
+}
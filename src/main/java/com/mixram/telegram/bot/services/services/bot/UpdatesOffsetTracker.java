@@ -0,0 +1,209 @@
+package com.mixram.telegram.bot.services.services.bot;
+
+import com.google.common.collect.Lists;
+import com.mixram.telegram.bot.config.cache.RedisTemplateHelper;
+import com.mixram.telegram.bot.services.domain.entity.Update;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps track of updates in processing and of the offset, that may be committed to Telegram API.<br>
+ * The committed offset is the identifier of the first not yet acknowledged update: Telegram API confirms updates below the offset
+ * only, so updates, that were received but not processed (e.g., because of a crash), are received once again (at-least-once
+ * delivery). The offset is persisted to Redis every time it moves forward.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+class UpdatesOffsetTracker {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final String key;
+    private final RedisTemplateHelper redisTemplateHelper;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition acknowledged = lock.newCondition();
+    private final TreeSet<Long> inProcessing = new TreeSet<>();
+
+    /**
+     * The highest identifier among received updates.
+     */
+    private Long highest;
+    private Long committed;
+    private long persisted;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    UpdatesOffsetTracker(String key,
+                         RedisTemplateHelper redisTemplateHelper) {
+        Validate.notBlank(key, "Key is not specified!");
+        Validate.notNull(redisTemplateHelper, "Redis template helper is not specified!");
+
+        this.key = key;
+        this.redisTemplateHelper = redisTemplateHelper;
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To load the committed offset from Redis.
+     *
+     * @since 1.9.0.0
+     */
+    void restore() {
+        Long offset = null;
+        try {
+            offset = redisTemplateHelper.getUpdatesOffsetFromRedis(key);
+        } catch (Exception e) {
+            log.warn("Can not restore updates offset!", e);
+        }
+
+        lock.lock();
+        try {
+            committed = offset;
+        } finally {
+            lock.unlock();
+        }
+
+        log.info("Updates offset for {}: {}", key, offset);
+    }
+
+    /**
+     * To get offset for the next "getUpdates" request.
+     *
+     * @return offset or null (if unknown).
+     *
+     * @since 1.9.0.0
+     */
+    Long getOffset() {
+        lock.lock();
+        try {
+            return committed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * To register received updates as "in processing".
+     *
+     * @param updates received updates.
+     *
+     * @return updates, that are not in processing and were not processed yet.
+     *
+     * @since 1.9.0.0
+     */
+    List<Update> register(List<Update> updates) {
+        List<Update> fresh = Lists.newArrayListWithExpectedSize(updates.size());
+
+        lock.lock();
+        try {
+            for (Update update : updates) {
+                Long id = update.getUpdateId();
+                if (committed != null && id < committed) {
+                    continue;
+                }
+                if (highest != null && id <= highest && !inProcessing.contains(id)) {
+                    //was processed already, but the offset is not committed yet
+                    continue;
+                }
+                if (inProcessing.add(id)) {
+                    fresh.add(update);
+                }
+                if (highest == null || id > highest) {
+                    highest = id;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return fresh;
+    }
+
+    /**
+     * To acknowledge processing of the update.
+     *
+     * @param updateId update ID.
+     *
+     * @since 1.9.0.0
+     */
+    void acknowledge(Long updateId) {
+        Long toPersist = null;
+
+        lock.lock();
+        try {
+            if (!inProcessing.remove(updateId)) {
+                return;
+            }
+
+            Long offset = inProcessing.isEmpty() ? highest + 1 : inProcessing.first();
+            if (committed == null || offset > committed) {
+                committed = offset;
+                toPersist = offset;
+            }
+
+            acknowledged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (toPersist != null) {
+            persist(toPersist);
+        }
+    }
+
+    /**
+     * To wait until any update is acknowledged.
+     *
+     * @param timeout max time to wait, ms.
+     *
+     * @since 1.9.0.0
+     */
+    void awaitAcknowledgement(long timeout) {
+        lock.lock();
+        try {
+            if (!inProcessing.isEmpty()) {
+                acknowledged.await(timeout, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private synchronized void persist(long offset) {
+        if (offset <= persisted) {
+            //a newer offset is persisted already
+            return;
+        }
+
+        try {
+            redisTemplateHelper.storeUpdatesOffsetToRedis(offset, key);
+            persisted = offset;
+        } catch (Exception e) {
+            log.warn("Can not persist updates offset!", e);
+        }
+    }
+
+    // </editor-fold>
+
+}
@@ -0,0 +1,37 @@
+package com.mixram.telegram.bot.services.services.bot.entity;
+
+import com.mixram.telegram.bot.services.domain.enums.Command;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @author mixram on 2019-03-29.
+ * @since 0.1.3.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommandHolder {
+
+    /**
+     * Command to execute.
+     */
+    private Command command;
+    /**
+     * true - need full message content, false - need short message content.
+     */
+    private boolean full;
+    /**
+     * Some needed data for the command.
+     */
+    private Object data;
+
+    @Override
+    public String toString() {
+        return JsonUtil.toJson(this);
+    }
+}
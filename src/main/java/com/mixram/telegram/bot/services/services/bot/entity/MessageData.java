@@ -1,6 +1,7 @@
 package com.mixram.telegram.bot.services.services.bot.entity;
 
 import com.google.common.collect.Lists;
+import com.mixram.telegram.bot.services.domain.enums.OutboundPriority;
 import com.mixram.telegram.bot.utils.databinding.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -56,6 +57,10 @@ public class MessageData {
      * Logic to run if the message has "lazy action" logic.
      */
     private List<Consumer<Long>> doIfLazyAction;
+    /**
+     * Class of the message in the outbound queue (null - {@link OutboundPriority#REPLY}).
+     */
+    private OutboundPriority priority;
 
     public void setDoIfLazyAction(List<Consumer<Long>> lazyActionList) {
         prepareLazyActionList();
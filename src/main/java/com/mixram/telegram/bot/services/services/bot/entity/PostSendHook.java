@@ -0,0 +1,22 @@
+package com.mixram.telegram.bot.services.services.bot.entity;
+
+import com.mixram.telegram.bot.services.services.bot.PostSendHookFactory;
+
+import java.util.function.Consumer;
+
+/**
+ * Logic to run after a message is sent (accepts ID of the sent message), that may be saved with the message and restored by
+ * {@link PostSendHookFactory} after a restart.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public interface PostSendHook extends Consumer<Long> {
+
+    /**
+     * @return data to restore the hook.
+     *
+     * @since 1.9.0.0
+     */
+    PostSendHookData toData();
+}
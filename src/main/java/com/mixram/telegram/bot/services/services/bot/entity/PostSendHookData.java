@@ -0,0 +1,37 @@
+package com.mixram.telegram.bot.services.services.bot.entity;
+
+import com.mixram.telegram.bot.services.services.bot.enums.PostSendHookType;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data of a {@link PostSendHook}, that is enough to restore it after a restart.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostSendHookData {
+
+    private PostSendHookType type;
+    private Long chatId;
+    /**
+     * For {@link PostSendHookType#ANTI_BOT}.
+     */
+    private Long userId;
+    /**
+     * For {@link PostSendHookType#LAZY_ACTION}.
+     */
+    private LazyActionData lazyAction;
+
+    @Override
+    public String toString() {
+        return JsonUtil.toJson(this);
+    }
+}
@@ -0,0 +1,19 @@
+package com.mixram.telegram.bot.services.services.bot.enums;
+
+/**
+ * Kind of logic, that is run after a message is sent.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum PostSendHookType {
+
+    /**
+     * To add the message to messages of the anti-bot check, that are deleted with the check.
+     */
+    ANTI_BOT,
+    /**
+     * To save a lazy action for the message.
+     */
+    LAZY_ACTION
+}
@@ -0,0 +1,355 @@
+package com.mixram.telegram.bot.services.services.broadcast;
+
+import com.google.common.hash.Hashing;
+import com.mixram.telegram.bot.config.cache.RedisTemplateHelper;
+import com.mixram.telegram.bot.services.domain.enums.OutboundPriority;
+import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
+import com.mixram.telegram.bot.services.services.broadcast.entity.BroadcastData;
+import com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent;
+import com.mixram.telegram.bot.utils.AsyncHelper;
+import com.mixram.telegram.bot.utils.concurrent.Workload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Sends a message to a number of chats concurrently ("bot.settings.broadcast.concurrency" messages in flight); pacing per chat and
+ * globally is done by the outbound scheduler.
+ * <p>
+ * A broadcast and chats, that have got it, are kept in Redis ("bot.settings.broadcast.ttl" seconds), so after a restart unfinished
+ * broadcasts are resumed, and an unfinished broadcast of the same message, that is started once again, is not re-sent to chats,
+ * that have got it already. Chats, that failed, are not retried.<br>
+ * A broadcast, that is stopped by a shutdown (sending is rejected or interrupted), is kept and is resumed after a restart.
+ * <p>
+ * Metrics (tag "name" - kind of the broadcast):
+ * <ul>
+ * <li>"bot.broadcast.duration" - time of a broadcast (from its start or resumption to the last chat);</li>
+ * <li>"bot.broadcast.messages" - number of messages (tag "result" - "sent" or "failed").</li>
+ * </ul>
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+@Component
+public class BroadcastEngine implements MeterBinder {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final String key;
+    private final int concurrency;
+    private final long ttl;
+
+    private final TelegramAPICommunicationComponent communicationComponent;
+    private final RedisTemplateHelper redisTemplateHelper;
+    private final AsyncHelper asyncHelper;
+
+    /**
+     * IDs of broadcasts, that are in process in this instance.
+     */
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    private volatile MeterRegistry registry;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    @Autowired
+    public BroadcastEngine(@Value("${bot.settings.bot-name}") String botName,
+                           @Value("${bot.settings.broadcast.concurrency:8}") int concurrency,
+                           @Value("${bot.settings.broadcast.ttl:86400}") long ttl,
+                           TelegramAPICommunicationComponent communicationComponent,
+                           RedisTemplateHelper redisTemplateHelper,
+                           AsyncHelper asyncHelper) {
+        Validate.isTrue(concurrency > 0, "Concurrency must be positive!");
+        Validate.isTrue(ttl > 0, "TTL must be positive!");
+
+        this.key = botName;
+        this.concurrency = concurrency;
+        this.ttl = ttl;
+        this.communicationComponent = communicationComponent;
+        this.redisTemplateHelper = redisTemplateHelper;
+        this.asyncHelper = asyncHelper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        Set<String> ids;
+        try {
+            ids = redisTemplateHelper.getActiveBroadcastsFromRedis(key);
+        } catch (Exception e) {
+            log.warn("Can not get unfinished broadcasts!", e);
+
+            return;
+        }
+
+        for (String id : ids) {
+            try {
+                BroadcastData data = redisTemplateHelper.getBroadcastFromRedis(id);
+                if (data == null) {
+                    //expired
+                    redisTemplateHelper.deleteBroadcastFromRedis(id, key);
+
+                    continue;
+                }
+
+                log.info("Broadcast {} (started {}) is resumed.",
+                         () -> id,
+                         data :: getStarted);
+
+                asyncHelper.doAsync(Workload.TELEGRAM_SEND, () -> {
+                    run(data);
+
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn(String.format("Can not resume broadcast %s!", id), e);
+            }
+        }
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To send a message to chats. The caller is blocked until all chats are processed.
+     *
+     * @param name        kind of the broadcast (e.g., "reminder").
+     * @param messageData message (post routines are not supported).
+     * @param chatIds     chats.
+     *
+     * @since 1.9.0.0
+     */
+    public void broadcast(@Nonnull String name,
+                          @Nonnull MessageData messageData,
+                          @Nonnull Collection<Long> chatIds) {
+        Validate.notBlank(name, "Name is not specified!");
+        Validate.notNull(messageData, "Message data is not specified!");
+        Validate.notBlank(messageData.getMessage(), "Message is not specified!");
+        Validate.isTrue(messageData.getDoIfAntiBot() == null && messageData.getDoIfLazyAction() == null &&
+                                !messageData.isLeaveChat(), "Post routines are not supported by broadcasts!");
+        Validate.notNull(chatIds, "Chats are not specified!");
+
+        if (chatIds.isEmpty()) {
+            return;
+        }
+
+        BroadcastData data = BroadcastData.builder()
+                                          .id(name + "_" + Hashing.murmur3_128()
+                                                                  .hashString(messageData.getMessage(), StandardCharsets.UTF_8))
+                                          .name(name)
+                                          .message(messageData.getMessage())
+                                          .showUrlPreview(messageData.isShowUrlPreview())
+                                          .chatIds(new ArrayList<>(new LinkedHashSet<>(chatIds)))
+                                          .started(LocalDateTime.now())
+                                          .build();
+        try {
+            redisTemplateHelper.storeBroadcastToRedis(data, key, ttl);
+        } catch (Exception e) {
+            log.warn(String.format("Can not save broadcast %s - it will not be resumed after a restart!", data.getId()), e);
+        }
+
+        run(data);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void run(BroadcastData data) {
+        String id = data.getId();
+        if (!running.add(id)) {
+            log.info("Broadcast {} is in process already.", () -> id);
+
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicBoolean stopped = new AtomicBoolean();
+        try {
+            Set<Long> delivered = getDelivered(id);
+            List<Long> pending = data.getChatIds().stream()
+                                     .filter(c -> !delivered.contains(c))
+                                     .collect(Collectors.toList());
+            MessageData messageData = MessageData.builder()
+                                                 .message(data.getMessage())
+                                                 .showUrlPreview(data.isShowUrlPreview())
+                                                 .priority(OutboundPriority.BULK)
+                                                 .build();
+
+            try {
+                Flux.fromIterable(pending)
+                    .takeWhile(chatId -> !stopped.get())
+                    .flatMap(chatId -> send(id, chatId, messageData, failed, stopped), concurrency)
+                    .publishOn(Schedulers.elastic())
+                    .doOnNext(chatId -> {
+                        sent.incrementAndGet();
+                        markDelivered(id, chatId);
+                    })
+                    .then()
+                    .block();
+            } catch (RuntimeException e) {
+                if (!isStop(e)) {
+                    throw e;
+                }
+
+                stopped.set(true);
+            }
+
+            if (stopped.get()) {
+                log.info("Broadcast {} is stopped in {} ms (sent - {}, failed - {}) - it will be resumed after a restart.",
+                         () -> id,
+                         () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+                         sent :: get,
+                         failed :: get);
+            } else {
+                log.info("Broadcast {} is completed in {} ms: sent - {}, failed - {}, delivered before - {}.",
+                         () -> id,
+                         () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+                         sent :: get,
+                         failed :: get,
+                         () -> data.getChatIds().size() - pending.size());
+            }
+        } finally {
+            running.remove(id);
+            record(data.getName(), System.nanoTime() - startedAt, sent.get(), failed.get());
+
+            if (!stopped.get()) {
+                try {
+                    redisTemplateHelper.deleteBroadcastFromRedis(id, key);
+                } catch (Exception e) {
+                    log.warn(String.format("Can not delete broadcast %s!", id), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * If sending is rejected (the outbound scheduler is stopped) or interrupted, the broadcast is stopped: the chat is neither
+     * failed nor delivered and gets the message after a restart.
+     *
+     * @return chat ID, if the message is sent, or nothing.
+     *
+     * @since 1.9.0.0
+     */
+    private Mono<Long> send(String id,
+                            Long chatId,
+                            MessageData messageData,
+                            AtomicInteger failed,
+                            AtomicBoolean stopped) {
+        return Mono.defer(() -> communicationComponent.sendMessageToChatAsync(chatId, messageData))
+                   .map(m -> chatId)
+                   .onErrorResume(e -> {
+                       if (isStop(e)) {
+                           stopped.set(true);
+
+                           return Mono.empty();
+                       }
+
+                       failed.incrementAndGet();
+                       log.warn(String.format("Broadcast %s: can not send the message to chat %s!", id, chatId), e);
+
+                       return Mono.empty();
+                   });
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static boolean isStop(Throwable e) {
+        return ExceptionUtils.indexOfType(e, RejectedExecutionException.class) >= 0 ||
+                ExceptionUtils.indexOfType(e, InterruptedException.class) >= 0;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private Set<Long> getDelivered(String id) {
+        try {
+            return redisTemplateHelper.getBroadcastDeliveredFromRedis(id);
+        } catch (Exception e) {
+            log.warn(String.format("Can not get delivery state of broadcast %s!", id), e);
+
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * If the state is not saved, the chat may get the message once again after a restart.
+     *
+     * @since 1.9.0.0
+     */
+    private void markDelivered(String id,
+                               Long chatId) {
+        try {
+            redisTemplateHelper.storeBroadcastDeliveredToRedis(chatId, id, ttl);
+        } catch (Exception e) {
+            log.warn(String.format("Can not save delivery state of broadcast %s for chat %s!", id, chatId), e);
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void record(String name,
+                        long nanos,
+                        int sent,
+                        int failed) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+
+        Timer.builder("bot.broadcast.duration")
+             .tag("name", name)
+             .description("Time of a broadcast")
+             .register(meterRegistry)
+             .record(nanos, TimeUnit.NANOSECONDS);
+        Counter.builder("bot.broadcast.messages")
+               .tags("name", name, "result", "sent")
+               .description("Number of broadcast messages")
+               .register(meterRegistry)
+               .increment(sent);
+        Counter.builder("bot.broadcast.messages")
+               .tags("name", name, "result", "failed")
+               .description("Number of broadcast messages")
+               .register(meterRegistry)
+               .increment(failed);
+    }
+
+    // </editor-fold>
+
+}
@@ -0,0 +1,38 @@
+package com.mixram.telegram.bot.services.services.broadcast.entity;
+
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Broadcast, that is kept in Redis until all its chats are processed.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BroadcastData {
+
+    private String id;
+    /**
+     * Kind of the broadcast (e.g., "reminder").
+     */
+    private String name;
+    private String message;
+    private boolean showUrlPreview;
+    private List<Long> chatIds;
+    private LocalDateTime started;
+
+    @Override
+    public String toString() {
+        return JsonUtil.toJson(this);
+    }
+}
@@ -2,19 +2,27 @@ package com.mixram.telegram.bot.services.services.lazyaction;
 
 import com.google.common.collect.Lists;
 import com.mixram.telegram.bot.config.cache.RedisTemplateHelper;
+import com.mixram.telegram.bot.services.services.bot.PostSendHookFactory;
 import com.mixram.telegram.bot.services.services.bot.entity.LazyActionData;
+import com.mixram.telegram.bot.services.services.bot.entity.PostSendHook;
+import com.mixram.telegram.bot.services.services.bot.entity.PostSendHookData;
+import com.mixram.telegram.bot.services.services.bot.enums.LazyAction;
+import com.mixram.telegram.bot.services.services.bot.enums.PostSendHookType;
 import com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.Nonnull;
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.List;
+import java.util.*;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * @author mixram on 2020-07-20.
@@ -22,15 +30,15 @@ import java.util.function.Consumer;
  */
 @Log4j2
 @Component
-public class LazyActionLogicImpl implements LazyActionLogic {
+public class LazyActionLogicImpl implements LazyActionLogic, PostSendHookFactory {
 
     // <editor-fold defaultstate="collapsed" desc="***API elements***">
 
-    private static final Object LOCK = new Object();
-
     private static final String LAZY_ACTION_DATA = "lazy_action_data";
-    public static final Comparator<LazyActionData> LAZY_ACTION_COMPARATOR =
-            Comparator.comparing(LazyActionData :: getActionDateTime);
+    /**
+     * Max number of actions, that are taken from Redis at once.
+     */
+    private static final int CLAIM_LIMIT = 500;
 
     private final RedisTemplateHelper redisTemplateHelper;
     private final TelegramAPICommunicationComponent communicationComponent;
@@ -38,7 +46,7 @@ public class LazyActionLogicImpl implements LazyActionLogic {
 
     @Data
     @AllArgsConstructor
-    private class LazyActionSaver implements Consumer<Long> {
+    private class LazyActionSaver implements PostSendHook {
 
         private LazyActionData lazyActionData;
 
@@ -50,6 +58,15 @@ public class LazyActionLogicImpl implements LazyActionLogic {
 
             saveLazyActionToRedis(lazyActionData);
         }
+
+        @Override
+        public PostSendHookData toData() {
+            return PostSendHookData.builder()
+                                   .type(PostSendHookType.LAZY_ACTION)
+                                   .chatId(lazyActionData.getChatId())
+                                   .lazyAction(lazyActionData)
+                                   .build();
+        }
     }
 
     // </editor-fold>
@@ -63,38 +80,46 @@ public class LazyActionLogicImpl implements LazyActionLogic {
         this.communicationComponent = communicationComponent;
     }
 
+    /**
+     * To move actions, that are stored as a list (1.8.x versions), to the sorted set.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            List<LazyActionData> lazyActionDataList = redisTemplateHelper.getLazyActionDataFromRedis(LAZY_ACTION_DATA);
+            if (lazyActionDataList == null) {
+                return;
+            }
+
+            List<LazyActionData> valid = lazyActionDataList.stream()
+                                                           .filter(LazyActionData :: isValid)
+                                                           .collect(Collectors.toList());
+            redisTemplateHelper.addLazyActionsToRedis(valid, LAZY_ACTION_DATA);
+            redisTemplateHelper.deleteLazyActionDataFromRedis(LAZY_ACTION_DATA);
+
+            log.info("{} lazy actions are moved to the sorted set.", valid :: size);
+        } catch (Exception e) {
+            log.warn("Can not move lazy actions to the sorted set!", e);
+        }
+    }
+
     // </editor-fold>
 
 
     /**
-     * To do stored lazy action.
+     * To do stored lazy actions, that are due (up to {@link #CLAIM_LIMIT} actions per call of Redis).
      *
      * @since 1.8.8.0
      */
     @Override
     public void doLazyAction() {
-        synchronized (LOCK) {
-            List<LazyActionData> lazyActionDataList = getLazyActionListFromRedis();
-            if (lazyActionDataList.isEmpty()) {
-                return;
-            }
-
-            LocalDateTime now = LocalDateTime.now();
-            List<LazyActionData> forActionProceed = Lists.newArrayList();
-            List<LazyActionData> forActionSaveToRedis = Lists.newArrayList();
-            for (LazyActionData lazyActionData : lazyActionDataList) {
-                if (now.isBefore(lazyActionData.getActionDateTime())) forActionSaveToRedis.add(lazyActionData);
-                else forActionProceed.add(lazyActionData);
-            }
-
-            if (forActionProceed.isEmpty()) {
-                return;
-            }
-
-            doSaveLazyActionsToRedis(forActionSaveToRedis);
+        LocalDateTime now = LocalDateTime.now();
+        List<LazyActionData> forActionProceed;
+        do {
+            forActionProceed = redisTemplateHelper.claimDueLazyActionsFromRedis(LAZY_ACTION_DATA, now, CLAIM_LIMIT);
 
-            forActionProceed.forEach(this :: doLazyAction);
-        }
+            doLazyActions(forActionProceed);
+        } while (forActionProceed.size() == CLAIM_LIMIT);
     }
 
     /**
@@ -121,16 +146,9 @@ public class LazyActionLogicImpl implements LazyActionLogic {
      */
     @Override
     public void saveLazyActionToRedis(@Nonnull LazyActionData lazyActionData) {
-        synchronized (LOCK) {
-            lazyActionData.checkValid();
-
-            List<LazyActionData> lazyActionDataList = getLazyActionListFromRedis();
+        lazyActionData.checkValid();
 
-            lazyActionDataList.add(lazyActionData);
-            lazyActionDataList.sort(LAZY_ACTION_COMPARATOR);
-
-            doSaveLazyActionsToRedis(lazyActionDataList);
-        }
+        redisTemplateHelper.addLazyActionsToRedis(Collections.singletonList(lazyActionData), LAZY_ACTION_DATA);
     }
 
     /**
@@ -142,16 +160,9 @@ public class LazyActionLogicImpl implements LazyActionLogic {
      */
     @Override
     public void saveLazyActionsToRedis(@Nonnull List<LazyActionData> lazyActionData) {
-        synchronized (LOCK) {
-            lazyActionData.forEach(LazyActionData :: isValid);
+        lazyActionData.forEach(LazyActionData :: checkValid);
 
-            List<LazyActionData> lazyActionDataList = getLazyActionListFromRedis();
-
-            lazyActionDataList.addAll(lazyActionData);
-            lazyActionDataList.sort(LAZY_ACTION_COMPARATOR);
-
-            doSaveLazyActionsToRedis(lazyActionDataList);
-        }
+        redisTemplateHelper.addLazyActionsToRedis(lazyActionData, LAZY_ACTION_DATA);
     }
 
     /**
@@ -162,14 +173,8 @@ public class LazyActionLogicImpl implements LazyActionLogic {
      * @since 1.8.8.0
      */
     @Override
-    public synchronized void removeLazyActionFromRedis(@Nonnull LazyActionData lazyActionData) {
-        synchronized (LOCK) {
-            List<LazyActionData> lazyActionDataList = getLazyActionListFromRedis();
-
-            lazyActionDataList.removeIf(la -> la.equals(lazyActionData));
-
-            doSaveLazyActionsToRedis(lazyActionDataList);
-        }
+    public void removeLazyActionFromRedis(@Nonnull LazyActionData lazyActionData) {
+        redisTemplateHelper.removeLazyActionsFromRedis(Collections.singletonList(lazyActionData), LAZY_ACTION_DATA);
     }
 
     /**
@@ -180,19 +185,57 @@ public class LazyActionLogicImpl implements LazyActionLogic {
      * @since 1.8.8.0
      */
     @Override
-    public synchronized void removeLazyActionsFromRedis(@Nonnull List<LazyActionData> lazyActionData) {
-        synchronized (LOCK) {
-            List<LazyActionData> lazyActionDataList = getLazyActionListFromRedis();
+    public void removeLazyActionsFromRedis(@Nonnull List<LazyActionData> lazyActionData) {
+        redisTemplateHelper.removeLazyActionsFromRedis(lazyActionData, LAZY_ACTION_DATA);
+    }
 
-            lazyActionDataList.removeAll(lazyActionData);
+    @Nonnull
+    @Override
+    public PostSendHookType getHookType() {
+        return PostSendHookType.LAZY_ACTION;
+    }
 
-            doSaveLazyActionsToRedis(lazyActionDataList);
-        }
+    @Nonnull
+    @Override
+    public PostSendHook restoreHook(@Nonnull PostSendHookData data) {
+        Validate.isTrue(data.getType() == PostSendHookType.LAZY_ACTION, "Unexpected hook type: %s!", data.getType());
+        Validate.notNull(data.getLazyAction(), "Lazy action is not specified!");
+
+        return new LazyActionSaver(data.getLazyAction());
     }
 
 
     // <editor-fold defaultstate="collapsed" desc="***Private elements***">
 
+    /**
+     * Messages to delete are deleted by batches per chat.
+     *
+     * @since 1.9.0.0
+     */
+    private void doLazyActions(@Nonnull List<LazyActionData> lazyActionDataList) {
+        if (lazyActionDataList.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> toDeleteByChats = new LinkedHashMap<>();
+        for (LazyActionData lazyActionData : lazyActionDataList) {
+            if (lazyActionData.getAction() == LazyAction.DELETE) {
+                toDeleteByChats.computeIfAbsent(lazyActionData.getChatId(), id -> Lists.newArrayList())
+                               .add(lazyActionData.getMessageId());
+            } else {
+                doLazyAction(lazyActionData);
+            }
+        }
+
+        toDeleteByChats.forEach((chatId, messageIds) -> {
+            try {
+                communicationComponent.removeMessagesFromChat(chatId.toString(), messageIds);
+            } catch (Exception e) {
+                log.warn("Unexpected error lazy-action doing!", e);
+            }
+        });
+    }
+
     /**
      * @since 1.8.2.0
      */
@@ -212,22 +255,5 @@ public class LazyActionLogicImpl implements LazyActionLogic {
         }
     }
 
-    /**
-     * @since 1.8.2.0
-     */
-    private void doSaveLazyActionsToRedis(@Nonnull List<LazyActionData> lazyActionDataList) {
-        redisTemplateHelper.storeLazyActionDataToRedis(lazyActionDataList, LAZY_ACTION_DATA);
-    }
-
-    /**
-     * @since 1.8.2.0
-     */
-    @Nonnull
-    private List<LazyActionData> getLazyActionListFromRedis() {
-        List<LazyActionData> lazyActionDataList = redisTemplateHelper.getLazyActionDataFromRedis(LAZY_ACTION_DATA);
-
-        return lazyActionDataList == null ? Lists.newArrayList() : lazyActionDataList;
-    }
-
     // </editor-fold>
 }
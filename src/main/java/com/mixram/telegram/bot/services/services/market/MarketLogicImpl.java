@@ -1,7 +1,6 @@
 package com.mixram.telegram.bot.services.services.market;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.mixram.telegram.bot.config.cache.RedisTemplateHelper;
 import com.mixram.telegram.bot.services.domain.InputMedia;
 import com.mixram.telegram.bot.services.domain.entity.BotSettings;
@@ -11,21 +10,26 @@ import com.mixram.telegram.bot.services.domain.entity.User;
 import com.mixram.telegram.bot.services.services.bot.entity.LazyActionData;
 import com.mixram.telegram.bot.services.services.bot.enums.LazyAction;
 import com.mixram.telegram.bot.services.services.lazyaction.LazyActionLogic;
+import com.mixram.telegram.bot.services.services.market.entity.MediaGroupPart;
 import com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent;
 import com.mixram.telegram.bot.utils.META;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -39,9 +43,15 @@ public class MarketLogicImpl implements MarketLogic {
 
     // <editor-fold defaultstate="collapsed" desc="***API elements***">
 
-    private static final Object LOCK = new Object();
-
     private static final String POSTPONED_MESSAGES_DATA = "postponed_messages_data";
+    /**
+     * Max number of media groups, that are taken from Redis at once.
+     */
+    private static final int PROCESS_LIMIT = 100;
+    /**
+     * Time to live of parts of a media group, that is not processed, seconds.
+     */
+    private static final long MEDIA_GROUP_TTL = TimeUnit.DAYS.toSeconds(1);
     //    private static final String MARKET_PATTERN_STRING = ".*#(продам|куплю|бронь).*";
     private static final String MARKET_PATTERN_STRING =
             ".*#([пП][рР][оО][дД][аА][мМ]|[кК][уУ][пП][лЛ][юЮ]|[бБ][рР][оО][нН][ьЬ]|[вВ][iI][дД][дД]?[аА][мМ]).*";
@@ -53,6 +63,7 @@ public class MarketLogicImpl implements MarketLogic {
     private final META meta;
 
     private final String archiveChatId;
+    private final long mediaGroupDebounce;
 
 
     private static final Comparator<InputMedia> COMPARATOR = (o1, o2) -> {
@@ -69,6 +80,7 @@ public class MarketLogicImpl implements MarketLogic {
 
     @Autowired
     public MarketLogicImpl(@Value("${bot.settings.other.market-archive-chat-id}") String archiveChatId,
+                           @Value("${bot.settings.other.market-media-group-debounce:2000}") long mediaGroupDebounce,
                            TelegramAPICommunicationComponent communicationComponent,
                            LazyActionLogic lazyActionLogic,
                            RedisTemplateHelper redisTemplateHelper,
@@ -79,47 +91,72 @@ public class MarketLogicImpl implements MarketLogic {
         this.meta = meta;
 
         this.archiveChatId = archiveChatId;
+        this.mediaGroupDebounce = mediaGroupDebounce;
+    }
+
+    /**
+     * To move media groups, that are stored as a map (1.8.x versions), to their own lists (they are processed at once).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            Map<String, List<Message>> messages = redisTemplateHelper.getPostponedMessagesDataFromRedis(POSTPONED_MESSAGES_DATA);
+            if (messages == null) {
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            messages.forEach((mediaGroupId, messagesList) -> messagesList.forEach(
+                    m -> redisTemplateHelper.addMediaGroupPartToRedis(mediaGroupId, MediaGroupPart.of(m), now, MEDIA_GROUP_TTL,
+                                                                      POSTPONED_MESSAGES_DATA)));
+            redisTemplateHelper.deletePostponedMessagesDataFromRedis(POSTPONED_MESSAGES_DATA);
+
+            log.info("{} media groups are moved to their own lists.", messages :: size);
+        } catch (Exception e) {
+            log.warn("Can not move media groups to their own lists!", e);
+        }
     }
 
     // </editor-fold>
 
 
+    /**
+     * Media groups are processed in "bot.settings.other.market-media-group-debounce" ms after their last parts.
+     */
     @Override
     public void doPostponedAction() {
-        synchronized (LOCK) {
-            final Map<String, List<Message>> messages = getPostponedMessagesListFromRedis();
-            if (messages.isEmpty()) return;
-
-            messages.forEach((mediaGroupId, messagesList) -> {
-                final boolean isAdv = messagesList.stream()
-                                                  .anyMatch(this :: isAdvertisement);
-                if (isAdv) {
-//                    messagesList.forEach(m -> doIfAdvertisement(m.getChat().getChatId(), m.getMessageId()));
-                    doIfAdvertisement(messagesList);
-                } else {
-//                    messagesList.forEach(m -> doIfNotAdvertisement(m.getChat().getChatId(), m.getMessageId()));
-                    doIfNotAdvertisement(messagesList);
+        final LocalDateTime now = LocalDateTime.now();
+        Set<String> due;
+        do {
+            due = redisTemplateHelper.getDueMediaGroupsFromRedis(POSTPONED_MESSAGES_DATA, now, PROCESS_LIMIT);
+            for (String mediaGroupId : due) {
+                try {
+                    final List<MediaGroupPart> parts = redisTemplateHelper.takeMediaGroupFromRedis(mediaGroupId,
+                                                                                                   POSTPONED_MESSAGES_DATA);
+                    if (parts.isEmpty()) {
+                        continue;
+                    }
+
+                    final boolean isAdv = parts.stream()
+                                               .anyMatch(p -> isAdvertisement(p.getText()));
+                    if (isAdv) {
+                        doIfAdvertisementParts(parts);
+                    } else {
+                        doIfNotAdvertisementParts(parts);
+                    }
+                } catch (Exception e) {
+                    log.warn(String.format("Can not process media group %s!", mediaGroupId), e);
                 }
-            });
-
-            savePostponedMessagesDataToRedis(Maps.newHashMap());
-        }
+            }
+        } while (due.size() == PROCESS_LIMIT);
     }
 
 
     @Override
     public void saveMessageToRedisForPostponedLazyAction(@Nonnull Message message) {
-        synchronized (LOCK) {
-            final Map<String, List<Message>> messages = getPostponedMessagesListFromRedis();
-
-            if (messages.containsKey(message.getMediaGroupId())) {
-                messages.get(message.getMediaGroupId()).add(message);
-            } else {
-                messages.put(message.getMediaGroupId(), Lists.newArrayList(message));
-            }
-
-            savePostponedMessagesDataToRedis(messages);
-        }
+        redisTemplateHelper.addMediaGroupPartToRedis(message.getMediaGroupId(), MediaGroupPart.of(message),
+                                                     LocalDateTime.now().plus(mediaGroupDebounce, ChronoUnit.MILLIS),
+                                                     MEDIA_GROUP_TTL, POSTPONED_MESSAGES_DATA);
     }
 
     /**
@@ -133,15 +170,7 @@ public class MarketLogicImpl implements MarketLogic {
      */
     @Override
     public boolean isAdvertisement(@Nonnull Message message) {
-        final String text = prepareText(message);
-
-//        return StringUtils.isNotBlank(text) && (
-//                text.contains("#продам")
-//                        || text.contains("#куплю")
-//                        || text.contains("#бронь")
-//        );
-
-        return StringUtils.isNotBlank(text) && MARKET_PATTERN.matcher(text).matches();
+        return isAdvertisement(prepareText(message));
     }
 
     @Override
@@ -160,25 +189,9 @@ public class MarketLogicImpl implements MarketLogic {
 
     @Override
     public void doIfAdvertisement(@Nonnull List<Message> messages) {
-        try {
-            log.info("Messages are an advertisement, will not be deleted.");
-
-            final LocalDateTime now = LocalDateTime.now();
-            final Long chatId = messages.get(0).getChat().getChatId();
-            final List<LazyActionData> la = Lists.newArrayListWithExpectedSize(messages.size());
-            final List<InputMedia> mg = Lists.newArrayListWithExpectedSize(messages.size());
-            messages.forEach(m -> {
-                la.add(new LazyActionData(chatId, m.getMessageId(), LazyAction.DELETE, now));
-                mg.add(new InputMediaPhoto(m.getPhoto().get(m.getPhoto().size() - 1).getFileId(), prepareCaption(m),
-                                           m.getCaptionEntities()));
-            });
-            mg.sort(COMPARATOR);
-
-            lazyActionLogic.removeLazyActionsFromRedis(la);
-            communicationComponent.sendMediaGroup(archiveChatId, mg);
-        } catch (Exception e) {
-            log.warn("", e);
-        }
+        doIfAdvertisementParts(messages.stream()
+                                       .map(MediaGroupPart :: of)
+                                       .collect(Collectors.toList()));
     }
 
     @Override
@@ -206,27 +219,71 @@ public class MarketLogicImpl implements MarketLogic {
 
     @Override
     public void doIfNotAdvertisement(@Nonnull List<Message> messages) {
+        doIfNotAdvertisementParts(messages.stream()
+                                          .map(MediaGroupPart :: of)
+                                          .collect(Collectors.toList()));
+    }
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private boolean isAdvertisement(@Nullable String text) {
+        return StringUtils.isNotBlank(text) && MARKET_PATTERN.matcher(text).matches();
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void doIfAdvertisementParts(@Nonnull List<MediaGroupPart> parts) {
+        try {
+            log.info("Messages are an advertisement, will not be deleted.");
+
+            final LocalDateTime now = LocalDateTime.now();
+            final Long chatId = parts.get(0).getChatId();
+            final List<LazyActionData> la = Lists.newArrayListWithExpectedSize(parts.size());
+            final List<InputMedia> mg = Lists.newArrayListWithExpectedSize(parts.size());
+            parts.forEach(p -> {
+                la.add(new LazyActionData(chatId, p.getMessageId(), LazyAction.DELETE, now));
+                if (p.getFileId() != null) {
+                    mg.add(new InputMediaPhoto(p.getFileId(), prepareCaption(p), p.getCaptionEntities()));
+                }
+            });
+            mg.sort(COMPARATOR);
+
+            lazyActionLogic.removeLazyActionsFromRedis(la);
+            if (!mg.isEmpty()) {
+                communicationComponent.sendMediaGroup(archiveChatId, mg);
+            }
+        } catch (Exception e) {
+            log.warn("", e);
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void doIfNotAdvertisementParts(@Nonnull List<MediaGroupPart> parts) {
         try {
             log.info("Messages are not an advertisement, will be deleted.");
 
-            final Long chatId = messages.get(0).getChat().getChatId();
+            final Long chatId = parts.get(0).getChatId();
             final BotSettings botSettings = meta.settings.get(chatId);
             final Set<Long> admins = botSettings.getAdmins();
             final LocalDateTime plusSeconds = LocalDateTime.now().plusSeconds(botSettings.getMarketMessageDeleteTime());
 
             lazyActionLogic.saveLazyActionsToRedis(
-                    messages.stream()
-                            .filter(m -> admins == null || !admins.contains(m.getUser().getId()))
-                            .map(m -> new LazyActionData(chatId, m.getMessageId(), LazyAction.DELETE, plusSeconds))
-                            .collect(Collectors.toList())
+                    parts.stream()
+                         .filter(p -> admins == null || p.getUser() == null || !admins.contains(p.getUser().getId()))
+                         .map(p -> new LazyActionData(chatId, p.getMessageId(), LazyAction.DELETE, plusSeconds))
+                         .collect(Collectors.toList())
             );
         } catch (Exception e) {
             log.warn("", e);
         }
     }
 
-    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
-
     /**
      * @since 1.8.8.0
      */
@@ -239,9 +296,9 @@ public class MarketLogicImpl implements MarketLogic {
      * @since 1.8.8.0
      */
     @Nullable
-    private String prepareCaption(@Nonnull Message message) {
-        final String text = prepareText(message);
-        return text == null ? null : text + "\n\nАвтор: " + prepareUserName(message.getUser());
+    private String prepareCaption(@Nonnull MediaGroupPart part) {
+        final String text = part.getText();
+        return text == null ? null : text + "\n\nАвтор: " + prepareUserName(part.getUser());
     }
 
     /**
@@ -259,22 +316,5 @@ public class MarketLogicImpl implements MarketLogic {
         return builder.toString();
     }
 
-    /**
-     * @since 1.8.8.0
-     */
-    private void savePostponedMessagesDataToRedis(@Nonnull Map<String, List<Message>> postponedMessagesMap) {
-        redisTemplateHelper.storePostponedMessagesDataToRedis(postponedMessagesMap, POSTPONED_MESSAGES_DATA);
-    }
-
-    /**
-     * @since 1.8.8.0
-     */
-    @Nonnull
-    private Map<String, List<Message>> getPostponedMessagesListFromRedis() {
-        Map<String, List<Message>> lazyActionDataList = redisTemplateHelper.getPostponedMessagesDataFromRedis(POSTPONED_MESSAGES_DATA);
-
-        return lazyActionDataList == null ? Maps.newHashMap() : lazyActionDataList;
-    }
-
     // </editor-fold>
 }
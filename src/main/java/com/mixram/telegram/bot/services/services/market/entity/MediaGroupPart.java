@@ -0,0 +1,80 @@
+package com.mixram.telegram.bot.services.services.market.entity;
+
+import com.mixram.telegram.bot.services.domain.entity.Message;
+import com.mixram.telegram.bot.services.domain.entity.MessageEntity;
+import com.mixram.telegram.bot.services.domain.entity.PhotoSize;
+import com.mixram.telegram.bot.services.domain.entity.User;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * Part of a media group, that is kept in Redis until the group is complete: only fields, that are needed to process the group.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MediaGroupPart {
+
+    private Long chatId;
+    private Long messageId;
+    private User user;
+    /**
+     * ID of the biggest photo (null - if the part is not a photo).
+     */
+    private String fileId;
+    /**
+     * Text or caption.
+     */
+    private String text;
+    private List<MessageEntity> captionEntities;
+
+    /**
+     * @param message message.
+     *
+     * @return part of the message.
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    public static MediaGroupPart of(@Nonnull Message message) {
+        List<PhotoSize> photo = message.getPhoto();
+        User from = message.getUser();
+
+        return MediaGroupPart.builder()
+                             .chatId(message.getChat().getChatId())
+                             .messageId(message.getMessageId())
+                             .user(from == null ? null : compact(from))
+                             .fileId(photo == null || photo.isEmpty() ? null : photo.get(photo.size() - 1).getFileId())
+                             .text(message.getText() == null ? message.getCaption() : message.getText())
+                             .captionEntities(message.getCaptionEntities())
+                             .build();
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static User compact(User user) {
+        User result = new User();
+        result.setId(user.getId());
+        result.setFirstName(user.getFirstName());
+        result.setLastName(user.getLastName());
+        result.setUsername(user.getUsername());
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return JsonUtil.toJson(this);
+    }
+}
@@ -1,19 +1,40 @@
 package com.mixram.telegram.bot.services.services.stat;
 
-import com.google.common.collect.ImmutableMap;
 import com.mixram.telegram.bot.config.cache.RedisTemplateHelper;
-import com.mixram.telegram.bot.services.domain.entity.Chat;
+import com.mixram.telegram.bot.services.domain.entity.CallbackQuery;
 import com.mixram.telegram.bot.services.domain.entity.Message;
+import com.mixram.telegram.bot.services.domain.entity.MessageEntity;
 import com.mixram.telegram.bot.services.domain.entity.Update;
+import com.mixram.telegram.bot.services.domain.entity.UpdateHeader;
+import com.mixram.telegram.bot.services.domain.entity.User;
+import com.mixram.telegram.bot.services.domain.enums.UpdateKind;
+import com.mixram.telegram.bot.services.services.stat.entity.ChatActivity;
 import com.mixram.telegram.bot.services.services.stat.entity.StatData;
+import com.mixram.telegram.bot.services.services.stat.enums.StatEvent;
+import com.mixram.telegram.bot.services.services.stat.enums.StatResolution;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.Nonnull;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.*;
 
 /**
+ * Statistics of activity in chats. Every update is recorded with one pipelined call to Redis:
+ * <ul>
+ * <li>counters of the chat (a hash, see {@link StatEvent});</li>
+ * <li>activity series of the chat per minute ("bot.settings.statistics.minutes-ttl" seconds) and per hour
+ * ("bot.settings.statistics.hours-ttl" seconds);</li>
+ * <li>approximate number of distinct users of the chat (HyperLogLog, in total and per day);</li>
+ * <li>time of the last activity in the chat.</li>
+ * </ul>
+ *
  * @author mixram on 2019-04-20.
  * @since 1.3.0.0
  */
@@ -24,6 +45,14 @@ public class StatisticsComponent {
     // <editor-fold defaultstate="collapsed" desc="***API elements***">
 
     private static final String STATISTICS_KEY_NAME = "user_statistics";
+    /**
+     * Max number of buckets in a report.
+     */
+    private static final long MAX_BUCKETS = 10_000;
+
+    private final String key;
+    private final boolean enable;
+    private final Map<StatResolution, Long> ttls;
 
     private final RedisTemplateHelper redisTemplateHelper;
 
@@ -32,62 +61,209 @@ public class StatisticsComponent {
     // <editor-fold defaultstate="collapsed" desc="***Util elements***">
 
     @Autowired
-    public StatisticsComponent(RedisTemplateHelper redisTemplateHelper) {
+    public StatisticsComponent(@Value("${bot.settings.bot-name}") String botName,
+                               @Value("${bot.settings.statistics.enable:true}") boolean enable,
+                               @Value("${bot.settings.statistics.minutes-ttl:172800}") long minutesTtl,
+                               @Value("${bot.settings.statistics.hours-ttl:2592000}") long hoursTtl,
+                               RedisTemplateHelper redisTemplateHelper) {
+        Validate.isTrue(minutesTtl > 0 && hoursTtl > 0, "TTL must be positive!");
+
+        this.key = botName;
+        this.enable = enable;
         this.redisTemplateHelper = redisTemplateHelper;
+
+        Map<StatResolution, Long> ttls = new EnumMap<>(StatResolution.class);
+        ttls.put(StatResolution.MINUTE, minutesTtl);
+        ttls.put(StatResolution.HOUR, hoursTtl);
+        this.ttls = Collections.unmodifiableMap(ttls);
     }
 
+    /**
+     * To move counters of chats from the statistics blob (1.3.x-1.8.x versions) to counters of the chats.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            StatData stat = redisTemplateHelper.getStatisticsFromRedis(STATISTICS_KEY_NAME);
+            if (stat == null) {
+                return;
+            }
+
+            if (stat.getData() != null) {
+                stat.getData().forEach((chatId, data) -> {
+                    if (data.getCounter() != null) {
+                        redisTemplateHelper.addStatisticsCounterToRedis(chatId, StatEvent.UPDATE, data.getCounter());
+                    }
+                });
+            }
+            redisTemplateHelper.deleteStatisticsFromRedis(STATISTICS_KEY_NAME);
+
+            log.info("Statistics of {} chats are moved to counters of the chats.",
+                     () -> stat.getData() == null ? 0 : stat.getData().size());
+        } catch (Exception e) {
+            log.warn("Can not move statistics to counters of the chats!", e);
+        }
+    }
 
     // </editor-fold>
 
 
+    /**
+     * To record an update. Errors are logged and do not affect processing of the update.
+     *
+     * @param update update.
+     *
+     * @since 1.3.0.0
+     */
     public void recordUpdate(Update update) {
-
-        //TODO: statistics development was set on pause
+        if (!enable || update == null) {
+            return;
+        }
 
         try {
-            if (update == null) {
-                return;
-            }
-            Message message = update.getMessage();
-            if (message == null) {
+            Set<StatEvent> events = EnumSet.of(StatEvent.UPDATE);
+            Message message;
+            User user;
+
+            CallbackQuery callbackQuery = update.getCallbackQuery();
+            if (callbackQuery != null) {
+                message = callbackQuery.getMessage();
+                user = callbackQuery.getUser();
+                events.add(StatEvent.CALLBACK_QUERY);
+            } else if (update.getMessage() != null) {
+                message = update.getMessage();
+                user = message.getUser();
+                events.add(defineMessageEvent(message));
+            } else if (update.getEditedMessage() != null) {
+                message = update.getEditedMessage();
+                user = message.getUser();
+                events.add(StatEvent.EDITED_MESSAGE);
+            } else {
                 return;
             }
-            Chat chat = message.getChat();
-            if (chat == null) {
+
+            if (message == null || message.getChat() == null) {
                 return;
             }
 
-            StatData stat = redisTemplateHelper.getStatisticsFromRedis(STATISTICS_KEY_NAME);
-            if (stat == null) {
-                redisTemplateHelper.storeStatisticsToRedis(createNew(chat), STATISTICS_KEY_NAME);
-            } else {
-                Map<Long, StatData.StatDataInner> data = stat.getData();
-                if (data.containsKey(chat.getChatId())) {
-                    StatData.StatDataInner dataInner = data.get(chat.getChatId());
-                    dataInner.setCounter(dataInner.getCounter() + 1);
+            redisTemplateHelper.recordStatisticsToRedis(message.getChat().getChatId(), user == null ? null : user.getId(), events,
+                                                        LocalDateTime.now(), ttls, key);
+        } catch (Exception e) {
+            log.warn("Error in statistics recording!", e);
+        }
+    }
 
-                    //
-                }
-            }
+    /**
+     * To record an update, that was skipped by selective decoding, by its header. Members` events are not distinguished by
+     * headers and are recorded as messages. Errors are logged and do not affect processing of the update.
+     *
+     * @param header header of the update.
+     *
+     * @since 1.9.0.0
+     */
+    public void recordSkippedUpdate(UpdateHeader header) {
+        if (!enable || header == null || header.getChatId() == null) {
+            return;
+        }
+
+        try {
+            Set<StatEvent> events = EnumSet.of(StatEvent.UPDATE, defineHeaderEvent(header));
+
+            redisTemplateHelper.recordStatisticsToRedis(header.getChatId(), header.getUserId(), events, LocalDateTime.now(), ttls,
+                                                        key);
         } catch (Exception e) {
             log.warn("Error in statistics recording!", e);
         }
     }
 
+    /**
+     * To get a report on activity in a chat.
+     *
+     * @param chatId     chat ID.
+     * @param resolution size of buckets of the activity series.
+     * @param from       start of the period.
+     * @param to         end of the period (inclusive).
+     *
+     * @return report.
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    public ChatActivity getActivity(@Nonnull Long chatId,
+                                    @Nonnull StatResolution resolution,
+                                    @Nonnull LocalDateTime from,
+                                    @Nonnull LocalDateTime to) {
+        Validate.notNull(chatId, "Chat ID is not specified!");
+        Validate.notNull(resolution, "Resolution is not specified!");
+        Validate.notNull(from, "Start of the period is not specified!");
+        Validate.notNull(to, "End of the period is not specified!");
+        Validate.isTrue(!to.isBefore(from), "End of the period is before its start!");
+        Validate.isTrue(Duration.between(from, to).toMillis() / resolution.getMillis() < MAX_BUCKETS,
+                        "Too many buckets in the period!");
+
+        return ChatActivity.builder()
+                           .chatId(chatId)
+                           .counters(redisTemplateHelper.getStatisticsCountersFromRedis(chatId))
+                           .distinctUsers(redisTemplateHelper.getStatisticsDistinctUsersFromRedis(chatId))
+                           .resolution(resolution)
+                           .from(from)
+                           .to(to)
+                           .series(redisTemplateHelper.getStatisticsSeriesFromRedis(chatId, resolution, from, to))
+                           .periodDistinctUsers(redisTemplateHelper.getStatisticsDistinctUsersFromRedis(chatId, from, to))
+                           .build();
+    }
+
+    /**
+     * To get chats, that were active since a time.
+     *
+     * @param since time.
+     *
+     * @return chats (chat ID - time of the last activity) in order of the last activity.
+     *
+     * @since 1.9.0.0
+     */
+    @Nonnull
+    public LinkedHashMap<Long, LocalDateTime> getActiveChats(@Nonnull LocalDateTime since) {
+        Validate.notNull(since, "Time is not specified!");
+
+        return redisTemplateHelper.getStatisticsChatsFromRedis(since, key);
+    }
+
 
     // <editor-fold defaultstate="collapsed" desc="***Private elements***">
 
     /**
-     * @since 1.3.0.0
+     * @since 1.9.0.0
+     */
+    private static StatEvent defineHeaderEvent(UpdateHeader header) {
+        if (header.getKind() == UpdateKind.CALLBACK) {
+            return StatEvent.CALLBACK_QUERY;
+        }
+        if (header.isEdited()) {
+            return StatEvent.EDITED_MESSAGE;
+        }
+
+        return header.getKind() == UpdateKind.COMMAND ? StatEvent.COMMAND : StatEvent.MESSAGE;
+    }
+
+    /**
+     * @since 1.9.0.0
      */
-    private StatData createNew(Chat chat) {
-        Long chatId = chat.getChatId();
-
-        return StatData.builder()
-                       .data(ImmutableMap.of(chatId,
-                                             new StatData.StatDataInner(chatId, chat.getUserName(), 1, LocalDateTime.now())))
-                       .updated(LocalDateTime.now())
-                       .build();
+    private static StatEvent defineMessageEvent(Message message) {
+        if (message.getNewChatMembers() != null && !message.getNewChatMembers().isEmpty()) {
+            return StatEvent.NEW_CHAT_MEMBERS;
+        }
+        if (message.getLeftChatMember() != null) {
+            return StatEvent.LEFT_CHAT_MEMBER;
+        }
+
+        List<MessageEntity> entities = message.getEntities();
+        if (entities != null && !entities.isEmpty() && "bot_command".equalsIgnoreCase(entities.get(0).getType()) &&
+                entities.get(0).getOffset() == 0) {
+            return StatEvent.COMMAND;
+        }
+
+        return StatEvent.MESSAGE;
     }
 
     // </editor-fold>
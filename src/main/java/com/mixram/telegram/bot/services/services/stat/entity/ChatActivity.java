@@ -0,0 +1,52 @@
+package com.mixram.telegram.bot.services.services.stat.entity;
+
+import com.mixram.telegram.bot.services.services.stat.enums.StatEvent;
+import com.mixram.telegram.bot.services.services.stat.enums.StatResolution;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Report on activity in a chat.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatActivity {
+
+    private Long chatId;
+    /**
+     * Counters of the chat for all the time.
+     */
+    private Map<StatEvent, Long> counters;
+    /**
+     * Approximate number of distinct users for all the time.
+     */
+    private long distinctUsers;
+    private StatResolution resolution;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    /**
+     * Number of updates in every bucket of the period (start of the bucket - number); buckets, that are expired, have 0.
+     */
+    private LinkedHashMap<LocalDateTime, Long> series;
+    /**
+     * Approximate number of distinct users in days of the period.
+     */
+    private long periodDistinctUsers;
+
+    @Override
+    public String toString() {
+        return JsonUtil.toJson(this);
+    }
+}
@@ -0,0 +1,40 @@
+package com.mixram.telegram.bot.services.services.stat.enums;
+
+/**
+ * Kind of activity in a chat, that is counted by statistics (every update is counted as {@link #UPDATE} and as one of the other
+ * kinds).
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum StatEvent {
+
+    /**
+     * Any update.
+     */
+    UPDATE,
+    /**
+     * New message (except commands and service messages).
+     */
+    MESSAGE,
+    /**
+     * Message, that is a command to the bot.
+     */
+    COMMAND,
+    /**
+     * Edited message.
+     */
+    EDITED_MESSAGE,
+    /**
+     * Press of a button.
+     */
+    CALLBACK_QUERY,
+    /**
+     * New members of the chat (counted once per message, not per member).
+     */
+    NEW_CHAT_MEMBERS,
+    /**
+     * Member has left the chat.
+     */
+    LEFT_CHAT_MEMBER
+}
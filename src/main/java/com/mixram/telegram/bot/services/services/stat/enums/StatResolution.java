@@ -0,0 +1,29 @@
+package com.mixram.telegram.bot.services.services.stat.enums;
+
+import lombok.Getter;
+
+/**
+ * Size of a bucket of an activity series.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum StatResolution {
+
+    MINUTE("minutes", 60_000L),
+    HOUR("hours", 3_600_000L);
+
+    /**
+     * Part of keys of the buckets.
+     */
+    @Getter
+    private final String name;
+    @Getter
+    private final long millis;
+
+    StatResolution(String name,
+                   long millis) {
+        this.name = name;
+        this.millis = millis;
+    }
+}
@@ -0,0 +1,213 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import com.mixram.telegram.bot.services.domain.enums.OutboundPriority;
+import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
+import com.mixram.telegram.bot.utils.concurrent.Workload;
+import com.mixram.telegram.bot.utils.concurrent.WorkloadExecutors;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Buffer of messages for admins: messages are collected and sent as one digest per admin per window (the window is closed by
+ * {@link com.mixram.telegram.bot.services.shedulers.AdminDigestScheduler} or by "bot.settings.admin-digest.max-events" buffered
+ * messages). Digests longer than {@link #MAX_MESSAGE_LENGTH} are split by messages (or by lines of a long message).
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+@Component
+class AdminDigest {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    /**
+     * Max length of a message of Telegram API.
+     */
+    static final int MAX_MESSAGE_LENGTH = 4096;
+    static final String SEPARATOR = "\n\n- - -\n\n";
+
+    private final boolean enabled;
+    private final int maxEvents;
+
+    private final TelegramAPICommunicationServices services;
+    private final WorkloadExecutors workloadExecutors;
+
+    private final List<String> events = new ArrayList<>();
+    private final Object flushMonitor = new Object();
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    @Autowired
+    AdminDigest(@Value("${bot.settings.admin-digest.enabled:true}") boolean enabled,
+                @Value("${bot.settings.admin-digest.max-events:50}") int maxEvents,
+                TelegramAPICommunicationServices services,
+                WorkloadExecutors workloadExecutors) {
+        Validate.isTrue(maxEvents > 0, "Max events must be positive!");
+
+        this.enabled = enabled;
+        this.maxEvents = maxEvents;
+        this.services = services;
+        this.workloadExecutors = workloadExecutors;
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To add a message to the digest.
+     *
+     * @param messageData message for admins.
+     *
+     * @return true - if the message is added, false - if the digest is off or the message can not be merged with others (it has
+     * a keyboard or post routines) and has to be sent as is.
+     *
+     * @since 1.9.0.0
+     */
+    boolean offer(MessageData messageData) {
+        if (!enabled || !isMergeable(messageData)) {
+            return false;
+        }
+
+        boolean full;
+        synchronized (events) {
+            events.add(messageData.getMessage());
+            full = events.size() >= maxEvents;
+        }
+
+        if (full) {
+            try {
+                workloadExecutors.get(Workload.ADMIN_NOTIFY).execute(this :: flush);
+            } catch (RejectedExecutionException e) {
+                log.warn("Admin digest flushing is rejected - it will be flushed by schedule.", e);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * To send buffered messages to admins.
+     *
+     * @since 1.9.0.0
+     */
+    @PreDestroy
+    void flush() {
+        synchronized (flushMonitor) {
+            List<String> toSend;
+            synchronized (events) {
+                if (events.isEmpty()) {
+                    return;
+                }
+
+                toSend = new ArrayList<>(events);
+                events.clear();
+            }
+
+            log.debug("Admin digest: {} messages.", toSend :: size);
+
+            split(toSend, MAX_MESSAGE_LENGTH).forEach(m -> services.sendMessageToAdmin(MessageData.builder()
+                                                                                                   .toAdmin(true)
+                                                                                                   .message(m)
+                                                                                                   .priority(OutboundPriority.BULK)
+                                                                                                   .build()));
+        }
+    }
+
+    /**
+     * To join messages into parts not longer than max length.
+     *
+     * @param messages  messages.
+     * @param maxLength max length of a part.
+     *
+     * @return parts.
+     *
+     * @since 1.9.0.0
+     */
+    static List<String> split(List<String> messages,
+                              int maxLength) {
+        List<String> parts = new ArrayList<>();
+
+        StringBuilder part = new StringBuilder(maxLength);
+        for (String message : messages) {
+            for (String piece : splitMessage(message, maxLength)) {
+                if (part.length() > 0 && part.length() + SEPARATOR.length() + piece.length() > maxLength) {
+                    parts.add(part.toString());
+                    part.setLength(0);
+                }
+                if (part.length() > 0) {
+                    part.append(SEPARATOR);
+                }
+                part.append(piece);
+            }
+        }
+        if (part.length() > 0) {
+            parts.add(part.toString());
+        }
+
+        return parts;
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static boolean isMergeable(MessageData messageData) {
+        return StringUtils.isNotBlank(messageData.getMessage()) &&
+                messageData.getReplyMarkup() == null &&
+                messageData.getDoIfAntiBot() == null &&
+                messageData.getDoIfLazyAction() == null &&
+                !messageData.isLeaveChat();
+    }
+
+    /**
+     * Long message is split by lines (HTML tags of the messages do not span lines), too long lines - by length.
+     *
+     * @since 1.9.0.0
+     */
+    private static List<String> splitMessage(String message,
+                                             int maxLength) {
+        List<String> pieces = new ArrayList<>();
+        if (message.length() <= maxLength) {
+            pieces.add(message);
+
+            return pieces;
+        }
+
+        StringBuilder piece = new StringBuilder(maxLength);
+        for (String line : StringUtils.splitPreserveAllTokens(message, '\n')) {
+            if (piece.length() > 0 && piece.length() + 1 + line.length() > maxLength) {
+                pieces.add(piece.toString());
+                piece.setLength(0);
+            }
+            if (piece.length() > 0) {
+                piece.append('\n');
+            }
+            for (; line.length() > maxLength; line = line.substring(maxLength)) {
+                pieces.add(line.substring(0, maxLength));
+            }
+            piece.append(line);
+        }
+        if (piece.length() > 0) {
+            pieces.add(piece.toString());
+        }
+
+        return pieces;
+    }
+
+    // </editor-fold>
+
+}
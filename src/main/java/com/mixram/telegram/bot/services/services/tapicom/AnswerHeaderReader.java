@@ -0,0 +1,129 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.mixram.telegram.bot.services.domain.entity.AnswerHeader;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import org.apache.commons.lang3.Validate;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads an answer of Telegram API to {@link AnswerHeader} with the streaming parser: only "ok", "error_code", "description",
+ * "parameters.retry_after" and "result.message_id" are read, the rest of the answer (e.g., the sent message) is skipped without
+ * building of objects.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+class AnswerHeaderReader implements ResponseExtractor<AnswerHeader> {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    static final AnswerHeaderReader INSTANCE = new AnswerHeaderReader();
+
+    private static final JsonFactory JSON_FACTORY = JsonUtil.OBJECT_MAPPER.getFactory();
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    private AnswerHeaderReader() {
+    }
+
+    // </editor-fold>
+
+
+    @Override
+    public AnswerHeader extractData(ClientHttpResponse response) throws IOException {
+        try (InputStream body = response.getBody()) {
+            return read(JSON_FACTORY.createParser(body));
+        }
+    }
+
+    /**
+     * To read an answer.
+     *
+     * @param answer answer.
+     *
+     * @return header of the answer.
+     *
+     * @since 1.9.0.0
+     */
+    static AnswerHeader read(String answer) throws IOException {
+        return read(JSON_FACTORY.createParser(answer));
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static AnswerHeader read(JsonParser parser) throws IOException {
+        try (JsonParser p = parser) {
+            Validate.isTrue(p.nextToken() == JsonToken.START_OBJECT, "Unexpected answer!");
+
+            AnswerHeader header = new AnswerHeader();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.getCurrentName();
+                JsonToken token = p.nextToken();
+                switch (field) {
+                    case "ok":
+                        header.setOk(token == JsonToken.VALUE_TRUE);
+                        break;
+                    case "error_code":
+                        header.setErrorCode(token == JsonToken.VALUE_NUMBER_INT ? p.getIntValue() : null);
+                        break;
+                    case "description":
+                        header.setDescription(token == JsonToken.VALUE_STRING ? p.getText() : null);
+                        break;
+                    case "parameters":
+                        header.setRetryAfter(readLong(p, "retry_after"));
+                        break;
+                    case "result":
+                        header.setMessageId(readLong(p, "message_id"));
+                        break;
+                    default:
+                        p.skipChildren();
+                }
+            }
+
+            return header;
+        }
+    }
+
+    /**
+     * To read a number field of the current object (other fields are skipped).
+     *
+     * @since 1.9.0.0
+     */
+    private static Long readLong(JsonParser parser,
+                                 String name) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+
+            return null;
+        }
+
+        Long value = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (name.equals(field) && token == JsonToken.VALUE_NUMBER_INT) {
+                value = parser.getLongValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return value;
+    }
+
+    // </editor-fold>
+
+}
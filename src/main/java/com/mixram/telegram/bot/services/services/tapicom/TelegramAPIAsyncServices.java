@@ -0,0 +1,153 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import com.mixram.telegram.bot.services.domain.entity.*;
+import com.mixram.telegram.bot.services.domain.enums.OutboundPriority;
+import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.resources.PoolResources;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+
+/**
+ * Non-blocking client of Telegram API: requests are sent by a few event loop threads over a pool of keep-alive connections
+ * ("bot.settings.async-client.max-connections"), so fan-outs (e.g., broadcasts) do not need a thread per request.
+ * Requests are scheduled by {@link TelegramOutboundScheduler} as well as requests of {@link TelegramAPICommunicationServices}.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+@Service
+class TelegramAPIAsyncServices {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private static final String SEND_MESSAGE_URL = "/sendMessage";
+
+    private final String mainUrlPart;
+    private final Duration responseTimeout;
+
+    private final WebClient webClient;
+    private final TelegramOutboundScheduler outboundScheduler;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    @Autowired
+    TelegramAPIAsyncServices(@Value("${bot.settings.base-url}") String telegramUrl,
+                             @Value("${bot.settings.bot-token}") String botToken,
+                             @Value("${bot.settings.async-client.max-connections:50}") int maxConnections,
+                             @Value("${bot.settings.async-client.timeout:10000}") long timeout,
+                             TelegramOutboundScheduler outboundScheduler) {
+        Validate.isTrue(maxConnections > 0, "Max connections must be positive!");
+        Validate.isTrue(timeout > 0, "Timeout must be positive!");
+
+        this.mainUrlPart = telegramUrl + "/bot" + botToken;
+        this.responseTimeout = Duration.ofMillis(timeout);
+        this.webClient = createWebClient(maxConnections);
+        this.outboundScheduler = outboundScheduler;
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To send a message to the chat.
+     *
+     * @param chatId      chat ID.
+     * @param messageData message data (post routines - anti-bot, lazy actions, chat leaving - are not supported).
+     *
+     * @return sent message.
+     *
+     * @since 1.9.0.0
+     */
+    protected Mono<Message> sendMessageToChat(@Nonnull Long chatId,
+                                              @Nonnull MessageData messageData) {
+        Validate.isTrue(messageData.getDoIfAntiBot() == null && messageData.getDoIfLazyAction() == null &&
+                                !messageData.isLeaveChat(), "Post routines are not supported by async client!");
+
+        SendMessage sendMessage = SendMessage.builder()
+                                             .chatId(chatId.toString())
+                                             .text(messageData.getMessage())
+                                             .replyMarkup(messageData.getReplyMarkup())
+                                             .parseMode("HTML")
+                                             .disableWebPagePreview(!messageData.isShowUrlPreview())
+                                             .disableNotification(false)
+                                             .build();
+
+        return post(messageData.getPriority() == null ? OutboundPriority.REPLY : messageData.getPriority(),
+                    sendMessage.getChatId(), SEND_MESSAGE_URL, sendMessage,
+                    new ParameterizedTypeReference<AnswerResponse<Message>>() {});
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static WebClient createWebClient(int maxConnections) {
+        ExchangeStrategies strategies =
+                ExchangeStrategies.builder()
+                                  .codecs(c -> {
+                                      c.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(JsonUtil.OBJECT_MAPPER));
+                                      c.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(JsonUtil.OBJECT_MAPPER));
+                                  })
+                                  .build();
+
+        return WebClient.builder()
+                        .clientConnector(new ReactorClientHttpConnector(
+                                options -> options.poolResources(PoolResources.fixed("telegram_async", maxConnections))))
+                        .exchangeStrategies(strategies)
+                        .build();
+    }
+
+    /**
+     * @param priority class of the request.
+     * @param chatId   chat ID, if the request sends a message to the chat, or null.
+     *
+     * @since 1.9.0.0
+     */
+    private <T> Mono<T> post(OutboundPriority priority,
+                             String chatId,
+                             String url,
+                             SendMessage sendMessage,
+                             ParameterizedTypeReference<AnswerResponse<T>> type) {
+        log.debug("{} => message={}",
+                  () -> url,
+                  () -> sendMessage);
+
+        return outboundScheduler.schedule(priority, chatId, () -> webClient.post()
+                                                                           .uri(mainUrlPart + url)
+                                                                           .contentType(MediaType.APPLICATION_JSON)
+                                                                           .accept(MediaType.APPLICATION_JSON)
+                                                                           .syncBody(sendMessage)
+                                                                           .retrieve()
+                                                                           .bodyToMono(type)
+                                                                           .timeout(responseTimeout))
+                                .flatMap(answer -> {
+                                    Validate.isTrue(answer.getResult() != null && answer.getResult(),
+                                                    "An error in process of request %s! %s", url, answer);
+
+                                    return Mono.justOrEmpty(answer.getData());
+                                });
+    }
+
+    // </editor-fold>
+
+}
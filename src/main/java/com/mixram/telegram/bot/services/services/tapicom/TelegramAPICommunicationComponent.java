@@ -2,17 +2,21 @@ package com.mixram.telegram.bot.services.services.tapicom;
 
 import com.mixram.telegram.bot.services.domain.InputMedia;
 import com.mixram.telegram.bot.services.domain.entity.CASData;
+import com.mixram.telegram.bot.services.domain.entity.Message;
 import com.mixram.telegram.bot.services.domain.entity.Update;
 import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
 import org.apache.commons.lang3.Validate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import javax.annotation.Nonnull;
 import java.util.List;
 import java.util.Set;
 
 /**
+ * Methods with "Async" suffix do not block the caller - they are executed by {@link TelegramAPIAsyncServices}.
+ *
  * @author mixram on 2019-04-22.
  * @since 1.3.0.0
  */
@@ -24,21 +28,32 @@ public class TelegramAPICommunicationComponent {
     public static final String SOMETHING_WRONG_MESSAGE = "telegram.bot.message.something-wrong";
 
     private final TelegramAPICommunicationServices services;
+    private final TelegramAPIAsyncServices asyncServices;
+    private final AdminDigest adminDigest;
+    private final TelegramOutbox outbox;
 
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="***Util elements***">
 
     @Autowired
-    public TelegramAPICommunicationComponent(TelegramAPICommunicationServices services) {
+    public TelegramAPICommunicationComponent(TelegramAPICommunicationServices services,
+                                             TelegramAPIAsyncServices asyncServices,
+                                             AdminDigest adminDigest,
+                                             TelegramOutbox outbox) {
         this.services = services;
+        this.asyncServices = asyncServices;
+        this.adminDigest = adminDigest;
+        this.outbox = outbox;
     }
 
     // </editor-fold>
 
 
     /**
-     * @see TelegramAPICommunicationServices#sendMessageToChat(Long, MessageData)
+     * The message is sent through {@link TelegramOutbox}.
+     *
+     * @see TelegramAPICommunicationServices#sendMessage(Update, MessageData)
      * @since 1.3.0.0
      */
     public void sendMessage(Update update,
@@ -47,10 +62,12 @@ public class TelegramAPICommunicationComponent {
         Validate.notNull(messageData, "Message data is not specified!");
         Validate.notBlank(messageData.getMessage(), "Message is not specified!");
 
-        services.sendMessage(update, messageData);
+        outbox.sendMessage(update, messageData);
     }
 
     /**
+     * The message is sent through {@link TelegramOutbox}.
+     *
      * @see TelegramAPICommunicationServices#sendMessageToChat(Long, MessageData)
      * @since 1.3.0.0
      */
@@ -59,10 +76,12 @@ public class TelegramAPICommunicationComponent {
         Validate.notNull(chatId, "Chat ID is not specified!");
         Validate.notNull(messageData, "Message data is not specified!");
 
-        services.sendMessageToChat(chatId, messageData);
+        outbox.sendMessageToChat(chatId, messageData);
     }
 
     /**
+     * Plain messages are buffered by {@link AdminDigest} and sent as a digest, others are sent at once.
+     *
      * @see TelegramAPICommunicationServices#sendMessageToAdmin(MessageData)
      * @since 1.3.0.0
      */
@@ -70,15 +89,38 @@ public class TelegramAPICommunicationComponent {
         Validate.notNull(messageData, "Message data is not specified!");
         Validate.notBlank(messageData.getMessage(), "Message is not specified!");
 
-        services.sendMessageToAdmin(messageData);
+        if (!adminDigest.offer(messageData)) {
+            services.sendMessageToAdmin(messageData);
+        }
     }
 
     /**
-     * @see TelegramAPICommunicationServices#getUpdates()
+     * @see AdminDigest#flush()
+     * @since 1.9.0.0
+     */
+    public void flushAdminDigest() {
+        adminDigest.flush();
+    }
+
+    /**
+     * @see TelegramAPICommunicationServices#getUpdates(Long)
      * @since 1.3.0.0
      */
-    public List<Update> getUpdates() {
-        return services.getUpdates();
+    public List<Update> getUpdates(Long offset) {
+        return services.getUpdates(offset);
+    }
+
+    /**
+     * @see TelegramAPICommunicationServices#setWebhook(String, String, int)
+     * @since 1.9.0.0
+     */
+    public void setWebhook(@Nonnull String url,
+                           @Nonnull String secretToken,
+                           int maxConnections) {
+        Validate.notBlank(url, "URL is not specified!");
+        Validate.notBlank(secretToken, "Secret token is not specified!");
+
+        services.setWebhook(url, secretToken, maxConnections);
     }
 
     /**
@@ -121,6 +163,22 @@ public class TelegramAPICommunicationComponent {
         services.removeMessageFromChat(chatId, messageId);
     }
 
+    /**
+     * @see TelegramAPICommunicationServices#removeMessagesFromChat(String, List)
+     * @since 1.9.0.0
+     */
+    public void removeMessagesFromChat(@Nonnull String chatId,
+                                       @Nonnull List<Long> messageIds) {
+        Validate.notBlank(chatId, "Chat ID is not specified!");
+        Validate.notNull(messageIds, "Messages IDs are not specified!");
+
+        if (messageIds.isEmpty()) {
+            return;
+        }
+
+        services.removeMessagesFromChat(chatId, messageIds);
+    }
+
     /**
      * @see TelegramAPICommunicationServices#unbanUserInChat(String, String)
      * @since 1.7.0.0
@@ -183,6 +241,19 @@ public class TelegramAPICommunicationComponent {
         services.sendMediaGroup(chatId, media);
     }
 
+    /**
+     * @see TelegramAPIAsyncServices#sendMessageToChat(Long, MessageData)
+     * @since 1.9.0.0
+     */
+    public Mono<Message> sendMessageToChatAsync(@Nonnull Long chatId,
+                                                @Nonnull MessageData messageData) {
+        Validate.notNull(chatId, "Chat ID is not specified!");
+        Validate.notNull(messageData, "Message data is not specified!");
+        Validate.notBlank(messageData.getMessage(), "Message is not specified!");
+
+        return asyncServices.sendMessageToChat(chatId, messageData);
+    }
+
 
     // <editor-fold defaultstate="collapsed" desc="***Private elements***">
 
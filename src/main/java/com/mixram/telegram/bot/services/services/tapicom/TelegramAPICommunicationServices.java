@@ -3,7 +3,9 @@ package com.mixram.telegram.bot.services.services.tapicom;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.Lists;
 import com.mixram.telegram.bot.services.domain.InputMedia;
+import com.mixram.telegram.bot.services.domain.UpdatesSelector;
 import com.mixram.telegram.bot.services.domain.entity.*;
+import com.mixram.telegram.bot.services.domain.enums.OutboundPriority;
 import com.mixram.telegram.bot.services.domain.ex.TelegramApiException;
 import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
 import com.mixram.telegram.bot.services.services.tapicom.entity.SendMessageData;
@@ -12,20 +14,27 @@ import com.mixram.telegram.bot.utils.CustomMessageSource;
 import com.mixram.telegram.bot.utils.META;
 import com.mixram.telegram.bot.utils.databinding.JsonUtil;
 import com.mixram.telegram.bot.utils.rest.RestClient;
+import com.mixram.telegram.bot.utils.rest.RestClientImpl;
+import com.mixram.telegram.bot.utils.rest.RestClientPools;
+import com.mixram.telegram.bot.utils.rest.RestClientProfile;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.Nonnull;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent.SOMETHING_WRONG_MESSAGE;
 
@@ -41,33 +50,72 @@ class TelegramAPICommunicationServices {
 
     private static final String GET_ME_URL = "/getMe";
     private static final String GET_UPDATES_URL = "/getUpdates";
+    private static final String SET_WEBHOOK_URL = "/setWebhook";
     private static final String SEND_MESSAGE_URL = "/sendMessage";
     private static final String FORWARD_MESSAGE_URL = "/forwardMessage";
     private static final String SEND_MEDIA_GROUP_URL = "/sendMediaGroup";
     private static final String LEAVE_CHAT_URL = "/leaveChat";
     private static final String KICK_CHAT_MEMBER_URL = "/kickChatMember";
     private static final String DELETE_MESSAGE_URL = "/deleteMessage";
+    private static final String DELETE_MESSAGES_URL = "/deleteMessages";
+    /**
+     * Max number of messages in one "deleteMessages" request.
+     */
+    static final int DELETE_MESSAGES_LIMIT = 100;
     private static final String UNBAN_CHAT_MEMBER_URL = "/unbanChatMember";
     private static final String RESTRICT_CHAT_MEMBER_URL = "/restrictChatMember";
     private static final String CAS_CHECK_URL = "/check";
+    /**
+     * Reserve for the response timeout of long polling requests, ms.
+     */
+    private static final long POLLING_RESPONSE_TIMEOUT_RESERVE = 5000;
+    /**
+     * Min pause after an error of long polling, ms.
+     */
+    private static final long MIN_POLLING_ERROR_PAUSE = 500;
 
     private final String botName;
     private final String mainUrlPart;
     private final Integer secondsToBanUser;
     private final Set<Long> adminsPrime;
     private final String CASMainUrl;
+    private final Integer pollingTimeout;
+    private final Integer pollingLimit;
+    private final String[] allowedUpdates;
+    private final String allowedUpdatesJson;
+    private final Long pollingErrorPause;
 
     private final RestClient restClient;
-    private final CustomMessageSource messageSource;
-    private final META meta;
-
     /**
-     * Identifier of the first update to be returned. Must be greater by one than the highest among the identifiers of previously received
-     * updates. By default, updates starting with the earliest unconfirmed update are returned. An update is considered confirmed as soon as
-     * getUpdates is called with an offset higher than its update_id. The negative offset can be specified to retrieve updates starting from
-     * -offset update from the end of the updates queue. All previous updates will forgotten.
+     * Client for CAS service - its own pool and short timeouts, so slow CAS does not take connections for Telegram API.
+     */
+    private final RestClient casRestClient;
+    /**
+     * Client for "getUpdates" only - its response timeout is bigger than long polling timeout.
+     */
+    private final RestClient pollingRestClient;
+    /**
+     * Reader for "getUpdates" responses, null - if updates are bound in full.
+     */
+    private final UpdatesStreamReader updatesReader;
+    /**
+     * Scheduler of requests, that are limited by Telegram API (messages, moderation).
      */
-    private AtomicLong offset;
+    private final TelegramOutboundScheduler outboundScheduler;
+    /**
+     * Prebuilt requests to Telegram API methods.
+     */
+    private final TelegramRequestTemplate<AnswerHeader> sendMessageRequest;
+    private final TelegramRequestTemplate<AnswerHeader> forwardMessageRequest;
+    private final TelegramRequestTemplate<AnswerHeader> sendMediaGroupRequest;
+    private final TelegramRequestTemplate<AnswerHeader> leaveChatRequest;
+    private final TelegramRequestTemplate<AnswerHeader> deleteMessagesRequest;
+    private final TelegramRequestTemplate<AnswerHeader> kickChatMemberRequest;
+    private final TelegramRequestTemplate<AnswerHeader> unbanChatMemberRequest;
+    private final TelegramRequestTemplate<AnswerHeader> deleteMessageRequest;
+    private final TelegramRequestTemplate<AnswerHeader> restrictChatMemberRequest;
+    private final CustomMessageSource messageSource;
+    private final META meta;
 
     // </editor-fold>
 
@@ -80,19 +128,56 @@ class TelegramAPICommunicationServices {
                                      @Value("${bot.settings.admins-prime}") String adminsPrime,
                                      @Value("${bot.settings.time-to-ban-user-after-kick}") Integer secondsToBanUser,
                                      @Value("${service.cas.base-url}") String CASMainUrl,
+                                     @Value("${bot.settings.long-pooling.timeout:0}") Integer pollingTimeout,
+                                     @Value("${bot.settings.long-pooling.limit:100}") Integer pollingLimit,
+                                     @Value("${bot.settings.long-pooling.allowed-updates:message,edited_message,callback_query}") String[] allowedUpdates,
+                                     @Value("${bot.settings.long-pooling.error-pause:1000}") Long pollingErrorPause,
+                                     @Value("${bot.settings.long-pooling.selective-decoding:true}") boolean selectiveDecoding,
                                      META meta,
+                                     UpdatesSelector updatesSelector,
+                                     TelegramOutboundScheduler outboundScheduler,
                                      CustomMessageSource messageSource,
-                                     RestClient restClient) {
-        restClient.setAnchorForLog(this.getClass().getSimpleName());
-        this.restClient = restClient;
+                                     RestClientPools restClientPools,
+                                     @Qualifier("createMessageConverters") List<HttpMessageConverter<?>> messageConverters) {
+        Validate.isTrue(pollingTimeout >= 0, "Long polling timeout can not be negative!");
+        Validate.isTrue(pollingLimit > 0 && pollingLimit <= 100, "Long polling limit must be in 1-100!");
+
+        this.restClient = restClientPools.get(RestClientProfile.TELEGRAM);
+        this.casRestClient = restClientPools.get(RestClientProfile.CAS);
+        this.pollingRestClient = pollingTimeout == 0 ? restClient : createPollingRestClient(pollingTimeout, messageConverters);
+        this.updatesReader = selectiveDecoding ? new UpdatesStreamReader(updatesSelector) : null;
+        this.outboundScheduler = outboundScheduler;
         this.messageSource = messageSource;
         this.meta = meta;
 
         this.botName = botName;
         this.adminsPrime = JsonUtil.fromJson(adminsPrime, new TypeReference<Set<Long>>() {});
         this.mainUrlPart = telegramUrl + "/bot" + botToken;
+        this.sendMessageRequest = new TelegramRequestTemplate<>(mainUrlPart + SEND_MESSAGE_URL,
+                                                                AnswerHeaderReader.INSTANCE);
+        this.forwardMessageRequest = new TelegramRequestTemplate<>(mainUrlPart + FORWARD_MESSAGE_URL,
+                                                                   AnswerHeaderReader.INSTANCE);
+        this.sendMediaGroupRequest = new TelegramRequestTemplate<>(mainUrlPart + SEND_MEDIA_GROUP_URL,
+                                                                   AnswerHeaderReader.INSTANCE);
+        this.leaveChatRequest = new TelegramRequestTemplate<>(mainUrlPart + LEAVE_CHAT_URL,
+                                                              AnswerHeaderReader.INSTANCE);
+        this.deleteMessagesRequest = new TelegramRequestTemplate<>(mainUrlPart + DELETE_MESSAGES_URL,
+                                                                   AnswerHeaderReader.INSTANCE);
+        this.kickChatMemberRequest = new TelegramRequestTemplate<>(mainUrlPart + KICK_CHAT_MEMBER_URL,
+                                                                   AnswerHeaderReader.INSTANCE);
+        this.unbanChatMemberRequest = new TelegramRequestTemplate<>(mainUrlPart + UNBAN_CHAT_MEMBER_URL,
+                                                                    AnswerHeaderReader.INSTANCE);
+        this.deleteMessageRequest = new TelegramRequestTemplate<>(mainUrlPart + DELETE_MESSAGE_URL,
+                                                                  AnswerHeaderReader.INSTANCE);
+        this.restrictChatMemberRequest = new TelegramRequestTemplate<>(mainUrlPart + RESTRICT_CHAT_MEMBER_URL,
+                                                                       AnswerHeaderReader.INSTANCE);
         this.secondsToBanUser = secondsToBanUser;
         this.CASMainUrl = CASMainUrl;
+        this.pollingTimeout = pollingTimeout;
+        this.pollingLimit = pollingLimit;
+        this.allowedUpdates = allowedUpdates;
+        this.allowedUpdatesJson = JsonUtil.toJson(allowedUpdates);
+        this.pollingErrorPause = pollingErrorPause;
     }
 
     // </editor-fold>
@@ -157,6 +242,69 @@ class TelegramAPICommunicationServices {
         }
     }
 
+    /**
+     * To send messageData to the chat (post routines are run after the message is sent).
+     *
+     * @param chatId      chat ID.
+     * @param messageId   ID of the message to reply to (if "toResponse").
+     * @param messageData messageData to send to Telegram API.
+     *
+     * @throws RuntimeException if the message is not sent.
+     * @since 1.9.0.0
+     */
+    protected void sendMessageOrFail(@Nonnull Long chatId,
+                                     Long messageId,
+                                     @Nonnull MessageData messageData) {
+        log.debug("sendMessageOrFail => : chatId={}, messageData={}",
+                  () -> chatId,
+                  () -> messageData);
+
+        doSendMessage(chatId, messageId, messageData);
+    }
+
+    /**
+     * To send "something wrong" message to the chat.
+     *
+     * @param chatId       chat ID.
+     * @param messageId    ID of the message to reply to.
+     * @param languageCode language of the message (null - default).
+     * @param userResponse the chat is a private chat with the user.
+     *
+     * @since 1.9.0.0
+     */
+    protected void sendSomethingWrong(@Nonnull Long chatId,
+                                      Long messageId,
+                                      String languageCode,
+                                      boolean userResponse) {
+        try {
+            MessageData messageData =
+                    MessageData.builder()
+                               .toResponse(true)
+                               .message(messageSource.getMessage(SOMETHING_WRONG_MESSAGE, defineLocale(languageCode)))
+                               .userResponse(userResponse)
+                               .build();
+
+            doSendMessage(chatId, messageId, messageData);
+        } catch (Exception e) {
+            log.warn("", e);
+        }
+    }
+
+    /**
+     * To define the chat and the message to reply to.
+     *
+     * @param update       "update" entity from Telegram API.
+     * @param userResponse to answer to user (private chat) or to group.
+     *
+     * @return chat ID and message ID.
+     *
+     * @since 1.9.0.0
+     */
+    protected SendMessageData defineRecipient(@Nonnull Update update,
+                                              boolean userResponse) {
+        return createSendMessageData(update, userResponse);
+    }
+
     /**
      * To send messageData to Telegram API for bot admin.
      *
@@ -179,48 +327,88 @@ class TelegramAPICommunicationServices {
     }
 
     /**
-     * To get all updates from Telegram API.
+     * To get all updates from Telegram API.<br>
+     * If "bot.settings.long-pooling.timeout" is greater than zero, Telegram API holds the request open up to the timeout
+     * while there are no updates.
+     * If "bot.settings.long-pooling.selective-decoding" is on, updates, that are not needed by {@link UpdatesSelector}, have ID only.
+     *
+     * @param offset identifier of the first update to be returned (may be null). Must be greater by one than the highest among the
+     *               identifiers of previously processed updates. An update is considered confirmed as soon as getUpdates is called
+     *               with an offset higher than its update_id.
      *
      * @return a list of updates (may be empty) or exception.
      *
      * @since 0.1.3.0
      */
-    protected List<Update> getUpdates() {
+    protected List<Update> getUpdates(Long offset) {
         List<Update> result;
 
         String url = mainUrlPart + GET_UPDATES_URL;
         HttpHeaders headers = CommonHeadersBuilder.newInstance()
                                                   .json()
                                                   .build();
-        Map<String, String> params = new HashMap<>();
+        Map<String, String> params = new HashMap<>(4);
         if (offset != null) {
-            params.put("offset", String.valueOf(offset.addAndGet(1)));
+            params.put("offset", String.valueOf(offset));
         }
+        params.put("timeout", String.valueOf(pollingTimeout));
+        params.put("limit", String.valueOf(pollingLimit));
+        params.put("allowed_updates", allowedUpdatesJson);
 
         try {
-            UpdateResponse updatesHolder = restClient.get(url, params, headers.toSingleValueMap(),
-                                                          UpdateResponse.class);
-            Validate.notNull(updatesHolder, "Empty answer!");
-            Validate.isTrue(updatesHolder.getResult(), "An error in process of updates getting! %s", updatesHolder);
-
-            List<Update> updates = Optional.ofNullable(updatesHolder.getData()).orElse(
-                    Lists.newArrayListWithExpectedSize(0));
-            offset = updates.stream()
-                            .map(Update :: getUpdateId)
-                            .max(Comparator.naturalOrder())
-                            .map(AtomicLong :: new)
-                            .orElse(null);
-
-            result = updatesHolder.getData();
+            if (updatesReader != null) {
+                result = pollingRestClient.get(url, params, headers.toSingleValueMap(), updatesReader);
+                Validate.notNull(result, "Empty answer!");
+            } else {
+                UpdateResponse updatesHolder = pollingRestClient.get(url, params, headers.toSingleValueMap(),
+                                                                     UpdateResponse.class);
+                Validate.notNull(updatesHolder, "Empty answer!");
+                Validate.isTrue(updatesHolder.getResult(), "An error in process of updates getting! %s", updatesHolder);
+
+                result = Optional.ofNullable(updatesHolder.getData()).orElse(Lists.newArrayListWithExpectedSize(0));
+            }
         } catch (Exception e) {
             log.warn("Exception in process of updates receiving!", e);
 
             result = Lists.newArrayListWithExpectedSize(0);
+
+            pauseAfterPollingError();
         }
 
         return result;
     }
 
+    /**
+     * To make Telegram API to send updates to the webhook.
+     *
+     * @param url            webhook URL.
+     * @param secretToken    secret token, Telegram API sends it in "X-Telegram-Bot-Api-Secret-Token" header.
+     * @param maxConnections max number of simultaneous connections to the webhook.
+     *
+     * @since 1.9.0.0
+     */
+    protected void setWebhook(@Nonnull String url,
+                              @Nonnull String secretToken,
+                              int maxConnections) {
+        String apiUrl = mainUrlPart + SET_WEBHOOK_URL;
+        HttpHeaders headers = CommonHeadersBuilder.newInstance()
+                                                  .json()
+                                                  .build();
+        Map<String, Object> body = new HashMap<>(4);
+        body.put("url", url);
+        body.put("secret_token", secretToken);
+        body.put("allowed_updates", allowedUpdates);
+        body.put("max_connections", maxConnections);
+
+        AnswerResponse<Boolean> answerResponse =
+                restClient.post(apiUrl, headers.toSingleValueMap(), body,
+                                new ParameterizedTypeReference<AnswerResponse<Boolean>>() {});
+        Validate.notNull(answerResponse, "Empty answer!");
+        Validate.isTrue(answerResponse.getResult(), "An error in process of webhook setting! %s", answerResponse);
+
+        log.info("Webhook is set: {}", () -> url);
+    }
+
     /**
      * To assert bot`s data.
      *
@@ -275,14 +463,11 @@ class TelegramAPICommunicationServices {
                                                        .getEpochSecond())
                                .build();
 
-            String url = mainUrlPart + KICK_CHAT_MEMBER_URL;
-            HttpHeaders headers = CommonHeadersBuilder.newInstance()
-                                                      .json()
-                                                      .build();
             log.debug("kickUserFromChat => message={}", () -> sendMessage);
 
-            Object answerResponse =
-                    restClient.post(url, headers.toSingleValueMap(), sendMessage, Object.class);
+            AnswerHeader answerResponse =
+                    outboundScheduler.execute(OutboundPriority.MODERATION, null,
+                                              () -> kickChatMemberRequest.post(restClient, sendMessage));
             Validate.notNull(answerResponse, "Empty message!");
 
             log.debug("kickUserFromChat ==> answer on message: {}", () -> answerResponse);
@@ -308,14 +493,11 @@ class TelegramAPICommunicationServices {
                                .userId(userId)
                                .build();
 
-            String url = mainUrlPart + UNBAN_CHAT_MEMBER_URL;
-            HttpHeaders headers = CommonHeadersBuilder.newInstance()
-                                                      .json()
-                                                      .build();
             log.debug("unbanUserInChat => : message={}", () -> sendMessage);
 
-            Object answerResponse =
-                    restClient.post(url, headers.toSingleValueMap(), sendMessage, Object.class);
+            AnswerHeader answerResponse =
+                    outboundScheduler.execute(OutboundPriority.MODERATION, null,
+                                              () -> unbanChatMemberRequest.post(restClient, sendMessage));
             Validate.notNull(answerResponse, "Empty message!");
 
             log.debug("unbanUserInChat ==> answer on message: {}", () -> answerResponse);
@@ -340,14 +522,11 @@ class TelegramAPICommunicationServices {
                                                  .messageId(messageId)
                                                  .build();
 
-            String url = mainUrlPart + DELETE_MESSAGE_URL;
-            HttpHeaders headers = CommonHeadersBuilder.newInstance()
-                                                      .json()
-                                                      .build();
             log.debug("removeMessageFromChat => message={}", () -> sendMessage);
 
-            Object answerResponse =
-                    restClient.post(url, headers.toSingleValueMap(), sendMessage, Object.class);
+            AnswerHeader answerResponse =
+                    outboundScheduler.execute(OutboundPriority.MODERATION, null,
+                                              () -> deleteMessageRequest.post(restClient, sendMessage));
             Validate.notNull(answerResponse, "Empty message!");
 
             log.debug("removeMessageFromChat ==> answer on message: {}", () -> answerResponse);
@@ -356,6 +535,59 @@ class TelegramAPICommunicationServices {
         }
     }
 
+    /**
+     * To delete messages from the chat by batches (up to {@link #DELETE_MESSAGES_LIMIT} messages per request). If a batch can not
+     * be deleted at once, its messages are deleted one by one.
+     *
+     * @param chatId     chat ID.
+     * @param messageIds messages IDs.
+     *
+     * @since 1.9.0.0
+     */
+    protected void removeMessagesFromChat(String chatId,
+                                          List<Long> messageIds) {
+        removeByBatches(chatId, messageIds,
+                        batch -> deleteMessages(chatId, batch),
+                        id -> removeMessageFromChat(chatId, String.valueOf(id)));
+    }
+
+    /**
+     * Splits messages into batches of up to {@link #DELETE_MESSAGES_LIMIT} IDs (without nulls and duplicates); a single message
+     * is removed by the single remover, a batch, that can not be removed at once, - by the single remover message by message.
+     *
+     * @param chatId        chat ID (for logs).
+     * @param messageIds    messages IDs.
+     * @param batchRemover  remover of a batch (throws an exception, if the batch is not removed).
+     * @param singleRemover remover of a message.
+     *
+     * @since 1.9.0.0
+     */
+    static void removeByBatches(String chatId,
+                                List<Long> messageIds,
+                                Consumer<List<Long>> batchRemover,
+                                Consumer<Long> singleRemover) {
+        List<Long> ids = messageIds.stream()
+                                   .filter(Objects :: nonNull)
+                                   .distinct()
+                                   .collect(Collectors.toList());
+        if (ids.size() == 1) {
+            singleRemover.accept(ids.get(0));
+
+            return;
+        }
+
+        for (List<Long> batch : Lists.partition(ids, DELETE_MESSAGES_LIMIT)) {
+            try {
+                batchRemover.accept(batch);
+            } catch (Exception e) {
+                log.warn(String.format("Messages %s of chat %s can not be deleted at once - they will be deleted one by one.",
+                                       batch, chatId), e);
+
+                batch.forEach(singleRemover);
+            }
+        }
+    }
+
     /**
      * To restrict user in the chat.
      *
@@ -375,13 +607,11 @@ class TelegramAPICommunicationServices {
                                .permissions(restrict ? ChatPermissions.RESTRICTED_ALL() : ChatPermissions.GRANTED_ALL())
                                .build();
 
-            String url = mainUrlPart + RESTRICT_CHAT_MEMBER_URL;
-            HttpHeaders headers = CommonHeadersBuilder.newInstance()
-                                                      .json()
-                                                      .build();
             log.debug("restrictChatMember => message={}", () -> sendMessage);
 
-            Object answerResponse = restClient.post(url, headers.toSingleValueMap(), sendMessage, Object.class);
+            AnswerHeader answerResponse =
+                    outboundScheduler.execute(OutboundPriority.MODERATION, null,
+                                              () -> restrictChatMemberRequest.post(restClient, sendMessage));
             Validate.notNull(answerResponse, "Empty message!");
 
             log.debug("restrictChatMember ==> answer on message: {}", () -> answerResponse);
@@ -405,7 +635,7 @@ class TelegramAPICommunicationServices {
         Map<String, String> params = new HashMap<>(1);
         params.put("user_id", String.valueOf(id));
 
-        CASData response = restClient.get(url, params, null, CASData.class);
+        CASData response = casRestClient.get(url, params, null, CASData.class);
         Validate.notNull(response, "Empty answer!");
 
         return response;
@@ -424,10 +654,6 @@ class TelegramAPICommunicationServices {
                                   @Nonnull String targetChatId,
                                   @Nonnull String messageId) {
         try {
-            String url = mainUrlPart + FORWARD_MESSAGE_URL;
-            HttpHeaders headers = CommonHeadersBuilder.newInstance()
-                                                      .json()
-                                                      .build();
             SendMessage sendMessage =
                     SendMessage.builder()
                                .chatId(targetChatId)
@@ -436,11 +662,11 @@ class TelegramAPICommunicationServices {
                                .disableNotification(true)
                                .build();
 
-            AnswerResponse<Message> answerResponse =
-                    restClient.post(url, headers.toSingleValueMap(), sendMessage,
-                                    new ParameterizedTypeReference<AnswerResponse<Message>>() {});
+            AnswerHeader answerResponse =
+                    outboundScheduler.execute(OutboundPriority.REPLY, targetChatId,
+                                              () -> forwardMessageRequest.post(restClient, sendMessage));
             Validate.notNull(answerResponse, "Empty message!");
-            Validate.isTrue(answerResponse.getResult(), "An error in process of message sending! %s", answerResponse);
+            Validate.isTrue(answerResponse.isOk(), "An error in process of message sending! %s", answerResponse);
         } catch (Exception e) {
             log.warn("", e);
         }
@@ -457,10 +683,6 @@ class TelegramAPICommunicationServices {
     protected void sendMediaGroup(@Nonnull String chatId,
                                   @Nonnull List<InputMedia> media) {
         try {
-            String url = mainUrlPart + SEND_MEDIA_GROUP_URL;
-            HttpHeaders headers = CommonHeadersBuilder.newInstance()
-                                                      .json()
-                                                      .build();
             SendMessage sendMessage =
                     SendMessage.builder()
                                .chatId(chatId)
@@ -468,11 +690,11 @@ class TelegramAPICommunicationServices {
                                .disableNotification(true)
                                .build();
 
-            AnswerResponse<List<Message>> answerResponse =
-                    restClient.post(url, headers.toSingleValueMap(), sendMessage,
-                                    new ParameterizedTypeReference<AnswerResponse<List<Message>>>() {});
+            AnswerHeader answerResponse =
+                    outboundScheduler.execute(OutboundPriority.REPLY, chatId,
+                                              () -> sendMediaGroupRequest.post(restClient, sendMessage));
             Validate.notNull(answerResponse, "Empty message!");
-            Validate.isTrue(answerResponse.getResult(), "An error in process of message sending! %s", answerResponse);
+            Validate.isTrue(answerResponse.isOk(), "An error in process of message sending! %s", answerResponse);
         } catch (Exception e) {
             log.warn("", e);
         }
@@ -481,12 +703,44 @@ class TelegramAPICommunicationServices {
 
     // <editor-fold defaultstate="collapsed" desc="***Private elements***">
 
+    /**
+     * @since 1.9.0.0
+     */
+    private static RestClient createPollingRestClient(Integer pollingTimeout,
+                                                      List<HttpMessageConverter<?>> messageConverters) {
+        String responseTimeout = String.valueOf(TimeUnit.SECONDS.toMillis(pollingTimeout) + POLLING_RESPONSE_TIMEOUT_RESERVE);
+
+        RestClient client = RestClientImpl.getWithParams("1", "1", null, null, responseTimeout, null, false, null,
+                                                         messageConverters);
+        client.setAnchorForLog(TelegramAPICommunicationServices.class.getSimpleName() + "-polling");
+
+        return client;
+    }
+
+    /**
+     * Not to hammer Telegram API in a loop when it (or network) is down.
+     *
+     * @since 1.9.0.0
+     */
+    private void pauseAfterPollingError() {
+        try {
+            TimeUnit.MILLISECONDS.sleep(Math.max(pollingErrorPause, MIN_POLLING_ERROR_PAUSE));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * @since 1.4.1.0
      */
     private Locale defineLocale(User user) {
-        String languageCode = user.getLanguageCode();
+        return defineLocale(user.getLanguageCode());
+    }
 
+    /**
+     * @since 1.9.0.0
+     */
+    private Locale defineLocale(String languageCode) {
         return StringUtils.isNotBlank(languageCode) ? new Locale(languageCode) : META.DEFAULT_LOCALE;
     }
 
@@ -497,16 +751,30 @@ class TelegramAPICommunicationServices {
         SendMessage.SendMessageBuilder builder = SendMessage.builder()
                                                             .chatId(chatId);
 
-        String url = mainUrlPart + LEAVE_CHAT_URL;
-        HttpHeaders headers = CommonHeadersBuilder.newInstance()
-                                                  .json()
-                                                  .build();
+        AnswerHeader answerResponse =
+                outboundScheduler.execute(OutboundPriority.REPLY, null,
+                                          () -> leaveChatRequest.post(restClient, builder.build()));
+        Validate.notNull(answerResponse, "Empty message!");
+        Validate.isTrue(answerResponse.isOk(), "An error in process of chat leaving! %s", answerResponse);
+    }
 
-        AnswerResponse<Boolean> answerResponse =
-                restClient.post(url, headers.toSingleValueMap(), builder.build(),
-                                new ParameterizedTypeReference<AnswerResponse<Boolean>>() {});
+    /**
+     * @since 1.9.0.0
+     */
+    private void deleteMessages(String chatId,
+                                List<Long> messageIds) {
+        SendMessage sendMessage = SendMessage.builder()
+                                             .chatId(chatId)
+                                             .messageIds(messageIds)
+                                             .build();
+
+        log.debug("deleteMessages => message={}", () -> sendMessage);
+
+        AnswerHeader answerResponse =
+                outboundScheduler.execute(OutboundPriority.MODERATION, null,
+                                          () -> deleteMessagesRequest.post(restClient, sendMessage));
         Validate.notNull(answerResponse, "Empty message!");
-        Validate.isTrue(answerResponse.getResult(), "An error in process of chat leaving! %s", answerResponse);
+        Validate.isTrue(answerResponse.isOk(), "An error in process of messages deleting! %s", answerResponse);
     }
 
     /**
@@ -551,18 +819,13 @@ class TelegramAPICommunicationServices {
                     .setReplyToMessageId(messageId);
         }
 
-        String url = mainUrlPart + SEND_MESSAGE_URL;
-        HttpHeaders headers = CommonHeadersBuilder.newInstance()
-                                                  .json()
-                                                  .build();
-
         log.debug("doSendMessage => message={}", () -> sendMessage);
 
-        AnswerResponse<Message> answerResponse =
-                restClient.post(url, headers.toSingleValueMap(), sendMessage,
-                                new ParameterizedTypeReference<AnswerResponse<Message>>() {});
+        AnswerHeader answerResponse =
+                outboundScheduler.execute(message.getPriority() == null ? OutboundPriority.REPLY : message.getPriority(),
+                                          sendMessage.getChatId(), () -> sendMessageRequest.post(restClient, sendMessage));
         Validate.notNull(answerResponse, "Empty message!");
-        Validate.isTrue(answerResponse.getResult(), "An error in process of message sending! %s", answerResponse);
+        Validate.isTrue(answerResponse.isOk(), "An error in process of message sending! %s", answerResponse);
 
         doPostSendMessage(chatId, message, answerResponse);
 
@@ -571,8 +834,8 @@ class TelegramAPICommunicationServices {
 
     private void doPostSendMessage(Long chatId,
                                    MessageData messageData,
-                                   AnswerResponse<Message> answerResponse) {
-        Long messageId = answerResponse.getData().getMessageId();
+                                   AnswerHeader answerResponse) {
+        Long messageId = answerResponse.getMessageId();
         if (messageData.getDoIfAntiBot() != null) {
             try {
                 messageData.getDoIfAntiBot().accept(messageId);
@@ -0,0 +1,599 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import com.mixram.telegram.bot.services.domain.enums.OutboundPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Scheduler of outbound requests to Telegram API: requests wait for their turn in the queue, so the bot does not exceed the
+ * limits of Telegram API instead of getting "429 Too Many Requests".
+ * <p>
+ * Every request takes a token from the global bucket ("bot.settings.outbound.global-rate" per second), messages - from the bucket
+ * of the target chat as well ("bot.settings.outbound.group-rate" per minute for groups and channels,
+ * "bot.settings.outbound.private-rate" per second for private chats). If Telegram API answers with "429" anyway, the chat (or
+ * all requests, if the request is not bound to a chat) is paused for "retry_after" seconds and the request is repeated (up to
+ * "bot.settings.outbound.max-retries" times).
+ * <p>
+ * Turns are granted by {@link OutboundPriority}: a request of a higher class goes before all queued requests of lower classes.
+ * Besides, {@link OutboundPriority#BULK} requests do not take the last "bot.settings.outbound.reserved" tokens of the global bucket,
+ * so moderation and replies are sent at once even while a broadcast is running.
+ * <p>
+ * Requests are executed by callers` threads, the scheduler only grants them turns, so calls stay synchronous. Asynchronous requests
+ * ({@link #schedule(OutboundPriority, String, Supplier)}) do not block any thread while waiting.
+ * <p>
+ * Metrics (tag "priority" - class of requests):
+ * <ul>
+ * <li>"bot.telegram.outbound.wait" - time of requests in the queue;</li>
+ * <li>"bot.telegram.outbound.queued" - number of requests in the queue;</li>
+ * <li>"bot.telegram.outbound.throttled" - number of "429" answers.</li>
+ * </ul>
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+@Component
+class TelegramOutboundScheduler implements MeterBinder {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    /**
+     * Pause, if "429" answer has no "retry_after", seconds.
+     */
+    private static final long DEFAULT_RETRY_AFTER = 1;
+    private static final long CLEAN_UP_PERIOD = TimeUnit.MINUTES.toNanos(1);
+
+    private final int maxRetries;
+    private final long groupInterval;
+    private final int groupBurst;
+    private final long privateInterval;
+    private final int privateBurst;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final TreeSet<Ticket> tickets = new TreeSet<>(Comparator.<Ticket>comparingInt(t -> t.priority.ordinal())
+                                                                     .thenComparingLong(t -> t.sequence));
+    private final Map<String, Chat> chats = new HashMap<>();
+    private final Bucket global;
+    /**
+     * Tokens of the global bucket, that are not available for {@link OutboundPriority#BULK} requests, nanos.
+     */
+    private final long globalReserve;
+    private long globalPausedUntil;
+    private long sequence;
+    private long cleanedUpAt;
+
+    private volatile boolean stopped;
+    private Thread dispatcher;
+
+    private volatile Map<OutboundPriority, Timer> waitTimers;
+    private volatile Counter throttledCounter;
+
+    /**
+     * GCRA (virtual scheduling) bucket: "burst" requests at once, then one request per "interval".
+     */
+    private static final class Bucket {
+
+        private final long interval;
+        private final long tolerance;
+        /**
+         * Theoretical arrival time of the next request, nanos.
+         */
+        private long tat;
+
+        private Bucket(long interval,
+                       int burst,
+                       long now) {
+            this.interval = interval;
+            this.tolerance = interval * (burst - 1);
+            this.tat = now;
+        }
+
+        private long readyAt(long now) {
+            return readyAt(now, 0);
+        }
+
+        /**
+         * @param reserve part of the tolerance, that may not be used, nanos.
+         */
+        private long readyAt(long now,
+                             long reserve) {
+            long allowedAt = tat - tolerance + reserve;
+
+            return allowedAt - now > 0 ? allowedAt : now;
+        }
+
+        private void take(long now) {
+            tat = (tat - now > 0 ? tat : now) + interval;
+        }
+    }
+
+    private static final class Chat {
+
+        private final Bucket bucket;
+        private long pausedUntil;
+
+        private Chat(Bucket bucket,
+                     long now) {
+            this.bucket = bucket;
+            this.pausedUntil = now;
+        }
+
+        private long readyAt(long now) {
+            long readyAt = bucket.readyAt(now);
+
+            return pausedUntil - readyAt > 0 ? pausedUntil : readyAt;
+        }
+
+        private boolean isIdle(long now) {
+            return bucket.tat - now <= 0 && pausedUntil - now <= 0;
+        }
+    }
+
+    private static final class Ticket {
+
+        private final OutboundPriority priority;
+        /**
+         * Chat ID, null - if the request does not send messages to a chat.
+         */
+        private final String chatId;
+        private final long sequence;
+        private final long queuedAt = System.nanoTime();
+        private final CompletableFuture<Void> turn = new CompletableFuture<>();
+
+        private Ticket(OutboundPriority priority,
+                       String chatId,
+                       long sequence) {
+            this.priority = priority;
+            this.chatId = chatId;
+            this.sequence = sequence;
+        }
+    }
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    @Autowired
+    TelegramOutboundScheduler(@Value("${bot.settings.outbound.global-rate:30}") int globalRate,
+                              @Value("${bot.settings.outbound.group-rate:20}") int groupRate,
+                              @Value("${bot.settings.outbound.private-rate:1}") int privateRate,
+                              @Value("${bot.settings.outbound.max-retries:3}") int maxRetries,
+                              @Value("${bot.settings.outbound.reserved:10}") int reserved) {
+        Validate.isTrue(globalRate > 0, "Global rate must be positive!");
+        Validate.isTrue(groupRate > 0, "Group rate must be positive!");
+        Validate.isTrue(privateRate > 0, "Private rate must be positive!");
+        Validate.isTrue(maxRetries >= 0, "Max retries can not be negative!");
+        Validate.isTrue(reserved >= 0 && reserved < globalRate, "Reserved tokens must be in [0, global rate)!");
+
+        long now = System.nanoTime();
+        this.global = new Bucket(TimeUnit.SECONDS.toNanos(1) / globalRate, globalRate, now);
+        this.globalReserve = TimeUnit.SECONDS.toNanos(1) / globalRate * reserved;
+        this.globalPausedUntil = now;
+        this.cleanedUpAt = now;
+        this.groupInterval = TimeUnit.MINUTES.toNanos(1) / groupRate;
+        this.groupBurst = groupRate;
+        this.privateInterval = TimeUnit.SECONDS.toNanos(1) / privateRate;
+        this.privateBurst = privateRate;
+        this.maxRetries = maxRetries;
+    }
+
+    @PostConstruct
+    void start() {
+        dispatcher = new Thread(this :: dispatch, "telegram_outbound");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        stopped = true;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+
+        lock.lock();
+        try {
+            tickets.forEach(t -> t.turn.completeExceptionally(new RejectedExecutionException("Outbound scheduler is stopped!")));
+            tickets.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To execute a request to Telegram API in its turn.
+     *
+     * @param priority class of the request.
+     * @param chatId   chat ID, if the request sends a message to the chat (the chat`s limit is applied), or null.
+     * @param request  request.
+     *
+     * @return result of the request.
+     *
+     * @throws RejectedExecutionException if the scheduler is stopped or the thread is interrupted while waiting.
+     * @since 1.9.0.0
+     */
+    <T> T execute(OutboundPriority priority,
+                  String chatId,
+                  Supplier<T> request) throws RejectedExecutionException {
+        Validate.notNull(priority, "Priority is not specified!");
+        Validate.notNull(request, "Request is not specified!");
+
+        long ticketSequence = nextSequence();
+        for (int attempt = 0; ; attempt++) {
+            awaitTurn(enqueue(priority, chatId, ticketSequence));
+
+            try {
+                return request.get();
+            } catch (RuntimeException e) {
+                Long retryAfter = defineRetryAfter(e);
+                if (retryAfter == null || attempt >= maxRetries) {
+                    throw e;
+                }
+
+                if (throttledCounter != null) {
+                    throttledCounter.increment();
+                }
+                log.warn("Too many requests to Telegram API (chat {}) - retry after {} s.",
+                         () -> chatId,
+                         () -> retryAfter);
+
+                pause(chatId, retryAfter);
+            }
+        }
+    }
+
+    /**
+     * To execute an asynchronous request to Telegram API in its turn.
+     *
+     * @param priority class of the request.
+     * @param chatId   chat ID, if the request sends a message to the chat (the chat`s limit is applied), or null.
+     * @param request  supplier of the request (is called when the turn comes, once per attempt).
+     *
+     * @return result of the request (is failed with {@link RejectedExecutionException} if the scheduler is stopped).
+     *
+     * @since 1.9.0.0
+     */
+    <T> Mono<T> schedule(OutboundPriority priority,
+                         String chatId,
+                         Supplier<Mono<T>> request) {
+        Validate.notNull(priority, "Priority is not specified!");
+        Validate.notNull(request, "Request is not specified!");
+
+        return Mono.defer(() -> scheduleAttempt(priority, chatId, nextSequence(), 0, request));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<OutboundPriority, Timer> timers = new EnumMap<>(OutboundPriority.class);
+        for (OutboundPriority priority : OutboundPriority.values()) {
+            String tag = priority.name().toLowerCase();
+            timers.put(priority, Timer.builder("bot.telegram.outbound.wait")
+                                      .tag("priority", tag)
+                                      .description("Time of requests to Telegram API in the queue")
+                                      .register(registry));
+            Gauge.builder("bot.telegram.outbound.queued", this, s -> s.queued(priority))
+                 .tag("priority", tag)
+                 .description("Number of requests to Telegram API in the queue")
+                 .register(registry);
+        }
+        waitTimers = timers;
+        throttledCounter = Counter.builder("bot.telegram.outbound.throttled")
+                                  .description("Number of '429 Too Many Requests' answers of Telegram API")
+                                  .register(registry);
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private long nextSequence() {
+        lock.lock();
+        try {
+            return sequence++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private Ticket enqueue(OutboundPriority priority,
+                           String chatId,
+                           long ticketSequence) {
+        if (stopped) {
+            throw new RejectedExecutionException("Outbound scheduler is stopped!");
+        }
+
+        Ticket ticket = new Ticket(priority, chatId, ticketSequence);
+        lock.lock();
+        try {
+            tickets.add(ticket);
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        return ticket;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private <T> Mono<T> scheduleAttempt(OutboundPriority priority,
+                                        String chatId,
+                                        long ticketSequence,
+                                        int attempt,
+                                        Supplier<Mono<T>> request) {
+        Ticket ticket = enqueue(priority, chatId, ticketSequence);
+
+        return Mono.fromFuture(ticket.turn)
+                   .doOnCancel(() -> cancel(ticket))
+                   .then(Mono.defer(() -> {
+                       recordWait(ticket);
+
+                       return request.get();
+                   }))
+                   .onErrorResume(e -> {
+                       Long retryAfter = defineRetryAfter(e);
+                       if (retryAfter == null || attempt >= maxRetries) {
+                           return Mono.error(e);
+                       }
+
+                       if (throttledCounter != null) {
+                           throttledCounter.increment();
+                       }
+                       log.warn("Too many requests to Telegram API (chat {}) - retry after {} s.",
+                                () -> chatId,
+                                () -> retryAfter);
+
+                       pause(chatId, retryAfter);
+
+                       return scheduleAttempt(priority, chatId, ticketSequence, attempt + 1, request);
+                   });
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void awaitTurn(Ticket ticket) {
+        try {
+            ticket.turn.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(ticket);
+
+            throw new RejectedExecutionException("Interrupted while waiting for a turn!", e);
+        } catch (ExecutionException e) {
+            throw new RejectedExecutionException(e.getCause().getMessage(), e.getCause());
+        }
+
+        recordWait(ticket);
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void recordWait(Ticket ticket) {
+        Map<OutboundPriority, Timer> timers = waitTimers;
+        if (timers != null) {
+            timers.get(ticket.priority).record(System.nanoTime() - ticket.queuedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void cancel(Ticket ticket) {
+        lock.lock();
+        try {
+            tickets.remove(ticket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void pause(String chatId,
+                       long seconds) {
+        lock.lock();
+        try {
+            long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            if (chatId == null) {
+                globalPausedUntil = until - globalPausedUntil > 0 ? until : globalPausedUntil;
+            } else {
+                Chat chat = getChat(chatId, System.nanoTime());
+                chat.pausedUntil = until - chat.pausedUntil > 0 ? until : chat.pausedUntil;
+            }
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private int queued(OutboundPriority priority) {
+        lock.lock();
+        try {
+            return (int) tickets.stream()
+                                .filter(t -> t.priority == priority)
+                                .count();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Dispatcher`s loop: grants turns to tickets in order (by classes, then by arrival), skipping tickets of chats, that are out
+     * of tokens.
+     *
+     * @since 1.9.0.0
+     */
+    private void dispatch() {
+        while (!stopped) {
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                cleanUp(now);
+
+                long waitNanos = grantTurn(now);
+                if (waitNanos == Long.MAX_VALUE) {
+                    changed.await();
+                } else if (waitNanos > 0) {
+                    changed.awaitNanos(waitNanos);
+                }
+            } catch (InterruptedException e) {
+                if (!stopped) {
+                    log.warn("Outbound dispatcher is interrupted!", e);
+                }
+                Thread.currentThread().interrupt();
+
+                return;
+            } catch (Exception e) {
+                log.warn("", e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return nanos to wait until the next turn may be granted (0 - a turn is granted, {@link Long#MAX_VALUE} - the queue is
+     * empty).
+     *
+     * @since 1.9.0.0
+     */
+    private long grantTurn(long now) {
+        if (tickets.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+
+        long globalReadyAt = global.readyAt(now);
+        if (globalPausedUntil - globalReadyAt > 0) {
+            globalReadyAt = globalPausedUntil;
+        }
+        if (globalReadyAt - now > 0) {
+            return globalReadyAt - now;
+        }
+
+        long bulkReadyAt = global.readyAt(now, globalReserve);
+
+        long waitNanos = Long.MAX_VALUE;
+        for (Iterator<Ticket> iterator = tickets.iterator(); iterator.hasNext(); ) {
+            Ticket ticket = iterator.next();
+            Chat chat = ticket.chatId == null ? null : getChat(ticket.chatId, now);
+            long readyAt = chat == null ? now : chat.readyAt(now);
+            if (ticket.priority == OutboundPriority.BULK && bulkReadyAt - readyAt > 0) {
+                readyAt = bulkReadyAt;
+            }
+            if (readyAt - now <= 0) {
+                iterator.remove();
+                global.take(now);
+                if (chat != null) {
+                    chat.bucket.take(now);
+                }
+                ticket.turn.complete(null);
+
+                return 0;
+            }
+
+            waitNanos = Math.min(waitNanos, readyAt - now);
+        }
+
+        return waitNanos;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private Chat getChat(String chatId,
+                         long now) {
+        return chats.computeIfAbsent(chatId, id -> StringUtils.startsWith(id, "-") ?
+                                                   new Chat(new Bucket(groupInterval, groupBurst, now), now) :
+                                                   new Chat(new Bucket(privateInterval, privateBurst, now), now));
+    }
+
+    /**
+     * Idle chats have full buckets, so they are removed not to keep all chats in memory.
+     *
+     * @since 1.9.0.0
+     */
+    private void cleanUp(long now) {
+        if (now - cleanedUpAt < CLEAN_UP_PERIOD) {
+            return;
+        }
+
+        chats.values().removeIf(c -> c.isIdle(now));
+        cleanedUpAt = now;
+    }
+
+    /**
+     * @return "retry_after" (seconds), if the request is failed with "429 Too Many Requests", or null.
+     *
+     * @since 1.9.0.0
+     */
+    private static Long defineRetryAfter(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusCodeException &&
+                    ((HttpStatusCodeException) cause).getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                return parseRetryAfter(((HttpStatusCodeException) cause).getResponseBodyAsString());
+            }
+            if (cause instanceof WebClientResponseException &&
+                    ((WebClientResponseException) cause).getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                return parseRetryAfter(((WebClientResponseException) cause).getResponseBodyAsString());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static long parseRetryAfter(String body) {
+        try {
+            Long retryAfter = AnswerHeaderReader.read(body).getRetryAfter();
+
+            return retryAfter == null ? DEFAULT_RETRY_AFTER : retryAfter;
+        } catch (Exception e) {
+            return DEFAULT_RETRY_AFTER;
+        }
+    }
+
+    // </editor-fold>
+
+}
@@ -0,0 +1,661 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import com.mixram.telegram.bot.config.cache.RedisTemplateHelper;
+import com.mixram.telegram.bot.services.domain.entity.Message;
+import com.mixram.telegram.bot.services.domain.entity.Update;
+import com.mixram.telegram.bot.services.domain.entity.User;
+import com.mixram.telegram.bot.services.services.bot.PostSendHookFactory;
+import com.mixram.telegram.bot.services.services.bot.entity.MessageData;
+import com.mixram.telegram.bot.services.services.bot.entity.PostSendHook;
+import com.mixram.telegram.bot.services.services.bot.entity.PostSendHookData;
+import com.mixram.telegram.bot.services.services.bot.enums.PostSendHookType;
+import com.mixram.telegram.bot.services.services.tapicom.entity.OutboxEntry;
+import com.mixram.telegram.bot.services.services.tapicom.entity.SendMessageData;
+import com.mixram.telegram.bot.utils.concurrent.KeyedOrderedExecutor;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import com.mixram.telegram.bot.utils.rest.CircuitBreakerOpenException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Durable outbox of messages to chats: a message is written to Redis before it is sent, and is removed only after it is sent
+ * and its post routines are run, so messages (and anti-bot/lazy action routines) are not lost, if the process dies.
+ * <p>
+ * Messages are drained by batches ("bot.settings.outbox.batch-size") to lanes of chats: messages to a chat are sent one by one
+ * (in order), chats are served in parallel, so a slow chat does not delay the others. Every message is removed from the outbox
+ * (or returned to it) as soon as it is processed. Messages, that failed because of network, circuit breaker or server errors,
+ * are returned to the outbox up to "bot.settings.outbox.max-attempts" times (with the following messages to the chat),
+ * others are dropped (with "something wrong" answer, if needed).
+ * <p>
+ * Taken messages are kept in a processing list, that is returned to the outbox at start - so a message, that was being sent
+ * when the process stopped, may be sent twice. The outbox of a bot must be drained by one instance only.
+ * <p>
+ * Post routines of a message are run from the message itself, if it is sent by the same process, or are restored by
+ * {@link PostSendHookFactory}s (routines, that are not {@link PostSendHook}s, are lost after a restart).
+ * <p>
+ * Metrics:
+ * <ul>
+ * <li>"bot.telegram.outbox.wait" - time of a message from enqueueing to sending;</li>
+ * <li>"bot.telegram.outbox.messages" - number of messages (tag "result" - "sent", "returned" or "failed").</li>
+ * </ul>
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+@Component
+class TelegramOutbox implements MeterBinder {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private static final String DRAINER_THREAD_NAME = "telegram_outbox";
+
+    private final boolean enabled;
+    private final String key;
+    private final int batchSize;
+    private final long pollInterval;
+    private final int maxAttempts;
+
+    private final TelegramAPICommunicationServices services;
+    private final RedisTemplateHelper redisTemplateHelper;
+    private final KeyedOrderedExecutor<Long> dispatcher;
+
+    /**
+     * Messages, that are enqueued by this process, by entries` IDs.
+     */
+    private final Map<String, MessageData> enqueued = new ConcurrentHashMap<>();
+    private final Map<PostSendHookType, PostSendHookFactory> hookFactories = new EnumMap<>(PostSendHookType.class);
+
+    /**
+     * Guards taking of entries and returning of held ones: an entry, that is taken before the held entries of its chat are
+     * returned, must not overtake them.
+     */
+    private final Object lanesLock = new Object();
+    /**
+     * Numbers of taken, but not processed entries by chats.
+     */
+    private final Map<Long, Integer> inFlight = new HashMap<>();
+    /**
+     * Entries to chats, that have a failed message, in order - they are returned to the outbox, when the chat has no more
+     * entries in flight.
+     */
+    private final Map<Long, List<Taken>> held = new HashMap<>();
+    private final AtomicBoolean returned = new AtomicBoolean();
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition added = lock.newCondition();
+    private boolean signalled;
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    private volatile Timer waitTimer;
+    private volatile Counter sentCounter;
+    private volatile Counter returnedCounter;
+    private volatile Counter failedCounter;
+
+    @Data
+    @AllArgsConstructor
+    private static class Taken {
+
+        /**
+         * Entry as it is stored in the outbox.
+         */
+        private String raw;
+        private OutboxEntry entry;
+    }
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    @Autowired
+    TelegramOutbox(@Value("${bot.settings.outbox.enable:true}") boolean enabled,
+                   @Value("${bot.settings.bot-name}") String botName,
+                   @Value("${bot.settings.outbox.batch-size:50}") int batchSize,
+                   @Value("${bot.settings.outbox.poll-interval:1000}") long pollInterval,
+                   @Value("${bot.settings.outbox.max-attempts:3}") int maxAttempts,
+                   TelegramAPICommunicationServices services,
+                   RedisTemplateHelper redisTemplateHelper,
+                   @Qualifier("outboxDispatcher") KeyedOrderedExecutor<Long> dispatcher) {
+        Validate.isTrue(batchSize > 0, "Batch size must be positive!");
+        Validate.isTrue(pollInterval > 0, "Poll interval must be positive!");
+        Validate.isTrue(maxAttempts > 0, "Max attempts must be positive!");
+
+        this.enabled = enabled;
+        this.key = botName;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxAttempts = maxAttempts;
+        this.services = services;
+        this.redisTemplateHelper = redisTemplateHelper;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Factories of hooks are taken from the context (not injected) - they depend on the outbox themselves.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        event.getApplicationContext()
+             .getBeansOfType(PostSendHookFactory.class)
+             .values()
+             .forEach(f -> hookFactories.put(f.getHookType(), f));
+
+        try {
+            long restored = redisTemplateHelper.restoreOutboxInRedis(key);
+            if (restored > 0) {
+                log.info("{} unfinished messages are returned to the outbox.", () -> restored);
+            }
+        } catch (Exception e) {
+            log.warn("Can not return unfinished messages to the outbox!", e);
+        }
+
+        running = true;
+        drainer = new Thread(this :: drain, DRAINER_THREAD_NAME);
+        drainer.setDaemon(true);
+        drainer.start();
+
+        log.info("Outbox drainer is started!");
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (drainer != null) {
+            drainer.interrupt();
+        }
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To put a message, that answers the update, to the outbox.
+     *
+     * @param update      "update" entity from Telegram API.
+     * @param messageData message.
+     *
+     * @see TelegramAPICommunicationServices#sendMessage(Update, MessageData)
+     * @since 1.9.0.0
+     */
+    void sendMessage(Update update,
+                     MessageData messageData) {
+        if (!enabled) {
+            services.sendMessage(update, messageData);
+
+            return;
+        }
+
+        OutboxEntry entry;
+        try {
+            SendMessageData recipient = services.defineRecipient(update, messageData.isUserResponse());
+
+            entry = createEntry(recipient.getChatId(), recipient.getMessageId(), messageData);
+            entry.setFallback(true);
+            entry.setLanguageCode(defineLanguageCode(update));
+        } catch (Exception e) {
+            log.warn("Can not create an outbox entry - the message is sent directly!", e);
+
+            services.sendMessage(update, messageData);
+
+            return;
+        }
+
+        enqueue(entry, messageData, () -> services.sendMessage(update, messageData));
+    }
+
+    /**
+     * To put a message to the chat to the outbox.
+     *
+     * @param chatId      chat ID.
+     * @param messageData message.
+     *
+     * @see TelegramAPICommunicationServices#sendMessageToChat(Long, MessageData)
+     * @since 1.9.0.0
+     */
+    void sendMessageToChat(Long chatId,
+                           MessageData messageData) {
+        if (!enabled) {
+            services.sendMessageToChat(chatId, messageData);
+
+            return;
+        }
+
+        enqueue(createEntry(chatId, null, messageData), messageData, () -> services.sendMessageToChat(chatId, messageData));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        waitTimer = Timer.builder("bot.telegram.outbox.wait")
+                         .description("Time of messages in the outbox")
+                         .register(registry);
+        sentCounter = createCounter(registry, "sent");
+        returnedCounter = createCounter(registry, "returned");
+        failedCounter = createCounter(registry, "failed");
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static Counter createCounter(MeterRegistry registry,
+                                         String result) {
+        return Counter.builder("bot.telegram.outbox.messages")
+                      .tag("result", result)
+                      .description("Number of messages from the outbox")
+                      .register(registry);
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static OutboxEntry createEntry(Long chatId,
+                                           Long messageId,
+                                           MessageData messageData) {
+        List<PostSendHookData> hooks = new ArrayList<>();
+        addHookData(hooks, messageData.getDoIfAntiBot());
+        if (messageData.getDoIfLazyAction() != null) {
+            messageData.getDoIfLazyAction().forEach(la -> addHookData(hooks, la));
+        }
+
+        return OutboxEntry.builder()
+                          .id(UUID.randomUUID().toString())
+                          .chatId(chatId)
+                          .messageId(messageId)
+                          .message(messageData.getMessage())
+                          .replyMarkup(messageData.getReplyMarkup())
+                          .toResponse(messageData.isToResponse())
+                          .userResponse(messageData.isUserResponse())
+                          .showUrlPreview(messageData.isShowUrlPreview())
+                          .leaveChat(messageData.isLeaveChat())
+                          .priority(messageData.getPriority())
+                          .hooks(hooks.isEmpty() ? null : hooks)
+                          .created(System.currentTimeMillis())
+                          .build();
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static void addHookData(List<PostSendHookData> hooks,
+                                    Consumer<Long> routine) {
+        if (routine instanceof PostSendHook) {
+            hooks.add(((PostSendHook) routine).toData());
+        } else if (routine != null) {
+            log.debug("Post routine {} can not be restored after a restart.", () -> routine);
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static String defineLanguageCode(Update update) {
+        Message message = update.getMessage();
+        User user = null;
+        if (message != null) {
+            user = message.getUser();
+        } else if (update.getCallbackQuery() != null) {
+            user = update.getCallbackQuery().getUser();
+        }
+
+        return user == null ? null : user.getLanguageCode();
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static boolean isTransient(Exception e) {
+        if (ExceptionUtils.indexOfType(e, ResourceAccessException.class) >= 0 ||
+                ExceptionUtils.indexOfType(e, CircuitBreakerOpenException.class) >= 0 ||
+                ExceptionUtils.indexOfType(e, RejectedExecutionException.class) >= 0) {
+            return true;
+        }
+
+        int index = ExceptionUtils.indexOfType(e, HttpStatusCodeException.class);
+        if (index < 0) {
+            return false;
+        }
+
+        HttpStatusCodeException statusException = (HttpStatusCodeException) ExceptionUtils.getThrowableList(e).get(index);
+
+        return statusException.getStatusCode().value() == 429 || statusException.getStatusCode().is5xxServerError();
+    }
+
+    /**
+     * If the outbox is not available, the message is sent at once.
+     *
+     * @since 1.9.0.0
+     */
+    private void enqueue(OutboxEntry entry,
+                         MessageData messageData,
+                         Runnable direct) {
+        enqueued.put(entry.getId(), messageData);
+        try {
+            redisTemplateHelper.pushToOutboxInRedis(JsonUtil.toJson(entry), key);
+        } catch (Exception e) {
+            enqueued.remove(entry.getId());
+            log.warn("Can not put the message to the outbox - it is sent directly!", e);
+
+            direct.run();
+
+            return;
+        }
+
+        lock.lock();
+        try {
+            signalled = true;
+            added.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void drain() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                if (!dispatchBatch()) {
+                    await();
+                }
+                if (returned.getAndSet(false)) {
+                    //not to hammer Telegram API when it (or network) is down
+                    TimeUnit.MILLISECONDS.sleep(pollInterval);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Outbox draining error!", e);
+
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pollInterval);
+                } catch (InterruptedException e1) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        log.info("Outbox drainer is stopped!");
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void await() throws InterruptedException {
+        lock.lock();
+        try {
+            if (!signalled) {
+                added.await(pollInterval, TimeUnit.MILLISECONDS);
+            }
+            signalled = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Entries are passed to the lanes of their chats, each entry is removed or returned to the outbox by its own lane.
+     *
+     * @return false - if the outbox is empty.
+     *
+     * @since 1.9.0.0
+     */
+    private boolean dispatchBatch() {
+        List<String> batch;
+        List<Taken> entries = new ArrayList<>();
+        synchronized (lanesLock) {
+            batch = redisTemplateHelper.takeFromOutboxInRedis(key, batchSize);
+            for (String raw : batch) {
+                try {
+                    OutboxEntry entry = JsonUtil.fromJson(raw, OutboxEntry.class);
+                    Validate.isTrue(entry != null && entry.getChatId() != null, "Chat ID is not specified!");
+
+                    entries.add(new Taken(raw, entry));
+                    inFlight.merge(entry.getChatId(), 1, Integer :: sum);
+                } catch (Exception e) {
+                    log.warn(String.format("Corrupted outbox entry is dropped: %s", raw), e);
+
+                    remove(raw);
+                }
+            }
+        }
+
+        for (Taken taken : entries) {
+            Long chatId = taken.getEntry().getChatId();
+            try {
+                dispatcher.submit(chatId, () -> {
+                    process(taken);
+
+                    return null;
+                });
+            } catch (RejectedExecutionException e) {
+                //the entry stays in the processing list and is returned to the outbox after a restart
+                log.warn(String.format("Message %s to chat %s is not dispatched!", taken.getEntry().getId(), chatId), e);
+
+                release(chatId);
+            }
+        }
+
+        return !batch.isEmpty();
+    }
+
+    /**
+     * Messages to a chat are sent in order: if a message is held to be returned to the outbox, the following ones are held too.
+     *
+     * @since 1.9.0.0
+     */
+    private void process(Taken taken) {
+        OutboxEntry entry = taken.getEntry();
+        try {
+            if (isHeld(entry.getChatId())) {
+                hold(taken);
+            } else if (!send(taken)) {
+                entry.setAttempts(entry.getAttempts() + 1);
+                hold(taken);
+            }
+        } finally {
+            release(entry.getChatId());
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private boolean isHeld(Long chatId) {
+        synchronized (lanesLock) {
+            return held.containsKey(chatId);
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void hold(Taken taken) {
+        synchronized (lanesLock) {
+            held.computeIfAbsent(taken.getEntry().getChatId(), k -> new ArrayList<>()).add(taken);
+        }
+    }
+
+    /**
+     * When the chat has no more entries in flight, its held entries are returned to the outbox.
+     *
+     * @since 1.9.0.0
+     */
+    private void release(Long chatId) {
+        synchronized (lanesLock) {
+            if (inFlight.merge(chatId, -1, Integer :: sum) > 0) {
+                return;
+            }
+            inFlight.remove(chatId);
+
+            List<Taken> chatHeld = held.remove(chatId);
+            if (chatHeld == null) {
+                return;
+            }
+
+            //to the head of the outbox in reverse order - to keep the order
+            for (int i = chatHeld.size() - 1; i >= 0; i--) {
+                Taken taken = chatHeld.get(i);
+                returnToOutbox(taken.getRaw(), taken.getEntry());
+            }
+            returned.set(true);
+        }
+    }
+
+    /**
+     * @return false - if the message has to be returned to the outbox.
+     *
+     * @since 1.9.0.0
+     */
+    private boolean send(Taken taken) {
+        OutboxEntry entry = taken.getEntry();
+        MessageData messageData = enqueued.get(entry.getId());
+        if (messageData == null) {
+            messageData = restoreMessageData(entry);
+        }
+
+        try {
+            services.sendMessageOrFail(entry.getChatId(), entry.getMessageId(), messageData);
+
+            increment(sentCounter);
+            Timer timer = waitTimer;
+            if (timer != null) {
+                timer.record(System.currentTimeMillis() - entry.getCreated(), TimeUnit.MILLISECONDS);
+            }
+        } catch (Exception e) {
+            if (isTransient(e) && entry.getAttempts() + 1 < maxAttempts) {
+                log.warn(String.format("Message %s to chat %s is not sent (attempt %s) - it is returned to the outbox.",
+                                       entry.getId(), entry.getChatId(), entry.getAttempts() + 1), e);
+
+                increment(returnedCounter);
+
+                return false;
+            }
+
+            log.warn(String.format("Message %s to chat %s is not sent!", entry.getId(), entry.getChatId()), e);
+
+            increment(failedCounter);
+            if (entry.isFallback()) {
+                services.sendSomethingWrong(entry.getChatId(), entry.getMessageId(), entry.getLanguageCode(),
+                                            entry.isUserResponse());
+            }
+        }
+
+        enqueued.remove(entry.getId());
+        remove(taken.getRaw());
+
+        return true;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private MessageData restoreMessageData(OutboxEntry entry) {
+        Consumer<Long> antiBot = null;
+        List<Consumer<Long>> lazyActions = new ArrayList<>();
+        if (entry.getHooks() != null) {
+            for (PostSendHookData data : entry.getHooks()) {
+                PostSendHookFactory factory = hookFactories.get(data.getType());
+                if (factory == null) {
+                    log.warn("There is no factory for post routine {} - it is dropped!", () -> data);
+
+                    continue;
+                }
+
+                try {
+                    PostSendHook hook = factory.restoreHook(data);
+                    if (data.getType() == PostSendHookType.ANTI_BOT) {
+                        antiBot = hook;
+                    } else {
+                        lazyActions.add(hook);
+                    }
+                } catch (Exception e) {
+                    log.warn(String.format("Post routine %s can not be restored - it is dropped!", data), e);
+                }
+            }
+        }
+
+        return MessageData.builder()
+                          .message(entry.getMessage())
+                          .replyMarkup(entry.getReplyMarkup())
+                          .toResponse(entry.isToResponse())
+                          .userResponse(entry.isUserResponse())
+                          .showUrlPreview(entry.isShowUrlPreview())
+                          .leaveChat(entry.isLeaveChat())
+                          .priority(entry.getPriority())
+                          .doIfAntiBot(antiBot)
+                          .doIfLazyAction(lazyActions.isEmpty() ? null : lazyActions)
+                          .build();
+    }
+
+    /**
+     * If the entry is not removed, the message is sent once again after a restart.
+     *
+     * @since 1.9.0.0
+     */
+    private void remove(String raw) {
+        try {
+            redisTemplateHelper.removeFromOutboxInRedis(raw, key);
+        } catch (Exception e) {
+            log.warn("Can not remove an entry from the outbox!", e);
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void returnToOutbox(String raw,
+                                OutboxEntry entry) {
+        try {
+            redisTemplateHelper.returnToOutboxInRedis(raw, JsonUtil.toJson(entry), key);
+        } catch (Exception e) {
+            log.warn(String.format("Can not return message %s to the outbox - it is sent after a restart!", entry.getId()), e);
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    // </editor-fold>
+
+}
@@ -0,0 +1,321 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.mixram.telegram.bot.services.domain.UpdatesSelector;
+import com.mixram.telegram.bot.services.domain.entity.Update;
+import com.mixram.telegram.bot.services.domain.entity.UpdateHeader;
+import com.mixram.telegram.bot.services.domain.enums.UpdateKind;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.Validate;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads "getUpdates" response without binding it to {@link com.mixram.telegram.bot.services.domain.entity.UpdateResponse}.<br>
+ * Every update is scanned with the streaming parser first: only the fields, that define the kind, the chat and the user of the
+ * update, are read, the rest (texts, photos, nested messages, etc.) are skipped without decoding. Then the update is bound to
+ * {@link Update} only if the selector needs it, otherwise the update is returned with its ID and header only (the offset must go
+ * on anyway, statistics are recorded by the header).
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+class UpdatesStreamReader implements ResponseExtractor<List<Update>> {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private static final JsonFactory JSON_FACTORY = JsonUtil.OBJECT_MAPPER.getFactory();
+    private static final String BOT_COMMAND_TYPE = "bot_command";
+
+    private final UpdatesSelector selector;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    UpdatesStreamReader(UpdatesSelector selector) {
+        Validate.notNull(selector, "Updates selector is not specified!");
+
+        this.selector = selector;
+    }
+
+    // </editor-fold>
+
+
+    @Override
+    public List<Update> extractData(ClientHttpResponse response) throws IOException {
+        return read(IOUtils.toByteArray(response.getBody()));
+    }
+
+    /**
+     * To read "getUpdates" response.
+     *
+     * @param bytes response body.
+     *
+     * @return a list of updates (may be empty); skipped updates have ID and header only.
+     *
+     * @since 1.9.0.0
+     */
+    List<Update> read(byte[] bytes) throws IOException {
+        boolean ok = false;
+        List<Update> result = null;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(bytes)) {
+            Validate.isTrue(parser.nextToken() == JsonToken.START_OBJECT, "Unexpected answer!");
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if ("ok".equals(field)) {
+                    ok = token == JsonToken.VALUE_TRUE;
+                } else if ("result".equals(field) && token == JsonToken.START_ARRAY) {
+                    result = readUpdates(parser, bytes);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        Validate.isTrue(ok, "An error in process of updates getting! %s", new String(bytes, StandardCharsets.UTF_8));
+
+        return result == null ? new ArrayList<>(0) : result;
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private List<Update> readUpdates(JsonParser parser,
+                                     byte[] bytes) throws IOException {
+        List<Update> updates = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            int start = (int) parser.getTokenLocation().getByteOffset();
+            UpdateHeader header = readHeader(parser);
+            int end = (int) parser.getCurrentLocation().getByteOffset();
+
+            if (selector.isNeeded(header)) {
+                updates.add(JsonUtil.OBJECT_MAPPER.readValue(bytes, start, end - start, Update.class));
+            } else {
+                Update skipped = new Update();
+                skipped.setUpdateId(header.getUpdateId());
+                skipped.setSkippedHeader(header);
+
+                updates.add(skipped);
+            }
+        }
+
+        return updates;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static UpdateHeader readHeader(JsonParser parser) throws IOException {
+        UpdateHeader header = new UpdateHeader(null, UpdateKind.OTHER, null, null, false);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "update_id":
+                    header.setUpdateId(parser.getLongValue());
+                    break;
+                case "message":
+                    readMessage(parser, header);
+                    break;
+                case "edited_message":
+                    readMessage(parser, header);
+                    header.setEdited(true);
+                    break;
+                case "callback_query":
+                    readCallbackQuery(parser, header);
+                    header.setKind(UpdateKind.CALLBACK);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        Validate.notNull(header.getUpdateId(), "Update without ID!");
+
+        return header;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static void readCallbackQuery(JsonParser parser,
+                                          UpdateHeader header) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+
+            return;
+        }
+
+        Long userId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("message".equals(field)) {
+                readMessage(parser, header);
+            } else if ("from".equals(field)) {
+                userId = readId(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        //the author of the message is the bot itself
+        header.setUserId(userId);
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static void readMessage(JsonParser parser,
+                                    UpdateHeader header) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+
+            return;
+        }
+
+        boolean members = false;
+        boolean command = false;
+        boolean mediaGroup = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "chat":
+                    header.setChatId(readId(parser));
+                    break;
+                case "from":
+                    header.setUserId(readId(parser));
+                    break;
+                case "new_chat_members":
+                    members |= skipArray(parser);
+                    break;
+                case "left_chat_member":
+                    members |= token == JsonToken.START_OBJECT;
+                    parser.skipChildren();
+                    break;
+                case "entities":
+                    command = readFirstEntityIsCommand(parser);
+                    break;
+                case "media_group_id":
+                    mediaGroup = token != JsonToken.VALUE_NULL;
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        if (members) {
+            header.setKind(UpdateKind.MEMBERS);
+        } else if (command) {
+            header.setKind(UpdateKind.COMMAND);
+        } else if (mediaGroup) {
+            header.setKind(UpdateKind.MEDIA_GROUP);
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static Long readId(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+
+            return null;
+        }
+
+        Long id = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("id".equals(field)) {
+                id = parser.getLongValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return id;
+    }
+
+    /**
+     * The same check as the bot does: the first entity is a command at the very beginning of the text.
+     *
+     * @since 1.9.0.0
+     */
+    private static boolean readFirstEntityIsCommand(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+
+            return false;
+        }
+
+        boolean command = false;
+        if (parser.nextToken() == JsonToken.START_OBJECT) {
+            boolean botCommand = false;
+            int offset = -1;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("type".equals(field)) {
+                    botCommand = BOT_COMMAND_TYPE.equalsIgnoreCase(parser.getText());
+                } else if ("offset".equals(field)) {
+                    offset = parser.getIntValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            command = botCommand && offset == 0;
+        }
+        skipRestOfArray(parser);
+
+        return command;
+    }
+
+    /**
+     * @return true - if the array is not empty.
+     *
+     * @since 1.9.0.0
+     */
+    private static boolean skipArray(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+
+            return false;
+        }
+        if (parser.nextToken() == JsonToken.END_ARRAY) {
+            return false;
+        }
+
+        parser.skipChildren();
+        skipRestOfArray(parser);
+
+        return true;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static void skipRestOfArray(JsonParser parser) throws IOException {
+        while (parser.currentToken() != JsonToken.END_ARRAY) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+
+    // </editor-fold>
+
+}
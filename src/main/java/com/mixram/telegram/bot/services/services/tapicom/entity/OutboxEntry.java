@@ -0,0 +1,63 @@
+package com.mixram.telegram.bot.services.services.tapicom.entity;
+
+import com.mixram.telegram.bot.services.domain.enums.OutboundPriority;
+import com.mixram.telegram.bot.services.services.bot.entity.PostSendHookData;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Message in the outbox: everything to send it and to run its post routines after a restart.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxEntry {
+
+    private String id;
+    private Long chatId;
+    /**
+     * Message to reply to (if "toResponse").
+     */
+    private Long messageId;
+    private String message;
+    private Object replyMarkup;
+    private boolean toResponse;
+    private boolean userResponse;
+    private boolean showUrlPreview;
+    private boolean leaveChat;
+    private OutboundPriority priority;
+    /**
+     * Post routines, that can be restored (others run only if the message is sent by the same process).
+     */
+    private List<PostSendHookData> hooks;
+    /**
+     * To send "something wrong" message to the chat, if the message can not be sent.
+     */
+    private boolean fallback;
+    /**
+     * Language of the "something wrong" message (null - default).
+     */
+    private String languageCode;
+    /**
+     * Number of failed attempts to send the message.
+     */
+    private int attempts;
+    /**
+     * Time of enqueueing, epoch ms.
+     */
+    private long created;
+
+    @Override
+    public String toString() {
+        return JsonUtil.toJson(this);
+    }
+}
@@ -0,0 +1,54 @@
+package com.mixram.telegram.bot.services.shedulers;
+
+import com.mixram.telegram.bot.services.services.tapicom.TelegramAPICommunicationComponent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Component
+public class AdminDigestScheduler implements Scheduler {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final TelegramAPICommunicationComponent communicationComponent;
+
+    private final boolean doSchedule;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+
+    @Autowired
+    public AdminDigestScheduler(@Value("${bot.settings.scheduler.admin-digest.enable:true}") boolean doSchedule,
+                                TelegramAPICommunicationComponent communicationComponent) {
+        this.communicationComponent = communicationComponent;
+        this.doSchedule = doSchedule;
+    }
+
+
+    // </editor-fold>
+
+
+    @Override
+    @Scheduled(cron = "${bot.settings.scheduler.admin-digest.cron-time:0 * * * * *}")
+    public void schedule() {
+        if (!doSchedule) {
+            return;
+        }
+
+        communicationComponent.flushAdminDigest();
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    //
+
+    // </editor-fold>
+}
@@ -8,6 +8,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
+ * New members are checked every "bot.settings.scheduler.anti-bot.delay" ms (a check reads members with passed deadlines only).
+ *
  * @author mixram on 2020-01-20.
  * @since 1.7.0.0
  */
@@ -37,7 +39,7 @@ public class AntiBotScheduler implements Scheduler {
 
 
     @Override
-    @Scheduled(cron = "${bot.settings.scheduler.anti-bot.cron-time}")
+    @Scheduled(fixedDelayString = "${bot.settings.scheduler.anti-bot.delay:1000}")
     public void schedule() {
         if (!doSchedule) {
             return;
@@ -1,16 +1,24 @@
 package com.mixram.telegram.bot.services.shedulers;
 
 import com.mixram.telegram.bot.services.domain.LongPooling;
+import com.mixram.telegram.bot.services.domain.enums.LongPoolingMode;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Component to manage work with schedulers for "long pooling" Telegram communication type.
+ * Component to manage work with schedulers for "long pooling" Telegram communication type.<br>
+ * In {@link LongPoolingMode#LOOP} mode the cron is ignored and updates are requested one after another in a dedicated thread
+ * ("bot.settings.long-pooling.timeout" must be positive, so Telegram API holds every request open).
  *
  * @author mixram on 2018-07-31.
  * @since 0.1.0.0
@@ -21,28 +29,71 @@ public class LongPoolingScheduler implements Scheduler {
 
     // <editor-fold defaultstate="collapsed" desc="***API elements***">
 
+    private static final String LOOP_THREAD_NAME = "long_pooling_loop";
+    /**
+     * Pause after an error in the loop, ms.
+     */
+    private static final long ERROR_PAUSE = 1000;
+
     private final boolean doSchedule;
+    private final LongPoolingMode mode;
 
     private final Set<LongPooling> longPoolings;
 
+    private volatile boolean loopRunning;
+    private Thread loopThread;
+
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="***Util elements***">
 
     @Autowired
     public LongPoolingScheduler(@Value("${bot.settings.scheduler.long-pooling.enable}") boolean doSchedule,
+                                @Value("${bot.settings.scheduler.long-pooling.mode:CRON}") LongPoolingMode mode,
+                                @Value("${bot.settings.long-pooling.timeout:0}") int pollingTimeout,
                                 Set<LongPooling> longPoolings) {
+        Validate.isTrue(!doSchedule || mode != LongPoolingMode.LOOP || pollingTimeout > 0,
+                        "Long polling timeout must be positive in LOOP mode (25-50 seconds are recommended)!");
+
         this.doSchedule = doSchedule;
+        this.mode = mode;
         this.longPoolings = longPoolings;
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void startLoop() {
+        if (!doSchedule || mode != LongPoolingMode.LOOP) {
+            return;
+        }
+        if (longPoolings.stream().noneMatch(LongPooling :: isActive)) {
+            log.info("There are no active long poolings - the loop is not started!");
+
+            return;
+        }
+
+        loopRunning = true;
+        loopThread = new Thread(this :: doLoop, LOOP_THREAD_NAME);
+        loopThread.setDaemon(true);
+        loopThread.start();
+
+        log.info("Long pooling loop is started!");
+    }
+
+    @PreDestroy
+    public void stopLoop() {
+        loopRunning = false;
+        if (loopThread != null) {
+            loopThread.interrupt();
+        }
+    }
+
     // </editor-fold>
 
 
     @Override
     @Scheduled(cron = "${bot.settings.scheduler.long-pooling.cron-time}")
     public void schedule() {
-        if (!doSchedule) {
+        if (!doSchedule || mode != LongPoolingMode.CRON) {
             return;
         }
 
@@ -53,7 +104,27 @@ public class LongPoolingScheduler implements Scheduler {
 
     // <editor-fold defaultstate="collapsed" desc="***Private elements***">
 
-    //
+    /**
+     * @since 1.9.0.0
+     */
+    private void doLoop() {
+        while (loopRunning && !Thread.currentThread().isInterrupted()) {
+            try {
+                //not to do in async - Telegram API returns '409 Conflict'
+                longPoolings.forEach(LongPooling :: check);
+            } catch (Exception e) {
+                log.warn("Long pooling loop error!", e);
+
+                try {
+                    TimeUnit.MILLISECONDS.sleep(ERROR_PAUSE);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        log.info("Long pooling loop is stopped!");
+    }
 
     // </editor-fold>
 
@@ -7,6 +7,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
+ * Media groups, whose debounce times are passed, are checked every "bot.settings.scheduler.market-media-group-action.delay" ms.
+ *
  * @author mixram on 2021-02-16.
  * @since 1.8.8.0
  */
@@ -36,7 +38,7 @@ public class MarketLogicScheduler implements Scheduler {
 
 
     @Override
-    @Scheduled(cron = "${bot.settings.scheduler.market-media-group-action.cron-time}")
+    @Scheduled(fixedDelayString = "${bot.settings.scheduler.market-media-group-action.delay:1000}")
     public void schedule() {
         if (!doSchedule) {
             return;
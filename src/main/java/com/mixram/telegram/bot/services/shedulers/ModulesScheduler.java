@@ -2,6 +2,7 @@ package com.mixram.telegram.bot.services.shedulers;
 
 import com.mixram.telegram.bot.services.modules.Module;
 import com.mixram.telegram.bot.utils.AsyncHelper;
+import com.mixram.telegram.bot.utils.concurrent.Workload;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,7 +11,6 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import java.util.Set;
-import java.util.function.Supplier;
 
 /**
  * @author mixram on 2019-03-29.
@@ -70,7 +70,7 @@ public class ModulesScheduler implements Scheduler {
      * @since 1.2.2.0
      */
     private void doSchedule() {
-        modules.forEach(lp -> asyncHelper.doAsync((Supplier<Void>) () -> {
+        modules.forEach(lp -> asyncHelper.doAsync(Workload.SCRAPE, () -> {
             lp.execute();
 
             return null;
@@ -0,0 +1,54 @@
+package com.mixram.telegram.bot.services.shedulers;
+
+import com.mixram.telegram.bot.services.services.bot.ProcessedUpdatesRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Component
+public class ProcessedUpdatesScheduler implements Scheduler {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final ProcessedUpdatesRegistry processedUpdatesRegistry;
+
+    private final boolean doSchedule;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+
+    @Autowired
+    public ProcessedUpdatesScheduler(@Value("${bot.settings.scheduler.processed-updates.enable:true}") boolean doSchedule,
+                                     ProcessedUpdatesRegistry processedUpdatesRegistry) {
+        this.processedUpdatesRegistry = processedUpdatesRegistry;
+        this.doSchedule = doSchedule;
+    }
+
+
+    // </editor-fold>
+
+
+    @Override
+    @Scheduled(cron = "${bot.settings.scheduler.processed-updates.cron-time:*/5 * * * * *}")
+    public void schedule() {
+        if (!doSchedule) {
+            return;
+        }
+
+        processedUpdatesRegistry.flush();
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    //
+
+    // </editor-fold>
+}
@@ -2,6 +2,7 @@ package com.mixram.telegram.bot.services.shedulers;
 
 import com.mixram.telegram.bot.services.reminders.DiscountsReminder;
 import com.mixram.telegram.bot.utils.AsyncHelper;
+import com.mixram.telegram.bot.utils.concurrent.Workload;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,7 +11,6 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import java.util.Set;
-import java.util.function.Supplier;
 
 /**
  * @author mixram on 2019-04-26.
@@ -65,7 +65,7 @@ public class RemindersScheduler implements Scheduler {
      * @since 1.2.2.0
      */
     private void doSchedule() {
-        reminders.forEach(lp -> asyncHelper.doAsync((Supplier<Void>) () -> {
+        reminders.forEach(lp -> asyncHelper.doAsync(Workload.TELEGRAM_SEND, () -> {
             lp.remind();
 
             return null;
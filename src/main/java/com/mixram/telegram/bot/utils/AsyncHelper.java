@@ -1,33 +1,58 @@
 package com.mixram.telegram.bot.utils;
 
-import org.springframework.scheduling.annotation.Async;
+import com.mixram.telegram.bot.utils.concurrent.Workload;
+import com.mixram.telegram.bot.utils.concurrent.WorkloadExecutors;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 
 /**
  * @author mixram on 2019-03-29.
  * @since 0.1.1.0
  */
+@Log4j2
 @Component
 public class AsyncHelper {
 
     // <editor-fold defaultstate="collapsed" desc="***API elements***">
 
-    //
+    private final WorkloadExecutors workloadExecutors;
 
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="***Util elements***">
 
-    //
+    @Autowired
+    public AsyncHelper(WorkloadExecutors workloadExecutors) {
+        this.workloadExecutors = workloadExecutors;
+    }
 
     // </editor-fold>
 
 
-    @Async
-    public void doAsync(Supplier<?> supplier) {
-        supplier.get();
+    /**
+     * To run the supplier in the executor of the workload. Exceptions (including rejection of the task) are logged.
+     *
+     * @param workload workload.
+     * @param supplier task.
+     *
+     * @since 1.9.0.0
+     */
+    public void doAsync(Workload workload,
+                        Supplier<?> supplier) {
+        try {
+            workloadExecutors.submit(workload, supplier)
+                             .exceptionally(e -> {
+                                 log.warn("Exception in {} task!", workload.getName(), e);
+
+                                 return null;
+                             });
+        } catch (RejectedExecutionException e) {
+            log.warn("Task for {} is rejected!", workload.getName(), e);
+        }
     }
 
 
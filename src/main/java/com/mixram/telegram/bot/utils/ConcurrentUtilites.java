@@ -4,6 +4,8 @@ import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
@@ -23,6 +25,22 @@ public class ConcurrentUtilites {
      * @since 0.1.1.0
      */
     public static <T> CompletableFuture<T> supplyAsyncWithLocalThreadContext(Function<Void, T> function) {
+        return supplyAsyncWithLocalThreadContext(function, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * To run function in the executor with {@link RequestContextHolder} data from LocalThread asynchronously.
+     *
+     * @param function function to be run in separate thread asynchronously.
+     * @param executor executor to run function in (blocking functions should not be run in {@link ForkJoinPool#commonPool()}).
+     * @param <T>      type to prepare {@link CompletableFuture} with.
+     *
+     * @return instance of {@link CompletableFuture} with results of function applying.
+     *
+     * @since 1.9.0.0
+     */
+    public static <T> CompletableFuture<T> supplyAsyncWithLocalThreadContext(Function<Void, T> function,
+                                                                             Executor executor) {
         final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
         //        final SecurityContext context = SecurityContextHolder.getContext();
 
@@ -35,6 +53,6 @@ public class ConcurrentUtilites {
                 RequestContextHolder.resetRequestAttributes();
                 //                SecurityContextHolder.clearContext();
             }
-        });
+        }, executor);
     }
 }
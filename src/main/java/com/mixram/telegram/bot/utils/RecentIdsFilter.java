@@ -0,0 +1,182 @@
+package com.mixram.telegram.bot.utils;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Bounded set of the most recently added IDs.<br>
+ * IDs are kept in a ring buffer (the oldest ID is evicted when the buffer is full) and are indexed with an open-addressing hash
+ * set of primitive longs (linear probing, load factor up to 0.5), so both the check and the addition take O(1) and do not box
+ * IDs.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class RecentIdsFilter {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final long[] ring;
+    private final long[] table;
+    private final boolean[] used;
+    private final int mask;
+
+    private int head;
+    private int size;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    /**
+     * @param capacity max number of IDs to keep.
+     *
+     * @since 1.9.0.0
+     */
+    public RecentIdsFilter(int capacity) {
+        Validate.isTrue(capacity > 0 && capacity <= 1 << 29, "Capacity must be in 1-%s!", 1 << 29);
+
+        this.ring = new long[capacity];
+
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        this.table = new long[tableSize];
+        this.used = new boolean[tableSize];
+        this.mask = tableSize - 1;
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To check if the ID was added.
+     *
+     * @param id ID.
+     *
+     * @return true - if the ID is among the recent ones, otherwise - false.
+     *
+     * @since 1.9.0.0
+     */
+    public synchronized boolean contains(long id) {
+        return indexOf(id) >= 0;
+    }
+
+    /**
+     * To add the ID (if it is not among the recent ones yet).
+     *
+     * @param id ID.
+     *
+     * @return true - if the ID was added, false - if it is among the recent ones already.
+     *
+     * @since 1.9.0.0
+     */
+    public synchronized boolean add(long id) {
+        if (contains(id)) {
+            return false;
+        }
+
+        int tail = (head + size) % ring.length;
+        if (size == ring.length) {
+            remove(ring[head]);
+            head = (head + 1) % ring.length;
+        } else {
+            size++;
+        }
+        ring[tail] = id;
+        insert(id);
+
+        return true;
+    }
+
+    /**
+     * To get all the recent IDs.
+     *
+     * @return IDs from the oldest to the newest.
+     *
+     * @since 1.9.0.0
+     */
+    public synchronized long[] toArray() {
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = ring[(head + i) % ring.length];
+        }
+
+        return result;
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @return index in the table or -1.
+     *
+     * @since 1.9.0.0
+     */
+    private int indexOf(long id) {
+        for (int i = slot(id); used[i]; i = (i + 1) & mask) {
+            if (table[i] == id) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void insert(long id) {
+        int i = slot(id);
+        while (used[i]) {
+            i = (i + 1) & mask;
+        }
+
+        table[i] = id;
+        used[i] = true;
+    }
+
+    /**
+     * Backward shift deletion: IDs after the removed one are moved back, so no chain of probes is broken.
+     *
+     * @since 1.9.0.0
+     */
+    private void remove(long id) {
+        int hole = indexOf(id);
+        if (hole < 0) {
+            return;
+        }
+
+        for (int i = (hole + 1) & mask; used[i]; i = (i + 1) & mask) {
+            int home = slot(table[i]);
+            //the ID may be moved to the hole only if its home slot is not in (hole, i]
+            boolean homeBetween = hole <= i ? hole < home && home <= i : hole < home || home <= i;
+            if (!homeBetween) {
+                table[hole] = table[i];
+                hole = i;
+            }
+        }
+
+        used[hole] = false;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private int slot(long id) {
+        return (int) mix(id) & mask;
+    }
+
+    /**
+     * "splitmix64" finalizer.
+     *
+     * @since 1.9.0.0
+     */
+    private static long mix(long id) {
+        long z = id + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return z ^ (z >>> 31);
+    }
+
+    // </editor-fold>
+
+}
@@ -0,0 +1,19 @@
+package com.mixram.telegram.bot.utils.concurrent;
+
+/**
+ * How blocking tasks (Telegram API, Redis, etc.) are executed.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum ExecutionMode {
+
+    /**
+     * Bounded pool of platform threads.
+     */
+    POOLED,
+    /**
+     * New virtual thread per task (JDK 21+), falls back to {@link #POOLED} on older JDKs.
+     */
+    VIRTUAL
+}
@@ -0,0 +1,180 @@
+package com.mixram.telegram.bot.utils.concurrent;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates executors for blocking tasks according to {@link ExecutionMode}.<br>
+ * Virtual threads are looked up by reflection, so the code is compiled for older JDKs and uses virtual threads only when it is run
+ * on JDK 21+. A virtual thread releases its carrier while it is blocked on I/O, so slow Telegram API responses do not occupy
+ * scarce platform threads.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+public final class ExecutorFactory {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    /**
+     * "Thread.ofVirtual()" (null - if virtual threads are not supported).
+     */
+    private static final Method VIRTUAL_BUILDER;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method virtualBuilder = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+
+            virtualBuilder = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+            //JDK 19-20: preview API, is not available without "--enable-preview"
+            virtualBuilder.invoke(null);
+        } catch (Exception e) {
+            virtualBuilder = null;
+        }
+
+        VIRTUAL_BUILDER = virtualBuilder;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    private ExecutorFactory() {
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To check if the JDK supports virtual threads.
+     *
+     * @return true - if virtual threads are supported, otherwise - false.
+     *
+     * @since 1.9.0.0
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_BUILDER != null;
+    }
+
+    /**
+     * To define the mode, that may be used in the JDK.
+     *
+     * @param mode desired mode.
+     *
+     * @return the mode or {@link ExecutionMode#POOLED} - if virtual threads are not supported.
+     *
+     * @since 1.9.0.0
+     */
+    public static ExecutionMode resolve(ExecutionMode mode) {
+        Validate.notNull(mode, "Execution mode is not specified!");
+
+        if (mode == ExecutionMode.VIRTUAL && !isVirtualThreadsSupported()) {
+            log.warn("Virtual threads are not supported by JDK {} - pooled mode is used.",
+                     () -> System.getProperty("java.version"));
+
+            return ExecutionMode.POOLED;
+        }
+
+        return mode;
+    }
+
+    /**
+     * To create an executor.
+     *
+     * @param mode       execution mode.
+     * @param namePrefix prefix of threads` names.
+     * @param poolSize   number of threads for {@link ExecutionMode#POOLED} (is ignored for {@link ExecutionMode#VIRTUAL}).
+     *
+     * @return executor; it must be shut down, when it is not needed anymore.
+     *
+     * @since 1.9.0.0
+     */
+    public static ExecutorService newExecutor(ExecutionMode mode,
+                                              String namePrefix,
+                                              int poolSize) {
+        Validate.notBlank(namePrefix, "Name prefix is not specified!");
+
+        if (resolve(mode) == ExecutionMode.VIRTUAL) {
+            return newVirtualExecutor(namePrefix);
+        }
+
+        Validate.isTrue(poolSize > 0, "Pool size must be positive!");
+
+        return Executors.newFixedThreadPool(poolSize, newThreadFactory(ExecutionMode.POOLED, namePrefix));
+    }
+
+    /**
+     * To create a factory of threads (e.g., for a bounded pool with virtual threads).
+     *
+     * @param mode       execution mode.
+     * @param namePrefix prefix of threads` names.
+     *
+     * @return factory of daemon platform threads or of virtual threads.
+     *
+     * @since 1.9.0.0
+     */
+    public static ThreadFactory newThreadFactory(ExecutionMode mode,
+                                                 String namePrefix) {
+        Validate.notBlank(namePrefix, "Name prefix is not specified!");
+
+        if (resolve(mode) == ExecutionMode.VIRTUAL) {
+            return newVirtualThreadFactory(namePrefix);
+        }
+
+        return new ThreadFactoryBuilder().setNameFormat(namePrefix + "%d")
+                                         .setDaemon(true)
+                                         .build();
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static ExecutorService newVirtualExecutor(String namePrefix) {
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, newVirtualThreadFactory(namePrefix));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can not create virtual threads executor!", e);
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static ThreadFactory newVirtualThreadFactory(String namePrefix) {
+        try {
+            Object builder = VIRTUAL_BUILDER.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, namePrefix, 0L);
+
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can not create virtual threads factory!", e);
+        }
+    }
+
+    // </editor-fold>
+
+}
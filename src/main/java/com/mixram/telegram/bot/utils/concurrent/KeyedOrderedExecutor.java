@@ -0,0 +1,228 @@
+package com.mixram.telegram.bot.utils.concurrent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Executes tasks serially for the same key and in parallel for different keys.<br>
+ * Keys with pending tasks are served in round-robin - one task per turn, so a key with a long queue can not starve the others. The
+ * total number of queued tasks is bounded: {@link #submit(Object, Supplier)} blocks while the queue is full.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+public class KeyedOrderedExecutor<K> implements MeterBinder {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final String name;
+    private final int parallelism;
+    private final int capacity;
+    private final Executor executor;
+
+    private final Object lock = new Object();
+    /**
+     * Keys with pending or running tasks. A key is either in {@link #ready} or is running at the moment.
+     */
+    private final Map<K, Deque<Runnable>> queues = new HashMap<>();
+    private final Deque<K> ready = new ArrayDeque<>();
+
+    private volatile int queued;
+    private volatile int running;
+    private volatile boolean shutdown;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    /**
+     * @param name        name for logs and metrics.
+     * @param parallelism max number of keys processed simultaneously.
+     * @param capacity    max number of queued (not started) tasks.
+     * @param executor    executor to run tasks in.
+     *
+     * @since 1.9.0.0
+     */
+    public KeyedOrderedExecutor(String name,
+                                int parallelism,
+                                int capacity,
+                                Executor executor) {
+        Validate.notBlank(name, "Name is not specified!");
+        Validate.isTrue(parallelism > 0, "Parallelism must be positive!");
+        Validate.isTrue(capacity > 0, "Capacity must be positive!");
+        Validate.notNull(executor, "Executor is not specified!");
+
+        this.name = name;
+        this.parallelism = parallelism;
+        this.capacity = capacity;
+        this.executor = executor;
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To submit a task.
+     *
+     * @param key  key of the task (tasks with the same key are executed in the order of submission).
+     * @param task task.
+     *
+     * @return future with the result of the task.
+     *
+     * @throws RejectedExecutionException if the executor is shut down.
+     * @since 1.9.0.0
+     */
+    public <T> CompletableFuture<T> submit(K key,
+                                           Supplier<T> task) throws RejectedExecutionException {
+        Validate.notNull(key, "Key is not specified!");
+        Validate.notNull(task, "Task is not specified!");
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable runnable = () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+
+        synchronized (lock) {
+            while (queued >= capacity && !shutdown) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    throw new RejectedExecutionException("Interrupted while waiting for a free place in " + name + "!", e);
+                }
+            }
+            if (shutdown) {
+                throw new RejectedExecutionException(name + " is shut down!");
+            }
+
+            Deque<Runnable> queue = queues.get(key);
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queues.put(key, queue);
+                ready.addLast(key);
+            }
+            queue.addLast(runnable);
+            queued++;
+
+            doSchedule();
+        }
+
+        return future;
+    }
+
+    /**
+     * To stop accepting of new tasks (already queued tasks will be executed). If the underlying executor is an
+     * {@link ExecutorService} - it is shut down too.
+     *
+     * @since 1.9.0.0
+     */
+    public void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            lock.notifyAll();
+        }
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bot.dispatcher.queued", this, e -> e.queued)
+             .tag("name", name)
+             .description("Number of tasks waiting for execution")
+             .register(registry);
+        Gauge.builder("bot.dispatcher.running", this, e -> e.running)
+             .tag("name", name)
+             .description("Number of tasks being executed")
+             .register(registry);
+        Gauge.builder("bot.dispatcher.keys", this, e -> e.countKeys())
+             .tag("name", name)
+             .description("Number of keys with pending or running tasks")
+             .register(registry);
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * Must be called under the lock.
+     *
+     * @since 1.9.0.0
+     */
+    private void doSchedule() {
+        while (running < parallelism && !ready.isEmpty()) {
+            K key = ready.pollFirst();
+            running++;
+            try {
+                executor.execute(() -> runNext(key));
+            } catch (RejectedExecutionException e) {
+                log.warn("{} ==> executor has rejected a task!", name, e);
+
+                running--;
+                ready.addFirst(key);
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void runNext(K key) {
+        Runnable task;
+        synchronized (lock) {
+            task = queues.get(key).pollFirst();
+            queued--;
+            lock.notifyAll();
+        }
+
+        try {
+            task.run();
+        } finally {
+            synchronized (lock) {
+                running--;
+                if (queues.get(key).isEmpty()) {
+                    queues.remove(key);
+                } else {
+                    //to the end of the line - to let the other keys go
+                    ready.addLast(key);
+                }
+
+                doSchedule();
+            }
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private double countKeys() {
+        synchronized (lock) {
+            return queues.size();
+        }
+    }
+
+    // </editor-fold>
+
+}
@@ -0,0 +1,27 @@
+package com.mixram.telegram.bot.utils.concurrent;
+
+/**
+ * What to do with a task, when the queue of an executor is full.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum RejectionPolicy {
+
+    /**
+     * To throw {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    ABORT,
+    /**
+     * To run the task in the caller`s thread (slows down the producer).
+     */
+    CALLER_RUNS,
+    /**
+     * To drop the task.
+     */
+    DISCARD,
+    /**
+     * To drop the oldest queued task and to queue the new one.
+     */
+    DISCARD_OLDEST
+}
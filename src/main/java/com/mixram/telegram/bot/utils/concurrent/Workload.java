@@ -0,0 +1,48 @@
+package com.mixram.telegram.bot.utils.concurrent;
+
+import lombok.Getter;
+
+/**
+ * Kinds of asynchronous work; every kind has its own executor (bulkhead), so a flood of one kind does not delay the others.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum Workload {
+
+    /**
+     * Messages to chats (replies, reminders, etc.).
+     */
+    TELEGRAM_SEND("telegram-send", 8, 1000, RejectionPolicy.CALLER_RUNS),
+    /**
+     * Parsing of shops` sites.
+     */
+    SCRAPE("scrape", 2, 10, RejectionPolicy.ABORT),
+    /**
+     * Notifications for admins.
+     */
+    ADMIN_NOTIFY("admin-notify", 1, 100, RejectionPolicy.DISCARD_OLDEST),
+    /**
+     * Anti-bot checks, kicks, CAS, etc.
+     */
+    MODERATION("moderation", 4, 500, RejectionPolicy.CALLER_RUNS);
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int defaultThreads;
+    @Getter
+    private final int defaultQueueCapacity;
+    @Getter
+    private final RejectionPolicy defaultRejectionPolicy;
+
+    Workload(String name,
+             int defaultThreads,
+             int defaultQueueCapacity,
+             RejectionPolicy defaultRejectionPolicy) {
+        this.name = name;
+        this.defaultThreads = defaultThreads;
+        this.defaultQueueCapacity = defaultQueueCapacity;
+        this.defaultRejectionPolicy = defaultRejectionPolicy;
+    }
+}
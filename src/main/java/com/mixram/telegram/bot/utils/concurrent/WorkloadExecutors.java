@@ -0,0 +1,293 @@
+package com.mixram.telegram.bot.utils.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Registry of executors per {@link Workload} (bulkheads): every workload has its own threads, bounded queue and rejection policy.
+ * <p>
+ * Metrics (tag "name" - name of the workload):
+ * <ul>
+ * <li>"executor.*" - queued tasks, active threads, etc. (see {@link ExecutorServiceMetrics});</li>
+ * <li>"bot.executor.wait" - time of tasks in the queue;</li>
+ * <li>"bot.executor.execution" - time of tasks execution;</li>
+ * <li>"bot.executor.rejected" - number of rejected (or discarded) tasks.</li>
+ * </ul>
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+public class WorkloadExecutors implements MeterBinder {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final Map<Workload, Bulkhead> bulkheads = new EnumMap<>(Workload.class);
+
+    private static final class Bulkhead {
+
+        private final Workload workload;
+        private final RejectionPolicy rejectionPolicy;
+        private ThreadPoolExecutor executor;
+
+        private volatile Timer waitTimer;
+        private volatile Timer executionTimer;
+        private volatile Counter rejectedCounter;
+
+        private Bulkhead(Workload workload,
+                         RejectionPolicy rejectionPolicy) {
+            this.workload = workload;
+            this.rejectionPolicy = rejectionPolicy;
+        }
+    }
+
+    /**
+     * Task with timings.
+     */
+    private static final class Task implements Runnable {
+
+        private final Bulkhead bulkhead;
+        private final Runnable runnable;
+        /**
+         * Future to fail, if the task is discarded (may be null).
+         */
+        private final CompletableFuture<?> future;
+        private final long queuedAt = System.nanoTime();
+
+        private Task(Bulkhead bulkhead,
+                     Runnable runnable,
+                     CompletableFuture<?> future) {
+            this.bulkhead = bulkhead;
+            this.runnable = runnable;
+            this.future = future;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            record(bulkhead.waitTimer, startedAt - queuedAt);
+            try {
+                runnable.run();
+            } finally {
+                record(bulkhead.executionTimer, System.nanoTime() - startedAt);
+            }
+        }
+
+        private void discard() {
+            if (future != null) {
+                future.completeExceptionally(new RejectedExecutionException(
+                        "Task is discarded by " + bulkhead.workload.getName() + " executor!"));
+            }
+        }
+
+        private static void record(Timer timer,
+                                   long nanos) {
+            if (timer != null) {
+                timer.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    /**
+     * @param mode     execution mode (in {@link ExecutionMode#VIRTUAL} mode the pools consist of virtual threads, but are bounded as
+     *                 well).
+     * @param settings settings by workloads` names (may be empty - defaults of workloads are used).
+     *
+     * @since 1.9.0.0
+     */
+    public WorkloadExecutors(ExecutionMode mode,
+                             Map<String, WorkloadSettings> settings) {
+        Validate.notNull(settings, "Settings are not specified!");
+
+        for (Workload workload : Workload.values()) {
+            WorkloadSettings workloadSettings = settings.get(workload.getName());
+            bulkheads.put(workload, createBulkhead(mode, workload, workloadSettings == null ? new WorkloadSettings() :
+                                                                   workloadSettings));
+        }
+        settings.keySet().stream()
+                .filter(name -> bulkheads.keySet().stream().noneMatch(w -> w.getName().equals(name)))
+                .forEach(name -> log.warn("Unknown workload in executors settings: '{}'!", name));
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To submit a task.
+     *
+     * @param workload workload of the task.
+     * @param task     task.
+     *
+     * @return future with the result of the task (is failed with {@link RejectedExecutionException} if the task is discarded).
+     *
+     * @throws RejectedExecutionException if the task is rejected ({@link RejectionPolicy#ABORT}) or the executor is shut down.
+     * @since 1.9.0.0
+     */
+    public <T> CompletableFuture<T> submit(Workload workload,
+                                           Supplier<T> task) throws RejectedExecutionException {
+        Validate.notNull(task, "Task is not specified!");
+
+        Bulkhead bulkhead = getBulkhead(workload);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        bulkhead.executor.execute(new Task(bulkhead, () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }, future));
+
+        return future;
+    }
+
+    /**
+     * To get an executor of the workload (e.g., for {@link CompletableFuture#runAsync(Runnable, Executor)}).
+     *
+     * @param workload workload.
+     *
+     * @return executor.
+     *
+     * @since 1.9.0.0
+     */
+    public Executor get(Workload workload) {
+        Bulkhead bulkhead = getBulkhead(workload);
+
+        return runnable -> bulkhead.executor.execute(new Task(bulkhead, runnable, null));
+    }
+
+    /**
+     * To stop accepting of new tasks (already queued tasks will be executed).
+     *
+     * @since 1.9.0.0
+     */
+    public void shutdown() {
+        bulkheads.values().forEach(b -> b.executor.shutdown());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bulkheads.values().forEach(b -> {
+            Tags tags = Tags.of("name", b.workload.getName());
+
+            //"name" tag is added by the binder itself
+            new ExecutorServiceMetrics(b.executor, b.workload.getName(), Collections.emptyList()).bindTo(registry);
+            b.waitTimer = Timer.builder("bot.executor.wait")
+                               .tags(tags)
+                               .description("Time of tasks in the queue")
+                               .register(registry);
+            b.executionTimer = Timer.builder("bot.executor.execution")
+                                    .tags(tags)
+                                    .description("Time of tasks execution")
+                                    .register(registry);
+            b.rejectedCounter = Counter.builder("bot.executor.rejected")
+                                       .tags(tags)
+                                       .description("Number of rejected or discarded tasks")
+                                       .register(registry);
+        });
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private Bulkhead getBulkhead(Workload workload) {
+        Validate.notNull(workload, "Workload is not specified!");
+
+        return bulkheads.get(workload);
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static Bulkhead createBulkhead(ExecutionMode mode,
+                                           Workload workload,
+                                           WorkloadSettings settings) {
+        int threads = settings.getThreads() == null ? workload.getDefaultThreads() : settings.getThreads();
+        int queueCapacity = settings.getQueueCapacity() == null ? workload.getDefaultQueueCapacity() : settings.getQueueCapacity();
+        RejectionPolicy rejectionPolicy = settings.getRejectionPolicy() == null ? workload.getDefaultRejectionPolicy() :
+                                          settings.getRejectionPolicy();
+        Validate.isTrue(threads > 0, "Number of threads for %s must be positive!", workload.getName());
+        Validate.isTrue(queueCapacity > 0, "Queue capacity for %s must be positive!", workload.getName());
+
+        Bulkhead bulkhead = new Bulkhead(workload, rejectionPolicy);
+        bulkhead.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                                                   new LinkedBlockingQueue<>(queueCapacity),
+                                                   ExecutorFactory.newThreadFactory(mode, workload.getName() + "_"),
+                                                   (r, e) -> reject(bulkhead, r, e));
+        bulkhead.executor.allowCoreThreadTimeOut(true);
+
+        log.info("Executor for {}: threads - {}, queue - {}, rejection policy - {}.",
+                 workload :: getName,
+                 () -> threads,
+                 () -> queueCapacity,
+                 () -> rejectionPolicy);
+
+        return bulkhead;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static void reject(Bulkhead bulkhead,
+                               Runnable runnable,
+                               ThreadPoolExecutor executor) {
+        if (bulkhead.rejectedCounter != null) {
+            bulkhead.rejectedCounter.increment();
+        }
+
+        String name = bulkhead.workload.getName();
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException(name + " executor is shut down!");
+        }
+
+        switch (bulkhead.rejectionPolicy) {
+            case ABORT:
+                throw new RejectedExecutionException(name + " executor is full!");
+            case CALLER_RUNS:
+                runnable.run();
+                break;
+            case DISCARD:
+                log.warn("{} executor is full - the task is discarded!", name);
+                discard(runnable);
+                break;
+            case DISCARD_OLDEST:
+                log.warn("{} executor is full - the oldest task is discarded!", name);
+                discard(executor.getQueue().poll());
+                executor.execute(runnable);
+                break;
+            default:
+                throw new UnsupportedOperationException(String.format("Unexpected rejection policy: '%s'!",
+                                                                      bulkhead.rejectionPolicy));
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static void discard(Runnable runnable) {
+        if (runnable instanceof Task) {
+            ((Task) runnable).discard();
+        }
+    }
+
+    // </editor-fold>
+
+}
@@ -0,0 +1,37 @@
+package com.mixram.telegram.bot.utils.concurrent;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Settings of an executor for a {@link Workload}; not specified values are taken from the workload`s defaults.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkloadSettings {
+
+    /**
+     * Max number of simultaneously running tasks.
+     */
+    @JsonProperty("threads")
+    private Integer threads;
+    /**
+     * Max number of waiting tasks.
+     */
+    @JsonProperty("queue-capacity")
+    private Integer queueCapacity;
+    @JsonProperty("rejection-policy")
+    private RejectionPolicy rejectionPolicy;
+
+    @Override
+    public String toString() {
+        return JsonUtil.toJson(this);
+    }
+}
@@ -1,19 +1,28 @@
 package com.mixram.telegram.bot.utils.htmlparser;
 
+import com.google.common.collect.ImmutableMap;
 import com.mixram.telegram.bot.services.domain.enums.PlasticType;
 import com.mixram.telegram.bot.utils.htmlparser.entity.ParseData;
 import com.mixram.telegram.bot.utils.htmlparser.entity.ParseDataSettings;
+import com.mixram.telegram.bot.utils.rest.RestClient;
+import com.mixram.telegram.bot.utils.rest.RestClientPools;
+import com.mixram.telegram.bot.utils.rest.RestClientProfile;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,10 +35,20 @@ abstract class HtmlPageShopParser implements HtmlPageParser {
 
     // <editor-fold defaultstate="collapsed" desc="***API elements***">
 
+    private static final Map<String, String> HEADERS = ImmutableMap.of(
+            "accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,image/apng,*/*;q=0.8",
+            //"accept-encoding", "gzip, deflate, br" //causes parse error in Monofilament
+            "accept-language", "en-US,en;q=0.9",
+            "cache-control", "max-age=0",
+            "user-agent",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_13_6) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/71.0.3578.80 Safari/537.36");
+
     private final Pattern patternNumeric = Pattern.compile("\\d+");
 
     private final String mainElementClassName;
 
+    private RestClient restClient;
+
     // </editor-fold>
 
     // <editor-fold defaultstate="collapsed" desc="***Util elements***">
@@ -38,6 +57,14 @@ abstract class HtmlPageShopParser implements HtmlPageParser {
         this.mainElementClassName = mainElementClassName;
     }
 
+    /**
+     * @since 1.9.0.0
+     */
+    @Autowired
+    public void setRestClientPools(RestClientPools restClientPools) {
+        this.restClient = restClientPools.get(RestClientProfile.SCRAPING);
+    }
+
     // </editor-fold>
 
 
@@ -46,15 +73,15 @@ abstract class HtmlPageShopParser implements HtmlPageParser {
         log.debug("URL to parse: '{}'", () -> parseData);
 
         try {
-            Document doc = Jsoup.connect(parseData.getCommonUrl())
-                                .header("accept",
-                                        "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,image/apng,*/*;q=0.8")
-                                //                                .header("accept-encoding", "gzip, deflate, br") //causes parse error in Monofilament
-                                .header("accept-language", "en-US,en;q=0.9")
-                                .header("cache-control", "max-age=0")
-                                .header("user-agent",
-                                        "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_13_6) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/71.0.3578.80 Safari/537.36")
-                                .get();
+            String url = parseData.getCommonUrl();
+            Document doc = restClient.get(url, null, HEADERS, response -> {
+                MediaType contentType = response.getHeaders().getContentType();
+                Charset charset = contentType == null ? null : contentType.getCharset();
+
+                //without charset in headers Jsoup detects it by the page itself
+                return Jsoup.parse(response.getBody(), charset == null ? null : charset.name(), url);
+            });
+            Validate.notNull(doc, "Empty page!");
 
             List<ParseData> pData = new ArrayList<>();
 
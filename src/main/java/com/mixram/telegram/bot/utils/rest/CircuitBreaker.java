@@ -0,0 +1,125 @@
+package com.mixram.telegram.bot.utils.rest;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker of an endpoint: after "failureThreshold" failures in a row the circuit is opened and requests are rejected at
+ * once; after "openDuration" one trial request is let through (half-open state) - its result closes or opens the circuit again.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public final class CircuitBreaker {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDuration;
+
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+    private boolean trialInProgress;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    /**
+     * @param name             name of the endpoint.
+     * @param failureThreshold number of failures in a row to open the circuit.
+     * @param openDuration     time, while the circuit is open, ms.
+     *
+     * @since 1.9.0.0
+     */
+    public CircuitBreaker(String name,
+                          int failureThreshold,
+                          long openDuration) {
+        Validate.isTrue(failureThreshold > 0, "Failure threshold must be positive!");
+        Validate.isTrue(openDuration > 0, "Open duration must be positive!");
+
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = TimeUnit.MILLISECONDS.toNanos(openDuration);
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To ask for permission to send a request.
+     *
+     * @return true - if the request may be sent (the result must be reported by {@link #onSuccess()} or {@link #onFailure()}).
+     *
+     * @since 1.9.0.0
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openDuration) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInProgress = true;
+
+                return true;
+            case HALF_OPEN:
+                if (trialInProgress) {
+                    return false;
+                }
+                trialInProgress = true;
+
+                return true;
+            default:
+                throw new UnsupportedOperationException(String.format("Unexpected state: '%s'!", state));
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+        trialInProgress = false;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    public synchronized void onFailure() {
+        trialInProgress = false;
+        failures++;
+        if (state == State.HALF_OPEN || failures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    //
+
+    // </editor-fold>
+
+}
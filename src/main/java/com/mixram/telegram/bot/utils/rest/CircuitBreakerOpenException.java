@@ -0,0 +1,16 @@
+package com.mixram.telegram.bot.utils.rest;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * The request is rejected, because the circuit of the endpoint is open.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class CircuitBreakerOpenException extends RestClientException {
+
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
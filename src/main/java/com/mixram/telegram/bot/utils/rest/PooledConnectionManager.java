@@ -0,0 +1,94 @@
+package com.mixram.telegram.bot.utils.rest;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link PoolingHttpClientConnectionManager}, that reports time of waiting for a pooled connection (lease wait).
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+class PooledConnectionManager extends PoolingHttpClientConnectionManager {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private volatile LongConsumer leaseWaitListener;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    /**
+     * @param socketFactoryRegistry socket factories by schemes.
+     * @param secondsToLive         time to live of connections, seconds.
+     *
+     * @since 1.9.0.0
+     */
+    PooledConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry,
+                            long secondsToLive) {
+        super(socketFactoryRegistry, null, null, null, secondsToLive, TimeUnit.SECONDS);
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * @param leaseWaitListener listener of lease waits, nanoseconds (may be null).
+     *
+     * @since 1.9.0.0
+     */
+    void setLeaseWaitListener(LongConsumer leaseWaitListener) {
+        this.leaseWaitListener = leaseWaitListener;
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route,
+                                               Object state) {
+        ConnectionRequest request = super.requestConnection(route, state);
+
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout,
+                                            TimeUnit tunit) throws InterruptedException, ExecutionException,
+                                                                   ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                try {
+                    return request.get(timeout, tunit);
+                } finally {
+                    onLeaseWait(System.nanoTime() - start);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void onLeaseWait(long nanos) {
+        LongConsumer listener = leaseWaitListener;
+        if (listener != null) {
+            listener.accept(nanos);
+        }
+    }
+
+    // </editor-fold>
+
+}
@@ -1,10 +1,14 @@
 package com.mixram.telegram.bot.utils.rest;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.OutputStream;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
@@ -35,6 +39,27 @@ public interface RestClient {
              Map<String, String> headers,
              OutputStream stream);
 
+    /**
+     * To send GET request and to read the response by the extractor (the response body is not converted by message converters).
+     *
+     * @since 1.9.0.0
+     */
+    <T> T get(String url,
+              Map<String, String> params,
+              Map<String, String> headers,
+              ResponseExtractor<T> extractor);
+
+    /**
+     * To send a prepared request: the body is written by the callback right to the request, the response is read by the extractor
+     * (message converters are not used).
+     *
+     * @since 1.9.0.0
+     */
+    <T> T execute(URI uri,
+                  HttpMethod method,
+                  RequestCallback callback,
+                  ResponseExtractor<T> extractor);
+
     <T> T get(String url,
               Map<String, String> headers,
               Class<T> responseType);
@@ -2,18 +2,21 @@ package com.mixram.telegram.bot.utils.rest;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
 import org.apache.http.config.SocketConfig;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.ssl.SSLContextBuilder;
-import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
@@ -76,7 +79,7 @@ class RestClientFactory {
      * @param timeoutResponse          waiting for the remote server answer timeout after request been sent.
      * @param secondsToLive            waiting timeout in seconds for closing not active connections in a pool.
      * @param sslDisabled              flag of SSL disabled.
-     * @param bufferBody               true - to buffer body for POST/PUT, false - not.
+     * @param bufferBody               true - to buffer body for POST/PUT, false - to stream it (through the pool as well).
      * @param interceptors             the list of interceptors for rest client (mar be null).
      * @param messageConverters        the list of message converters (may be null).
      *
@@ -96,8 +99,32 @@ class RestClientFactory {
                                         List<ClientHttpRequestInterceptor> interceptors,
                                         List<HttpMessageConverter<?>> messageConverters) {
 
-        PoolingHttpClientConnectionManager cm = new PoolingHttpClientConnectionManager(secondsToLive,
-                                                                                       TimeUnit.SECONDS);
+        PooledConnectionManager cm = newConnectionManager(maxConnections, maxConnectionsPerRoute, timeoutResponse,
+                                                          secondsToLive, sslDisabled);
+        CloseableHttpClient httpClient = newHttpClient(cm, connectTimeout, connectionRequestTimeout, timeoutResponse, 0);
+
+        return newRestTemplate(httpClient, bufferBody, interceptors, messageConverters);
+    }
+
+    /**
+     * Create pool of connections.
+     *
+     * @param maxConnections         maximum quantity of opened connections in the pull.
+     * @param maxConnectionsPerRoute maximum quantity of opened connections in the pull per route (url).
+     * @param timeoutResponse        waiting for the remote server answer timeout after request been sent.
+     * @param secondsToLive          waiting timeout in seconds for closing not active connections in a pool.
+     * @param sslDisabled            flag of SSL disabled.
+     *
+     * @return new pool.
+     *
+     * @since 1.9.0.0
+     */
+    static PooledConnectionManager newConnectionManager(int maxConnections,
+                                                        int maxConnectionsPerRoute,
+                                                        int timeoutResponse,
+                                                        int secondsToLive,
+                                                        boolean sslDisabled) {
+        PooledConnectionManager cm = new PooledConnectionManager(prepareSocketFactoryRegistry(sslDisabled), secondsToLive);
         cm.setMaxTotal(maxConnections);
         cm.setDefaultMaxPerRoute(maxConnectionsPerRoute);
         //именно на этот таймаут смотрит SSLSocketFactory при открытии SSLSocket'a
@@ -107,6 +134,29 @@ class RestClientFactory {
                             .build()
         );
 
+        return cm;
+    }
+
+    /**
+     * Create HTTP client over the pool.
+     *
+     * @param cm                       pool of connections.
+     * @param connectTimeout           establishing new connection timeout.
+     * @param connectionRequestTimeout waiting for the getting of a new pull connection timeout.
+     * @param timeoutResponse          waiting for the remote server answer timeout after request been sent.
+     * @param keepAlive                max time in ms to keep an idle connection: a shorter "Keep-Alive" timeout of a server wins,
+     *                                 idle and expired connections are evicted by a background thread (0 - connections are
+     *                                 kept, while a server allows, and are checked only on leasing).
+     *
+     * @return new HTTP client (must be closed, when it is not needed).
+     *
+     * @since 1.9.0.0
+     */
+    static CloseableHttpClient newHttpClient(HttpClientConnectionManager cm,
+                                             int connectTimeout,
+                                             int connectionRequestTimeout,
+                                             int timeoutResponse,
+                                             long keepAlive) {
         HttpClientBuilder builder = HttpClients.custom()
                                                .setConnectionManager(cm)
                                                .setDefaultRequestConfig(
@@ -116,8 +166,39 @@ class RestClientFactory {
                                                                     .setConnectTimeout(connectTimeout)
                                                                     .build()
                                                );
+        if (keepAlive > 0) {
+            builder.setKeepAliveStrategy((response, context) -> {
+                       long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+
+                       return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive) : keepAlive;
+                   })
+                   .evictExpiredConnections()
+                   .evictIdleConnections(keepAlive, TimeUnit.MILLISECONDS);
+        }
 
-        RestTemplate rt = new RestTemplate(prepareClientHttpRequestFactory(builder, sslDisabled, bufferBody));
+        return builder.build();
+    }
+
+    /**
+     * Create {@link RestTemplate} over the HTTP client.
+     *
+     * @param httpClient        HTTP client.
+     * @param bufferBody        true - to buffer body for POST/PUT, false - to stream it.
+     * @param interceptors      the list of interceptors for rest client (mar be null).
+     * @param messageConverters the list of message converters (may be null).
+     *
+     * @return new {@link RestTemplate}.
+     *
+     * @since 1.9.0.0
+     */
+    static RestTemplate newRestTemplate(CloseableHttpClient httpClient,
+                                        boolean bufferBody,
+                                        List<ClientHttpRequestInterceptor> interceptors,
+                                        List<HttpMessageConverter<?>> messageConverters) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setBufferRequestBody(bufferBody);
+
+        RestTemplate rt = new RestTemplate(requestFactory);
 
         if (!isEmpty(interceptors)) {
             List<ClientHttpRequestInterceptor> rtInterceptors = rt.getInterceptors();
@@ -137,32 +218,26 @@ class RestClientFactory {
         return rt;
     }
 
-    private static ClientHttpRequestFactory prepareClientHttpRequestFactory(HttpClientBuilder builder,
-                                                                            boolean sslDisabled,
-                                                                            boolean bufferBody) {
+    /**
+     * @since 1.9.0.0
+     */
+    private static Registry<ConnectionSocketFactory> prepareSocketFactoryRegistry(boolean sslDisabled) {
+        SSLConnectionSocketFactory sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
         if (sslDisabled) {
             log.warn("SSL is disabled");
             try {
                 SSLContext sslContext = new SSLContextBuilder()
                         .loadTrustMaterial((chain, authType) -> true)
                         .build();
-                builder.setSSLSocketFactory(new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE));
+                sslSocketFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
             } catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException ex) {
                 throw new IllegalStateException("Configuration ssl factory error", ex);
             }
         }
 
-        CloseableHttpClient httpclient = builder
-                .setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE)
+        return RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory)
                 .build();
-
-        if (bufferBody) {
-            return new HttpComponentsClientHttpRequestFactory(httpclient);
-        }
-
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setBufferRequestBody(false);
-
-        return factory;
     }
 }
@@ -14,6 +14,8 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
@@ -22,6 +24,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -32,11 +35,19 @@ import java.util.stream.Collectors;
 abstract class RestClientHelper {
 
     private RestTemplate restTemplate;
+    /**
+     * Retries and circuit breakers (null - requests are sent as is).
+     */
+    private RestResilience resilience;
 
     protected void setRestTemplate(RestTemplate restTemplate) {
         this.restTemplate = restTemplate;
     }
 
+    protected void setResilience(RestResilience resilience) {
+        this.resilience = resilience;
+    }
+
     public RestTemplate getRestTemplate() {
         return restTemplate;
     }
@@ -110,7 +121,8 @@ abstract class RestClientHelper {
 
             T respBody;
             try {
-                respBody = restTemplate.exchange(uri, httpMethod, httpEntity, responseType).getBody();
+                respBody = exchange(httpMethod, uri,
+                                    () -> restTemplate.exchange(uri, httpMethod, httpEntity, responseType).getBody());
             } catch (Exception e) {
                 proceedException(e);
 
@@ -153,7 +165,8 @@ abstract class RestClientHelper {
 
             T respBody;
             try {
-                respBody = restTemplate.exchange(uri, httpMethod, httpEntity, responseType).getBody();
+                respBody = exchange(httpMethod, uri,
+                                    () -> restTemplate.exchange(uri, httpMethod, httpEntity, responseType).getBody());
             } catch (Exception e) {
                 proceedException(e);
 
@@ -194,7 +207,8 @@ abstract class RestClientHelper {
 
             T respBody;
             try {
-                respBody = restTemplate.exchange(uri, httpMethod, httpEntity, responseType).getBody();
+                respBody = exchange(httpMethod, uri,
+                                    () -> restTemplate.exchange(uri, httpMethod, httpEntity, responseType).getBody());
             } catch (Exception e) {
                 proceedException(e);
 
@@ -247,6 +261,59 @@ abstract class RestClientHelper {
         }
     }
 
+    /**
+     * Common method, that do work of preparing and sending message to rest-service.
+     *
+     * @param url        url-address to send message.
+     * @param extractor  extractor to read answer with.
+     * @param httpMethod http-method of sending request.
+     * @param params     parameters for adding to url.
+     * @param headers    headers for adding to request.
+     *
+     * @return answer, read by the extractor.
+     *
+     * @since 1.9.0.0
+     */
+    private <T> T doSend(String url,
+                         ResponseExtractor<T> extractor,
+                         HttpMethod httpMethod,
+                         Object body,
+                         Map<String, String> params,
+                         Map<String, String> headers) {
+        try {
+            final URI uri = createUri(url, params);
+            final HttpEntity httpEntity = createHttpEntity(body, headers);
+            log.debug("Outer request:\n{}", prepareRequestLog(uri, httpEntity));
+
+            try {
+                return exchange(httpMethod, uri, () -> restTemplate.execute(
+                        uri, httpMethod,
+                        (ClientHttpRequest request) -> {
+                            request.getHeaders().putAll(httpEntity.getHeaders());
+                            if (body != null) {
+                                request.getBody().write(JsonUtil.writeValueAsBytes(body));
+                            }
+                        },
+                        extractor));
+            } catch (Exception e) {
+                proceedException(e);
+
+                throw e;
+            }
+        } catch (Exception e) {
+            throw new RestClientException("", e);
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private <T> T exchange(HttpMethod httpMethod,
+                           URI uri,
+                           Supplier<T> request) {
+        return resilience == null ? request.get() : resilience.execute(httpMethod, uri, request);
+    }
+
     /**
      * @since 0.1.3.0
      */
@@ -354,6 +421,59 @@ abstract class RestClientHelper {
         doSend(url, stream, HttpMethod.GET, null, params, headers);
     }
 
+    /**
+     * To send message to rest-service (GET) with reading answer by the extractor.
+     *
+     * @param url       url-address to send message.
+     * @param extractor extractor to read answer with.
+     * @param params    parameters for adding to url.
+     * @param headers   headers for adding to request.
+     *
+     * @return answer, read by the extractor.
+     *
+     * @since 1.9.0.0
+     */
+    protected <T> T get(String url,
+                        ResponseExtractor<T> extractor,
+                        Map<String, String> params,
+                        Map<String, String> headers) {
+        return doSend(url, extractor, HttpMethod.GET, null, params, headers);
+    }
+
+    /**
+     * To send prepared request: the body is written by the callback right to the request, the answer is read by the extractor
+     * (message converters are not used, URI is not parsed).
+     *
+     * @param uri        URI.
+     * @param httpMethod http-method of sending request.
+     * @param callback   callback to write headers and body with.
+     * @param extractor  extractor to read answer with.
+     *
+     * @return answer, read by the extractor.
+     *
+     * @since 1.9.0.0
+     */
+    protected <T> T execute(URI uri,
+                            HttpMethod httpMethod,
+                            RequestCallback callback,
+                            ResponseExtractor<T> extractor) {
+        try {
+            log.debug("Outer request: {} {}",
+                      () -> httpMethod,
+                      uri :: getPath);
+
+            try {
+                return exchange(httpMethod, uri, () -> restTemplate.execute(uri, httpMethod, callback, extractor));
+            } catch (Exception e) {
+                proceedException(e);
+
+                throw e;
+            }
+        } catch (Exception e) {
+            throw new RestClientException("", e);
+        }
+    }
+
     /**
      * Send message to rest-service (POST) with expected answer type.
      *
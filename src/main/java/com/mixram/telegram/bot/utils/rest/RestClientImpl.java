@@ -7,14 +7,18 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Scope;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 import javax.annotation.PostConstruct;
 import java.io.OutputStream;
+import java.net.URI;
 import java.util.*;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -144,6 +148,22 @@ public class RestClientImpl extends RestClientHelper implements RestClient {
         super.get(url, params, headers, stream);
     }
 
+    @Override
+    public <T> T get(String url,
+                     Map<String, String> params,
+                     Map<String, String> headers,
+                     ResponseExtractor<T> extractor) {
+        return super.get(url, extractor, params, headers);
+    }
+
+    @Override
+    public <T> T execute(URI uri,
+                         HttpMethod method,
+                         RequestCallback callback,
+                         ResponseExtractor<T> extractor) {
+        return super.execute(uri, method, callback, extractor);
+    }
+
     @Override
     public <T> T get(String url,
                      Map<String, String> headers,
@@ -481,6 +501,15 @@ public class RestClientImpl extends RestClientHelper implements RestClient {
         this.connectionTimeoutName = connectionTimeoutName;
     }
 
+    /**
+     * @since 1.9.0.0
+     */
+    @Autowired
+    @Override
+    public void setResilience(RestResilience resilience) {
+        super.setResilience(resilience);
+    }
+
     @Autowired
     @Qualifier("createMessageConverters")
     public void setMessageConverters(List<HttpMessageConverter<?>> messageConverters) {
@@ -554,6 +583,17 @@ public class RestClientImpl extends RestClientHelper implements RestClient {
                         prepareConverters(messageConverters)));
     }
 
+    /**
+     * To create {@link RestClientImpl} over prepared {@link RestTemplate}.
+     *
+     * @since 1.9.0.0
+     */
+    RestClientImpl(RestTemplate restTemplate,
+                   RestResilience resilience) {
+        super.setRestTemplate(restTemplate);
+        super.setResilience(resilience);
+    }
+
     @PostConstruct
     public void init() {
         Integer connectionTimeout = calcConnectionTimeout(connectionTimeoutName);
@@ -0,0 +1,217 @@
+package com.mixram.telegram.bot.utils.rest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Validate;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.pool.PoolStats;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * Registry of {@link RestClient}s per {@link RestClientProfile}: every profile has its own pool of connections, timeouts,
+ * keep-alive and a thread, that evicts idle connections.
+ * <p>
+ * Metrics (tag "pool" - name of the profile):
+ * <ul>
+ * <li>"bot.rest.pool.leased", "bot.rest.pool.available", "bot.rest.pool.pending", "bot.rest.pool.max" - connections in use,
+ * idle connections, requests waiting for a connection, max connections;</li>
+ * <li>"bot.rest.pool.wait" - time of waiting for a connection (lease wait).</li>
+ * </ul>
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+public class RestClientPools implements MeterBinder {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final Map<RestClientProfile, Pool> pools = new EnumMap<>(RestClientProfile.class);
+
+    private static final class Pool {
+
+        private final RestClientProfile profile;
+        private final PooledConnectionManager connectionManager;
+        private final CloseableHttpClient httpClient;
+        private final RestClient restClient;
+
+        private Pool(RestClientProfile profile,
+                     PooledConnectionManager connectionManager,
+                     CloseableHttpClient httpClient,
+                     RestClient restClient) {
+            this.profile = profile;
+            this.connectionManager = connectionManager;
+            this.httpClient = httpClient;
+            this.restClient = restClient;
+        }
+    }
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    /**
+     * @param settings          settings by profiles` names (may be empty - defaults of profiles are used).
+     * @param resilience        retries and circuit breakers (may be null).
+     * @param messageConverters message converters (may be null).
+     *
+     * @since 1.9.0.0
+     */
+    public RestClientPools(Map<String, RestClientProfileSettings> settings,
+                           RestResilience resilience,
+                           List<HttpMessageConverter<?>> messageConverters) {
+        Validate.notNull(settings, "Settings are not specified!");
+
+        for (RestClientProfile profile : RestClientProfile.values()) {
+            RestClientProfileSettings profileSettings = settings.get(profile.getName());
+            pools.put(profile, createPool(profile, profileSettings == null ? new RestClientProfileSettings() : profileSettings,
+                                          resilience, messageConverters));
+        }
+        settings.keySet().stream()
+                .filter(name -> pools.keySet().stream().noneMatch(p -> p.getName().equals(name)))
+                .forEach(name -> log.warn("Unknown profile in rest clients settings: '{}'!", name));
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To get a client of the profile.
+     *
+     * @param profile profile.
+     *
+     * @return client.
+     *
+     * @since 1.9.0.0
+     */
+    public RestClient get(RestClientProfile profile) {
+        Validate.notNull(profile, "Profile is not specified!");
+
+        return pools.get(profile).restClient;
+    }
+
+    /**
+     * @param profile profile.
+     *
+     * @return statistics of the pool of the profile.
+     *
+     * @since 1.9.0.0
+     */
+    public PoolStats getStats(RestClientProfile profile) {
+        Validate.notNull(profile, "Profile is not specified!");
+
+        return pools.get(profile).connectionManager.getTotalStats();
+    }
+
+    /**
+     * To close clients (and their pools and eviction threads).
+     *
+     * @since 1.9.0.0
+     */
+    public void close() {
+        pools.values().forEach(p -> {
+            try {
+                p.httpClient.close();
+            } catch (IOException e) {
+                log.warn(String.format("Exception while closing of %s pool!", p.profile.getName()), e);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        pools.values().forEach(p -> {
+            Tags tags = Tags.of("pool", p.profile.getName());
+
+            registerGauge(registry, "bot.rest.pool.leased", "Connections in use", p, tags, PoolStats :: getLeased);
+            registerGauge(registry, "bot.rest.pool.available", "Idle connections", p, tags, PoolStats :: getAvailable);
+            registerGauge(registry, "bot.rest.pool.pending", "Requests waiting for a connection", p, tags,
+                          PoolStats :: getPending);
+            registerGauge(registry, "bot.rest.pool.max", "Max connections", p, tags, PoolStats :: getMax);
+
+            Timer waitTimer = Timer.builder("bot.rest.pool.wait")
+                                   .tags(tags)
+                                   .description("Time of waiting for a connection")
+                                   .register(registry);
+            p.connectionManager.setLeaseWaitListener(nanos -> waitTimer.record(nanos, TimeUnit.NANOSECONDS));
+        });
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static Pool createPool(RestClientProfile profile,
+                                   RestClientProfileSettings settings,
+                                   RestResilience resilience,
+                                   List<HttpMessageConverter<?>> messageConverters) {
+        int maxConnections = settings.getMaxConnections() == null ? profile.getDefaultMaxConnections() :
+                             settings.getMaxConnections();
+        int maxConnectionsPerRoute = settings.getMaxConnectionsPerRoute() == null ? profile.getDefaultMaxConnectionsPerRoute() :
+                                     settings.getMaxConnectionsPerRoute();
+        int connectTimeout = settings.getConnectTimeout() == null ? profile.getDefaultConnectTimeout() :
+                             settings.getConnectTimeout();
+        int connectionRequestTimeout = settings.getConnectionRequestTimeout() == null ?
+                                       profile.getDefaultConnectionRequestTimeout() : settings.getConnectionRequestTimeout();
+        int responseTimeout = settings.getResponseTimeout() == null ? profile.getDefaultResponseTimeout() :
+                              settings.getResponseTimeout();
+        long keepAlive = settings.getKeepAlive() == null ? profile.getDefaultKeepAlive() : settings.getKeepAlive();
+        boolean bufferBody = settings.getBufferBody() == null ? profile.isDefaultBufferBody() : settings.getBufferBody();
+        Validate.isTrue(maxConnections > 0 && maxConnectionsPerRoute > 0, "Max connections for %s must be positive!",
+                        profile.getName());
+        Validate.isTrue(keepAlive > 0, "Keep-alive for %s must be positive!", profile.getName());
+
+        PooledConnectionManager connectionManager =
+                RestClientFactory.newConnectionManager(maxConnections, maxConnectionsPerRoute, responseTimeout,
+                                                       RestClientImpl.POOL_CONNECTIONS_TIMEOUT, false);
+        CloseableHttpClient httpClient = RestClientFactory.newHttpClient(connectionManager, connectTimeout,
+                                                                         connectionRequestTimeout, responseTimeout, keepAlive);
+        RestTemplate restTemplate = RestClientFactory.newRestTemplate(httpClient, bufferBody, null, messageConverters);
+        RestClient restClient = new RestClientImpl(restTemplate, resilience);
+        restClient.setAnchorForLog(profile.getName());
+
+        log.info("Rest client for {}: max connections - {} ({} per route), timeouts (connect/pool/response) - {}/{}/{} ms, " +
+                 "keep-alive - {} ms.",
+                 profile :: getName,
+                 () -> maxConnections,
+                 () -> maxConnectionsPerRoute,
+                 () -> connectTimeout,
+                 () -> connectionRequestTimeout,
+                 () -> responseTimeout,
+                 () -> keepAlive);
+
+        return new Pool(profile, connectionManager, httpClient, restClient);
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static void registerGauge(MeterRegistry registry,
+                                      String name,
+                                      String description,
+                                      Pool pool,
+                                      Tags tags,
+                                      ToIntFunction<PoolStats> value) {
+        Gauge.builder(name, pool, p -> value.applyAsInt(p.connectionManager.getTotalStats()))
+             .tags(tags)
+             .description(description)
+             .register(registry);
+    }
+
+    // </editor-fold>
+
+}
@@ -0,0 +1,61 @@
+package com.mixram.telegram.bot.utils.rest;
+
+import lombok.Getter;
+
+/**
+ * Kinds of outer services; every kind has its own pool of connections, timeouts and keep-alive, so a slow service does not take
+ * connections of the others.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public enum RestClientProfile {
+
+    /**
+     * Telegram API (except long polling, that has its own client); bodies are streamed to connections without buffering.
+     */
+    TELEGRAM("telegram", 50, 50, 2000, 5000, 10000, 60000, false),
+    /**
+     * <a href="https://cas.chat">CAS service</a>: it is asked on every new member, so it must answer fast or fail fast.
+     */
+    CAS("cas", 10, 10, 1000, 1000, 3000, 60000, true),
+    /**
+     * Shops` sites: few parallel requests to one site, long answers.
+     */
+    SCRAPING("scraping", 10, 2, 5000, 10000, 30000, 30000, true);
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int defaultMaxConnections;
+    @Getter
+    private final int defaultMaxConnectionsPerRoute;
+    @Getter
+    private final int defaultConnectTimeout;
+    @Getter
+    private final int defaultConnectionRequestTimeout;
+    @Getter
+    private final int defaultResponseTimeout;
+    @Getter
+    private final long defaultKeepAlive;
+    @Getter
+    private final boolean defaultBufferBody;
+
+    RestClientProfile(String name,
+                      int defaultMaxConnections,
+                      int defaultMaxConnectionsPerRoute,
+                      int defaultConnectTimeout,
+                      int defaultConnectionRequestTimeout,
+                      int defaultResponseTimeout,
+                      long defaultKeepAlive,
+                      boolean defaultBufferBody) {
+        this.name = name;
+        this.defaultMaxConnections = defaultMaxConnections;
+        this.defaultMaxConnectionsPerRoute = defaultMaxConnectionsPerRoute;
+        this.defaultConnectTimeout = defaultConnectTimeout;
+        this.defaultConnectionRequestTimeout = defaultConnectionRequestTimeout;
+        this.defaultResponseTimeout = defaultResponseTimeout;
+        this.defaultKeepAlive = defaultKeepAlive;
+        this.defaultBufferBody = defaultBufferBody;
+    }
+}
@@ -0,0 +1,54 @@
+package com.mixram.telegram.bot.utils.rest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Settings of a {@link RestClientProfile}; not specified values are taken from the profile`s defaults.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RestClientProfileSettings {
+
+    @JsonProperty("max-connections")
+    private Integer maxConnections;
+    @JsonProperty("max-connections-per-route")
+    private Integer maxConnectionsPerRoute;
+    /**
+     * Timeout of establishing of a connection, ms.
+     */
+    @JsonProperty("connect-timeout")
+    private Integer connectTimeout;
+    /**
+     * Timeout of waiting for a free pooled connection, ms.
+     */
+    @JsonProperty("connection-request-timeout")
+    private Integer connectionRequestTimeout;
+    /**
+     * Timeout of waiting for an answer, ms.
+     */
+    @JsonProperty("response-timeout")
+    private Integer responseTimeout;
+    /**
+     * Max time to keep an idle connection, ms (a shorter "Keep-Alive" timeout of a server wins).
+     */
+    @JsonProperty("keep-alive")
+    private Long keepAlive;
+    /**
+     * true - to buffer bodies of requests, false - to write them right to connections.
+     */
+    @JsonProperty("buffer-body")
+    private Boolean bufferBody;
+
+    @Override
+    public String toString() {
+        return JsonUtil.toJson(this);
+    }
+}
@@ -0,0 +1,252 @@
+package com.mixram.telegram.bot.utils.rest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retries and circuit breakers for requests of {@link RestClientImpl}.
+ * <p>
+ * Circuit breakers are kept per endpoint ("METHOD host/last-path-segment", so tokens in paths are not exposed). Failures of an
+ * endpoint are I/O errors and "5xx" answers; "4xx" answers mean, that the endpoint works.
+ * <p>
+ * Transient failures are retried by {@link RetryPolicy}: requests, that were not sent (connection is refused, not established in
+ * time or there is no free pooled connection), and "502/503/504" answers - for all methods; read timeouts - for GET only, as other
+ * requests may be already processed.
+ * <p>
+ * Metrics (tag "endpoint"): "bot.rest.circuit.state" (0 - closed, 1 - open, 2 - half-open), "bot.rest.retries",
+ * "bot.rest.circuit.rejected".
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+@Component
+public class RestResilience implements MeterBinder {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final long openDuration;
+
+    private final RetryPolicy retryPolicy;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    @Autowired
+    public RestResilience(@Value("${bot.settings.rest.resilience.enabled:true}") boolean enabled,
+                          @Value("${bot.settings.rest.retry.max-attempts:3}") int maxAttempts,
+                          @Value("${bot.settings.rest.retry.base-delay:100}") long baseDelay,
+                          @Value("${bot.settings.rest.retry.max-delay:2000}") long maxDelay,
+                          @Value("${bot.settings.rest.retry.budget:10}") double budget,
+                          @Value("${bot.settings.rest.retry.budget-ratio:0.2}") double budgetRatio,
+                          @Value("${bot.settings.rest.circuit.failure-threshold:5}") int failureThreshold,
+                          @Value("${bot.settings.rest.circuit.open-duration:30000}") long openDuration) {
+        this.enabled = enabled;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.retryPolicy = new RetryPolicy(maxAttempts, baseDelay, maxDelay, budget, budgetRatio);
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To execute a request with retries and the circuit breaker of the endpoint.
+     *
+     * @param method  HTTP method.
+     * @param uri     URI.
+     * @param request request.
+     *
+     * @return result of the request.
+     *
+     * @throws CircuitBreakerOpenException if the circuit of the endpoint is open.
+     * @since 1.9.0.0
+     */
+    public <T> T execute(HttpMethod method,
+                         URI uri,
+                         Supplier<T> request) throws CircuitBreakerOpenException {
+        if (!enabled) {
+            return request.get();
+        }
+
+        CircuitBreaker breaker = getBreaker(defineEndpoint(method, uri));
+        retryPolicy.onRequest();
+        for (int attempt = 1; ; attempt++) {
+            if (!breaker.tryAcquire()) {
+                increment("bot.rest.circuit.rejected", breaker);
+
+                throw new CircuitBreakerOpenException(String.format("Circuit of %s is open!", breaker.getName()));
+            }
+
+            try {
+                T result = request.get();
+                breaker.onSuccess();
+
+                return result;
+            } catch (RuntimeException e) {
+                if (isFailure(e)) {
+                    breaker.onFailure();
+                } else {
+                    breaker.onSuccess();
+                }
+
+                if (!isRetryable(method, e) || !retryPolicy.tryRetry(attempt)) {
+                    throw e;
+                }
+
+                long delay = retryPolicy.backoff(attempt);
+                log.debug("Request to {} is failed ({}) - retry in {} ms.",
+                          breaker :: getName,
+                          () -> e,
+                          () -> delay);
+                increment("bot.rest.retries", breaker);
+
+                sleep(delay, e);
+            }
+        }
+    }
+
+    /**
+     * @return states of circuits by endpoints.
+     *
+     * @since 1.9.0.0
+     */
+    public Map<String, CircuitBreaker.State> getCircuitStates() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        breakers.forEach((endpoint, breaker) -> states.put(endpoint, breaker.getState()));
+
+        return states;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+
+        breakers.values().forEach(this :: registerGauge);
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    /**
+     * @since 1.9.0.0
+     */
+    private CircuitBreaker getBreaker(String endpoint) {
+        return breakers.computeIfAbsent(endpoint, e -> {
+            CircuitBreaker breaker = new CircuitBreaker(e, failureThreshold, openDuration);
+            registerGauge(breaker);
+
+            return breaker;
+        });
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void registerGauge(CircuitBreaker breaker) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+
+        Gauge.builder("bot.rest.circuit.state", breaker, b -> b.getState().ordinal())
+             .tag("endpoint", breaker.getName())
+             .description("State of the circuit: 0 - closed, 1 - open, 2 - half-open")
+             .register(meterRegistry);
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private void increment(String name,
+                           CircuitBreaker breaker) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry != null) {
+            Counter.builder(name)
+                   .tag("endpoint", breaker.getName())
+                   .register(meterRegistry)
+                   .increment();
+        }
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static String defineEndpoint(HttpMethod method,
+                                         URI uri) {
+        String path = StringUtils.defaultString(uri.getPath());
+
+        return method + " " + uri.getHost() + "/" + StringUtils.substringAfterLast(path, "/");
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static boolean isFailure(RuntimeException e) {
+        return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static boolean isRetryable(HttpMethod method,
+                                       RuntimeException e) {
+        if (e instanceof HttpServerErrorException) {
+            int status = ((HttpServerErrorException) e).getStatusCode().value();
+
+            return status == 502 || status == 503 || status == 504;
+        }
+        if (e instanceof ResourceAccessException) {
+            Throwable cause = e.getCause();
+            boolean notSent = cause instanceof ConnectException || cause instanceof ConnectTimeoutException ||
+                    cause instanceof UnknownHostException;
+
+            return notSent || method == HttpMethod.GET;
+        }
+
+        return false;
+    }
+
+    /**
+     * @since 1.9.0.0
+     */
+    private static void sleep(long delay,
+                              RuntimeException e) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+
+            throw e;
+        }
+    }
+
+    // </editor-fold>
+
+}
@@ -0,0 +1,111 @@
+package com.mixram.telegram.bot.utils.rest;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy: exponential backoff with full jitter and a retry budget. Every request adds "budgetRatio" to the budget (up to
+ * "budget"), every retry takes one from it - so retries can not multiply the load, when an endpoint is down.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public final class RetryPolicy {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private final int maxAttempts;
+    private final long baseDelay;
+    private final long maxDelay;
+    private final double budget;
+    private final double budgetRatio;
+
+    private double balance;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    /**
+     * @param maxAttempts max number of attempts of a request (1 - no retries).
+     * @param baseDelay   delay before the first retry, ms.
+     * @param maxDelay    max delay before a retry, ms.
+     * @param budget      max number of retries, that may be done in a row.
+     * @param budgetRatio part of a retry, that is earned by every request.
+     *
+     * @since 1.9.0.0
+     */
+    public RetryPolicy(int maxAttempts,
+                       long baseDelay,
+                       long maxDelay,
+                       double budget,
+                       double budgetRatio) {
+        Validate.isTrue(maxAttempts > 0, "Max attempts must be positive!");
+        Validate.isTrue(baseDelay >= 0 && maxDelay >= baseDelay, "Delays are invalid!");
+        Validate.isTrue(budget >= 0 && budgetRatio >= 0, "Budget is invalid!");
+
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.budget = budget;
+        this.budgetRatio = budgetRatio;
+        this.balance = budget;
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To register a request (adds to the budget).
+     *
+     * @since 1.9.0.0
+     */
+    public synchronized void onRequest() {
+        balance = Math.min(budget, balance + budgetRatio);
+    }
+
+    /**
+     * To ask for a retry.
+     *
+     * @param attempt number of the failed attempt (from 1).
+     *
+     * @return true - if the request may be retried (the budget is taken).
+     *
+     * @since 1.9.0.0
+     */
+    public synchronized boolean tryRetry(int attempt) {
+        if (attempt >= maxAttempts || balance < 1) {
+            return false;
+        }
+
+        balance -= 1;
+
+        return true;
+    }
+
+    /**
+     * @param attempt number of the failed attempt (from 1).
+     *
+     * @return delay before the next attempt, ms: random in [0, min(maxDelay, baseDelay * 2^(attempt - 1))].
+     *
+     * @since 1.9.0.0
+     */
+    public long backoff(int attempt) {
+        long ceiling = Math.min(maxDelay, baseDelay << Math.min(attempt - 1, 30));
+
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    //
+
+    // </editor-fold>
+
+}
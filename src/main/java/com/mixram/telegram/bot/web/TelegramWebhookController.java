@@ -0,0 +1,85 @@
+package com.mixram.telegram.bot.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.mixram.telegram.bot.services.domain.Webhook;
+import com.mixram.telegram.bot.services.domain.entity.Update;
+import com.mixram.telegram.bot.utils.databinding.JsonUtil;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Endpoint for updates from Telegram API.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@Log4j2
+@RestController
+public class TelegramWebhookController {
+
+    // <editor-fold defaultstate="collapsed" desc="***API elements***">
+
+    private static final String SECRET_TOKEN_HEADER = "X-Telegram-Bot-Api-Secret-Token";
+
+    private final Webhook webhook;
+
+    // </editor-fold>
+
+    // <editor-fold defaultstate="collapsed" desc="***Util elements***">
+
+    @Autowired
+    public TelegramWebhookController(Webhook webhook) {
+        this.webhook = webhook;
+    }
+
+    // </editor-fold>
+
+
+    /**
+     * To receive an update.<br>
+     * The update is only queued here - Telegram API gets the answer at once. If the queue is full, Telegram API gets "503" and
+     * repeats the request later.
+     *
+     * @param secretToken value of "X-Telegram-Bot-Api-Secret-Token" header.
+     * @param body        update JSON.
+     *
+     * @since 1.9.0.0
+     */
+    @PostMapping("${bot.settings.webhook.path:/telegram/webhook}")
+    public ResponseEntity<Void> receive(@RequestHeader(value = SECRET_TOKEN_HEADER, required = false) String secretToken,
+                                        @RequestBody byte[] body) {
+        if (!webhook.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!webhook.isSecretTokenValid(secretToken)) {
+            log.warn("Webhook request with invalid secret token!");
+
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        Update update;
+        try {
+            update = JsonUtil.readValue(body, new TypeReference<Update>() {});
+        } catch (Exception e) {
+            log.warn("Can not parse update!", e);
+
+            return ResponseEntity.badRequest().build();
+        }
+
+        return webhook.accept(update) ? ResponseEntity.ok().build() : ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+
+    // <editor-fold defaultstate="collapsed" desc="***Private elements***">
+
+    //
+
+    // </editor-fold>
+
+}
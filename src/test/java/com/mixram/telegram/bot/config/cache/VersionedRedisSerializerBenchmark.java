@@ -0,0 +1,68 @@
+package com.mixram.telegram.bot.config.cache;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.mixram.telegram.bot.services.domain.entity.Data3DPlastic;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing and reading of a catalog snapshot ({@link Data3DPlastic}) by {@link VersionedRedisSerializer} in every format, with
+ * and without compression ("compressThreshold" = 0).<br>
+ * Run with "main": size of a value is printed on setup, allocations per value are shown by "gc.alloc.rate.norm".
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionedRedisSerializerBenchmark {
+
+    @Param({"LEGACY", "JSON", "SMILE"})
+    private RedisValueFormat format;
+    @Param({"0", "1024"})
+    private int compressThreshold;
+    @Param({"10", "500"})
+    private int size;
+
+    private VersionedRedisSerializer<Data3DPlastic> serializer;
+    private Data3DPlastic plastic;
+    private byte[] bytes;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(VersionedRedisSerializerBenchmark.class.getSimpleName())
+                                              .addProfiler("gc")
+                                              .build();
+
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        serializer = new VersionedRedisSerializer<>(TypeFactory.defaultInstance().constructType(Data3DPlastic.class), format,
+                                                    compressThreshold, new RedisConfig().genericJackson2JsonRedisSerializer());
+        plastic = VersionedRedisSerializerTest.createPlastic(size);
+        bytes = serializer.serialize(plastic);
+
+        System.out.println(String.format("%n%s, compressThreshold %s, %s items: %s bytes", format, compressThreshold, size,
+                                         bytes.length));
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(plastic);
+    }
+
+    @Benchmark
+    public Data3DPlastic deserialize() {
+        return serializer.deserialize(bytes);
+    }
+}
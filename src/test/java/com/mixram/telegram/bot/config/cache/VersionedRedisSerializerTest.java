@@ -0,0 +1,140 @@
+package com.mixram.telegram.bot.config.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.mixram.telegram.bot.services.domain.entity.Data3DPlastic;
+import com.mixram.telegram.bot.services.domain.enums.PlasticType;
+import com.mixram.telegram.bot.services.domain.enums.Shop3D;
+import com.mixram.telegram.bot.services.services.bot.entity.LazyActionData;
+import com.mixram.telegram.bot.services.services.bot.enums.LazyAction;
+import com.mixram.telegram.bot.utils.htmlparser.entity.ParseData;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class VersionedRedisSerializerTest {
+
+    private static final JavaType PLASTIC_TYPE = TypeFactory.defaultInstance().constructType(Data3DPlastic.class);
+    private static final JavaType LAZY_ACTIONS_TYPE =
+            TypeFactory.defaultInstance().constructType(new TypeReference<List<LazyActionData>>() {});
+
+    private final RedisSerializer<Object> legacySerializer = new RedisConfig().genericJackson2JsonRedisSerializer();
+
+    @Test
+    public void serialize_smileIsCompressedAndReadBack() {
+        VersionedRedisSerializer<Data3DPlastic> serializer =
+                new VersionedRedisSerializer<>(PLASTIC_TYPE, RedisValueFormat.SMILE, 1024, legacySerializer);
+        Data3DPlastic plastic = createPlastic(100);
+
+        byte[] bytes = serializer.serialize(plastic);
+
+        Assert.assertEquals(VersionedRedisSerializer.VERSION, bytes[0]);
+        Assert.assertEquals(RedisValueFormat.SMILE.getId(), bytes[1]);
+        Assert.assertEquals(VersionedRedisSerializer.FLAG_COMPRESSED, bytes[2]);
+        Assert.assertTrue(bytes.length < legacySerializer.serialize(plastic).length / 4);
+        Assert.assertEquals(plastic, serializer.deserialize(bytes));
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void serialize_smallValueIsNotCompressed() {
+        VersionedRedisSerializer<List<LazyActionData>> serializer =
+                new VersionedRedisSerializer<>(LAZY_ACTIONS_TYPE, RedisValueFormat.JSON, 1024, legacySerializer);
+        List<LazyActionData> actions = Collections.singletonList(createLazyAction());
+
+        byte[] bytes = serializer.serialize(actions);
+
+        Assert.assertEquals(RedisValueFormat.JSON.getId(), bytes[1]);
+        Assert.assertEquals(0, bytes[2]);
+        Assert.assertEquals('[', bytes[VersionedRedisSerializer.HEADER_SIZE]);
+        Assert.assertEquals(actions, serializer.deserialize(bytes));
+        Assert.assertEquals(actions.get(0).getActionDateTime(), serializer.deserialize(bytes).get(0).getActionDateTime());
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void deserialize_readsValuesOfFormerVersions() {
+        VersionedRedisSerializer<List<LazyActionData>> serializer =
+                new VersionedRedisSerializer<>(LAZY_ACTIONS_TYPE, RedisValueFormat.SMILE, 1024, legacySerializer);
+        List<LazyActionData> actions = new ArrayList<>(Collections.singletonList(createLazyAction()));
+
+        List<LazyActionData> result = serializer.deserialize(legacySerializer.serialize(actions));
+
+        Assert.assertEquals(actions, result);
+        Assert.assertEquals(actions.get(0).getActionDateTime(), result.get(0).getActionDateTime());
+        Assert.assertNull(serializer.deserialize(new byte[0]));
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void serialize_legacyFormatIsReadByFormerVersions() {
+        VersionedRedisSerializer<Data3DPlastic> serializer =
+                new VersionedRedisSerializer<>(PLASTIC_TYPE, RedisValueFormat.LEGACY, 1024, legacySerializer);
+        Data3DPlastic plastic = createPlastic(2);
+
+        byte[] bytes = serializer.serialize(plastic);
+
+        Assert.assertEquals('{', bytes[0]);
+        Assert.assertEquals(plastic, legacySerializer.deserialize(bytes));
+        Assert.assertEquals(plastic, serializer.deserialize(bytes));
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test(expected = SerializationException.class)
+    public void deserialize_unknownVersionIsRejected() {
+        VersionedRedisSerializer<Data3DPlastic> serializer =
+                new VersionedRedisSerializer<>(PLASTIC_TYPE, RedisValueFormat.SMILE, 1024, legacySerializer);
+
+        serializer.deserialize(new byte[]{2, RedisValueFormat.SMILE.getId(), 0, 0});
+    }
+
+
+    static Data3DPlastic createPlastic(int size) {
+        List<ParseData> data = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            data.add(ParseData.builder()
+                              .pageTitle("PLA пластик для 3D принтера " + i)
+                              .productName("PLA 1.75 мм 750 г " + i)
+                              .productUrl("https://monofilament.com.ua/products/pla-" + i)
+                              .commonUrl("https://monofilament.com.ua/products/")
+                              .shopUrl("https://monofilament.com.ua")
+                              .productOldPrice(new BigDecimal("499.00"))
+                              .productSalePrice(new BigDecimal("399.00"))
+                              .productDiscountPercent(new BigDecimal("20"))
+                              .type(PlasticType.values()[i % PlasticType.values().length])
+                              .isInStock(i % 3 != 0)
+                              .build());
+        }
+
+        return Data3DPlastic.builder()
+                            .shop(Shop3D.SHOP_MONOFILAMENT)
+                            .data(data)
+                            .brokenUrls(new ArrayList<>())
+                            .build();
+    }
+
+    private static LazyActionData createLazyAction() {
+        return LazyActionData.builder()
+                             .chatId(-1001234567890L)
+                             .messageId(12345L)
+                             .action(LazyAction.DELETE)
+                             .actionDateTime(LocalDateTime.of(2026, 10, 17, 12, 30, 15))
+                             .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.mixram.telegram.bot.services.services.bot;
+
+import com.mixram.telegram.bot.config.cache.RedisTemplateHelper;
+import com.mixram.telegram.bot.services.domain.entity.Update;
+import com.mixram.telegram.bot.services.domain.entity.UpdateHeader;
+import com.mixram.telegram.bot.services.domain.enums.UpdateKind;
+import com.mixram.telegram.bot.services.services.stat.StatisticsComponent;
+import com.mixram.telegram.bot.services.services.stat.enums.StatEvent;
+import com.mixram.telegram.bot.services.services.stat.enums.StatResolution;
+import com.mixram.telegram.bot.utils.concurrent.KeyedOrderedExecutor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class Bot3DUpdatesHandlerTest {
+
+    /**
+     * Counters of events by chats.
+     */
+    private final Map<Long, Map<StatEvent, Integer>> counters = new HashMap<>();
+    private final Set<Long> users = new HashSet<>();
+
+    private final Bot3DUpdatesHandler handler = new Bot3DUpdatesHandler(
+            null,
+            null,
+            new KeyedOrderedExecutor<>("test", 1, 10, Runnable :: run),
+            new ProcessedUpdatesRegistry("test", 16, null),
+            new StatisticsComponent("test", true, 60, 3600, new RedisTemplateHelper(null, null, null, null, null, null, "test") {
+                @Override
+                public void recordStatisticsToRedis(Long chatId,
+                                                    Long userId,
+                                                    Collection<StatEvent> events,
+                                                    LocalDateTime time,
+                                                    Map<StatResolution, Long> ttls,
+                                                    String key) {
+                    events.forEach(e -> counters.computeIfAbsent(chatId, k -> new EnumMap<>(StatEvent.class))
+                                                .merge(e, 1, Integer :: sum));
+                    users.add(userId);
+                }
+            }));
+
+    @Test
+    public void dispatch_skippedUpdatesAreCounted() {
+        List<Long> processed = new ArrayList<>();
+        handler.dispatch(Arrays.asList(skipped(1L, UpdateKind.OTHER, -100L, 7L, false),
+                                       skipped(2L, UpdateKind.MEDIA_GROUP, -100L, 8L, true),
+                                       skipped(3L, UpdateKind.OTHER, null, 9L, false)),
+                         processed :: add);
+
+        Assert.assertEquals(Arrays.asList(1L, 2L, 3L), processed);
+
+        Map<StatEvent, Integer> chat = counters.get(-100L);
+        Assert.assertEquals(2, (int) chat.get(StatEvent.UPDATE));
+        Assert.assertEquals(1, (int) chat.get(StatEvent.MESSAGE));
+        Assert.assertEquals(1, (int) chat.get(StatEvent.EDITED_MESSAGE));
+        Assert.assertEquals(1, counters.size());
+        Assert.assertEquals(new HashSet<>(Arrays.asList(7L, 8L)), users);
+
+        //repeated updates are not counted twice
+        handler.dispatch(Collections.singletonList(skipped(1L, UpdateKind.OTHER, -100L, 7L, false)), processed :: add);
+
+        Assert.assertEquals(2, (int) counters.get(-100L).get(StatEvent.UPDATE));
+        Assert.assertEquals(Arrays.asList(1L, 2L, 3L, 1L), processed);
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    private static Update skipped(Long updateId,
+                                  UpdateKind kind,
+                                  Long chatId,
+                                  Long userId,
+                                  boolean edited) {
+        Update update = new Update();
+        update.setUpdateId(updateId);
+        update.setSkippedHeader(new UpdateHeader(updateId, kind, chatId, userId, edited));
+
+        return update;
+    }
+}
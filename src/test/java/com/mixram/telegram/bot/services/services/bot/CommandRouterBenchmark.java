@@ -0,0 +1,137 @@
+package com.mixram.telegram.bot.services.services.bot;
+
+import com.mixram.telegram.bot.services.domain.enums.Command;
+import com.mixram.telegram.bot.services.services.bot.entity.CommandHolder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * {@link CommandRouter} vs the former regex-based command defining.<br>
+ * Run with "main" (add "-prof gc" to options to see allocations).
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandRouterBenchmark {
+
+    private static final Pattern SALES_PATTERN = Pattern.compile("^/SALES_.*");
+    private static final Pattern OTHER_PATTERN = Pattern.compile("^/START.*|^/INFO.*");
+    private static final Pattern TEST_PATTERN = Pattern.compile("^/TEST.*");
+    private static final Pattern CAS_PATTERN = Pattern.compile("^/CAS_MSG_.*");
+
+    @Param({"/start", "/sales_3dua_f@some_bot", "/cas_msg_123456", "/unknown_command some text"})
+    private String text;
+
+    private int length;
+    private CommandRouter router;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(CommandRouterBenchmark.class.getSimpleName())
+                                              .build();
+
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        int space = text.indexOf(' ');
+        length = space < 0 ? text.length() : space;
+        router = new CommandRouter();
+    }
+
+    @Benchmark
+    public void router(Blackhole blackhole) {
+        blackhole.consume(router.route(text, 0, length));
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        try {
+            blackhole.consume(defineCommand(text));
+        } catch (Exception e) {
+            blackhole.consume(e);
+        }
+    }
+
+
+    /**
+     * Former implementation from {@link Bot3DComponentImpl}.
+     */
+    private static CommandHolder defineCommand(String text) {
+        text = text.toUpperCase();
+        if (OTHER_PATTERN.matcher(text).matches()) {
+            String commandDataString = parseCommandDataString(text);
+            commandDataString = commandDataString.replaceAll("/", "");
+            Command command = Command.getByName(commandDataString);
+            if (command == null) {
+                throw new UnsupportedOperationException(String.format("Unexpected command! '%s'", text));
+            }
+
+            return CommandHolder.builder()
+                                .command(command)
+                                .full(false)
+                                .build();
+        }
+        if (SALES_PATTERN.matcher(text).matches()) {
+            String commandDataString = parseCommandDataString(text);
+            String[] commandElements = commandDataString.split("_");
+            Command command = Command.getByName(commandElements[1].toUpperCase());
+            boolean full = commandElements.length == 3 && "f".equalsIgnoreCase(commandElements[2]);
+
+            if (command == null) {
+                throw new UnsupportedOperationException(String.format("Unexpected command! '%s'", text));
+            }
+
+            return CommandHolder.builder()
+                                .command(command)
+                                .full(full)
+                                .build();
+        }
+        if (TEST_PATTERN.matcher(text).matches()) {
+            String commandDataString = parseCommandDataString(text);
+            commandDataString = commandDataString.replaceAll("/", "");
+            Command command = Command.getByName(commandDataString);
+            if (command == null) {
+                throw new UnsupportedOperationException(String.format("Unexpected command! '%s'", text));
+            }
+
+            return CommandHolder.builder()
+                                .command(command)
+                                .full(false)
+                                .build();
+        }
+        if (CAS_PATTERN.matcher(text).matches()) {
+            String commandDataString = parseCommandDataString(text);
+
+            return CommandHolder.builder()
+                                .command(Command.CAS)
+                                .data(commandDataString.substring(commandDataString.lastIndexOf("_") + 1))
+                                .full(false)
+                                .build();
+        }
+
+        throw new UnsupportedOperationException(String.format("Unexpected pattern! '%s'", text));
+    }
+
+    private static String parseCommandDataString(String text) {
+        String commandDataString = text.split(" ")[0];
+        if (commandDataString.contains("@")) {
+            commandDataString = commandDataString.substring(0, commandDataString.indexOf("@"));
+        }
+
+        return commandDataString;
+    }
+}
@@ -0,0 +1,69 @@
+package com.mixram.telegram.bot.services.services.bot;
+
+import com.mixram.telegram.bot.services.domain.enums.Command;
+import com.mixram.telegram.bot.services.services.bot.entity.CommandHolder;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class CommandRouterTest {
+
+    private final CommandRouter router = new CommandRouter();
+
+    @Test
+    public void route_directCommands() {
+        assertCommand(route("/start"), Command.START, false);
+        assertCommand(route("/INFO@some_bot"), Command.INFO, false);
+        assertCommand(route("/test some text"), Command.TEST, false);
+        //Telegram API does not include "-" into the entity
+        assertCommand(router.route("/info-admin", 0, 5), Command.INFO_ADMIN, false);
+
+        Assert.assertNull(route("/startx"));
+        Assert.assertNull(route("/all"));
+        Assert.assertNull(route("/unknown"));
+        Assert.assertNull(route("text"));
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void route_sales() {
+        assertCommand(route("/sales_3dua"), Command.D_3DUA, false);
+        assertCommand(route("/sales_mono_f@some_bot"), Command.D_MF, true);
+        assertCommand(route("/SALES_ALL_F"), Command.D_ALL, true);
+        assertCommand(route("/sales_all_x"), Command.D_ALL, false);
+        assertCommand(route("/sales_all_f_f"), Command.D_ALL, false);
+
+        Assert.assertNull(route("/sales_"));
+        Assert.assertNull(route("/sales"));
+        Assert.assertNull(route("/sales_unknown"));
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void route_cas() {
+        CommandHolder holder = route("/cas_msg_123456@some_bot");
+        assertCommand(holder, Command.CAS, false);
+        Assert.assertEquals("123456", holder.getData());
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    private CommandHolder route(String text) {
+        int end = text.indexOf(' ');
+
+        return router.route(text, 0, end < 0 ? text.length() : end);
+    }
+
+    private static void assertCommand(CommandHolder holder,
+                                      Command command,
+                                      boolean full) {
+        Assert.assertNotNull(holder);
+        Assert.assertEquals(command, holder.getCommand());
+        Assert.assertEquals(full, holder.isFull());
+    }
+}
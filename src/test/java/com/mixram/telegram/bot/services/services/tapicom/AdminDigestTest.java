@@ -0,0 +1,39 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class AdminDigestTest {
+
+    @Test
+    public void split_joinsMessagesUpToMaxLength() {
+        List<String> parts = AdminDigest.split(Lists.newArrayList("a", "b", Strings.repeat("c", 20)), 30);
+
+        Assert.assertEquals(2, parts.size());
+        Assert.assertEquals("a" + AdminDigest.SEPARATOR + "b", parts.get(0));
+        Assert.assertEquals(Strings.repeat("c", 20), parts.get(1));
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void split_longMessageByLines() {
+        String line = Strings.repeat("x", 8);
+        String longLine = Strings.repeat("y", 25);
+
+        List<String> parts = AdminDigest.split(Lists.newArrayList(line + "\n" + line + "\n" + longLine), 10);
+
+        Assert.assertEquals(Lists.newArrayList(line, line, Strings.repeat("y", 10), Strings.repeat("y", 10), "yyyyy"), parts);
+        parts.forEach(p -> Assert.assertTrue(p.length() <= 10));
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+}
@@ -0,0 +1,50 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import com.mixram.telegram.bot.services.domain.entity.AnswerHeader;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class AnswerHeaderReaderTest {
+
+    @Test
+    public void read_sentMessage() throws Exception {
+        AnswerHeader header = AnswerHeaderReader.read(
+                "{\"ok\":true,\"result\":{\"message_id\":42,\"from\":{\"id\":7,\"is_bot\":true,\"first_name\":\"bot\"}," +
+                        "\"chat\":{\"id\":-100,\"type\":\"supergroup\"},\"date\":1,\"text\":\"hello\"," +
+                        "\"entities\":[{\"offset\":0,\"length\":5,\"type\":\"bold\"}],\"reply_to_message\":{\"message_id\":41}}}");
+
+        Assert.assertTrue(header.isOk());
+        Assert.assertEquals(42L, (long) header.getMessageId());
+        Assert.assertNull(header.getErrorCode());
+        Assert.assertNull(header.getRetryAfter());
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void read_tooManyRequests() throws Exception {
+        AnswerHeader header = AnswerHeaderReader.read(
+                "{\"ok\":false,\"error_code\":429,\"description\":\"Too Many Requests: retry after 17\"," +
+                        "\"parameters\":{\"migrate_to_chat_id\":-1001,\"retry_after\":17}}");
+
+        Assert.assertFalse(header.isOk());
+        Assert.assertEquals(429, (int) header.getErrorCode());
+        Assert.assertEquals("Too Many Requests: retry after 17", header.getDescription());
+        Assert.assertEquals(17L, (long) header.getRetryAfter());
+        Assert.assertNull(header.getMessageId());
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void read_notMessageResult() throws Exception {
+        Assert.assertTrue(AnswerHeaderReader.read("{\"result\":[{\"message_id\":1}],\"ok\":true}").isOk());
+        Assert.assertNull(AnswerHeaderReader.read("{\"ok\":true,\"result\":true}").getMessageId());
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+}
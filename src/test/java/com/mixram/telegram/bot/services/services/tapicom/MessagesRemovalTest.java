@@ -0,0 +1,77 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Batching of {@link TelegramAPICommunicationServices#removeMessagesFromChat(String, List)}.
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class MessagesRemovalTest {
+
+    @Test
+    public void removeByBatches_splitsBy100() {
+        List<Long> ids = LongStream.rangeClosed(1, 250).boxed().collect(Collectors.toList());
+        List<List<Long>> batches = new ArrayList<>();
+        List<Long> singles = new ArrayList<>();
+
+        TelegramAPICommunicationServices.removeByBatches("-100", ids, batches :: add, singles :: add);
+
+        Assert.assertEquals(3, batches.size());
+        Assert.assertEquals(TelegramAPICommunicationServices.DELETE_MESSAGES_LIMIT, batches.get(0).size());
+        Assert.assertEquals(TelegramAPICommunicationServices.DELETE_MESSAGES_LIMIT, batches.get(1).size());
+        Assert.assertEquals(50, batches.get(2).size());
+        Assert.assertEquals(ids, batches.stream().flatMap(List :: stream).collect(Collectors.toList()));
+        Assert.assertTrue(singles.isEmpty());
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void removeByBatches_fallsBackToSinglesOnBatchError() {
+        List<Long> ids = LongStream.rangeClosed(1, 150).boxed().collect(Collectors.toList());
+        List<List<Long>> batches = new ArrayList<>();
+        List<Long> singles = new ArrayList<>();
+
+        TelegramAPICommunicationServices.removeByBatches("-100", ids, batch -> {
+            if (batch.contains(1L)) {
+                throw new IllegalStateException("Bad Request: message can't be deleted");
+            }
+            batches.add(batch);
+        }, singles :: add);
+
+        Assert.assertEquals(1, batches.size());
+        Assert.assertEquals(ids.subList(100, 150), batches.get(0));
+        Assert.assertEquals(ids.subList(0, 100), singles);
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void removeByBatches_emptyAndSingleInput() {
+        List<List<Long>> batches = new ArrayList<>();
+        List<Long> singles = new ArrayList<>();
+
+        TelegramAPICommunicationServices.removeByBatches("-100", Collections.emptyList(), batches :: add, singles :: add);
+        TelegramAPICommunicationServices.removeByBatches("-100", Arrays.asList(null, null), batches :: add, singles :: add);
+
+        Assert.assertTrue(batches.isEmpty());
+        Assert.assertTrue(singles.isEmpty());
+
+        TelegramAPICommunicationServices.removeByBatches("-100", Arrays.asList(7L, 7L, null), batches :: add, singles :: add);
+
+        Assert.assertTrue(batches.isEmpty());
+        Assert.assertEquals(Collections.singletonList(7L), singles);
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+}
@@ -0,0 +1,122 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import com.mixram.telegram.bot.services.domain.enums.OutboundPriority;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class TelegramOutboundSchedulerTest {
+
+    private TelegramOutboundScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        //private chats - 10 per second
+        scheduler = new TelegramOutboundScheduler(1000, 20, 10, 2, 0);
+        scheduler.start();
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    public void execute_chatLimitDoesNotBlockOtherChats() {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            scheduler.execute(OutboundPriority.REPLY, "1", () -> true);
+        }
+        scheduler.execute(OutboundPriority.REPLY, "2", () -> true);
+        scheduler.execute(OutboundPriority.REPLY, null, () -> true);
+        Assert.assertTrue(System.nanoTime() - startedAt < TimeUnit.MILLISECONDS.toNanos(90));
+
+        scheduler.execute(OutboundPriority.REPLY, "1", () -> true);
+        Assert.assertTrue(System.nanoTime() - startedAt >= TimeUnit.MILLISECONDS.toNanos(90));
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void execute_retriesOnTooManyRequests() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = scheduler.execute(OutboundPriority.REPLY, "-1", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw tooManyRequests();
+            }
+
+            return "ok";
+        });
+
+        Assert.assertEquals("ok", result);
+        Assert.assertEquals(2, attempts.get());
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void schedule_retriesOnTooManyRequests() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = scheduler.schedule(OutboundPriority.REPLY, "-1",
+                                           () -> attempts.incrementAndGet() == 1 ? Mono.<String>error(tooManyRequests()) :
+                                                 Mono.just("ok"))
+                                 .block();
+
+        Assert.assertEquals("ok", result);
+        Assert.assertEquals(2, attempts.get());
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test(expected = HttpClientErrorException.class)
+    public void execute_retriesAreLimited() {
+        scheduler.execute(OutboundPriority.REPLY, "-1", () -> {
+            throw tooManyRequests();
+        });
+    }
+
+    @Test
+    public void execute_bulkYieldsToModeration() {
+        //10 per second, 5 tokens are reserved
+        TelegramOutboundScheduler slowScheduler = new TelegramOutboundScheduler(10, 20, 10, 0, 5);
+        slowScheduler.start();
+        try {
+            AtomicInteger sent = new AtomicInteger();
+            for (int i = 0; i < 20; i++) {
+                slowScheduler.schedule(OutboundPriority.BULK, null, () -> Mono.just(sent.incrementAndGet()))
+                             .subscribe();
+            }
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < 5; i++) {
+                slowScheduler.execute(OutboundPriority.MODERATION, null, () -> true);
+            }
+            Assert.assertTrue(System.nanoTime() - startedAt < TimeUnit.MILLISECONDS.toNanos(50));
+            Assert.assertTrue(sent.get() <= 6);
+        } finally {
+            slowScheduler.stop();
+        }
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    private static HttpClientErrorException tooManyRequests() {
+        return new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                                            "{\"ok\":false,\"parameters\":{\"retry_after\":0}}".getBytes(StandardCharsets.UTF_8),
+                                            StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,155 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import com.google.common.io.ByteStreams;
+import com.mixram.telegram.bot.services.domain.entity.SendMessage;
+import com.mixram.telegram.bot.utils.CommonHeadersBuilder;
+import com.mixram.telegram.bot.utils.databinding.support.CustomJsonMapper;
+import org.apache.http.client.utils.URIBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request path of a message sending: {@link TelegramRequestTemplate} vs the former one (URL concatenation, headers building,
+ * URI parsing, conversion of the body to a buffer, that is copied to the request entity).<br>
+ * Run with "main": allocations per send are shown by "gc.alloc.rate.norm".
+ *
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TelegramRequestBenchmark {
+
+    private static final String MAIN_URL_PART = "https://api.telegram.org/bot123456789:AAHdqTcvCH1vGWJxfSeofSAs0K5PALDsaw";
+    private static final String SEND_MESSAGE_URL = "/sendMessage";
+
+    @Param({"short", "long"})
+    private String size;
+
+    private String text;
+    private MappingJackson2HttpMessageConverter converter;
+    /**
+     * Connection`s stream.
+     */
+    private final OutputStream connection = ByteStreams.nullOutputStream();
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(TelegramRequestBenchmark.class.getSimpleName())
+                                              .addProfiler("gc")
+                                              .build();
+
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < ("short".equals(size) ? 100 : 3000)) {
+            builder.append("<b>PLA</b> 1.75 mm - 499 UAH (-20%) https://example.com/pla ");
+        }
+        text = builder.toString();
+
+        converter = new MappingJackson2HttpMessageConverter(new CustomJsonMapper());
+    }
+
+    @Benchmark
+    public void template(Blackhole blackhole) throws Exception {
+        ClientHttpRequest request = new Request(connection);
+        TelegramRequestTemplate.callback(createMessage()).doWithRequest(request);
+
+        blackhole.consume(request);
+    }
+
+    @Benchmark
+    public void former(Blackhole blackhole) throws Exception {
+        String url = MAIN_URL_PART + SEND_MESSAGE_URL;
+        Map<String, String> headers = CommonHeadersBuilder.newInstance()
+                                                          .json()
+                                                          .build()
+                                                          .toSingleValueMap();
+        SendMessage sendMessage = createMessage();
+
+        URI uri = new URIBuilder(url).build();
+        HttpHeaders httpHeaders = new HttpHeaders();
+        headers.forEach(httpHeaders :: add);
+        HttpEntity<SendMessage> httpEntity = new HttpEntity<>(sendMessage, httpHeaders);
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        ClientHttpRequest request = new Request(buffer);
+        request.getHeaders().putAll(httpEntity.getHeaders());
+        converter.write(httpEntity.getBody(), MediaType.APPLICATION_JSON_UTF8, request);
+
+        blackhole.consume(uri);
+        blackhole.consume(buffer.toByteArray());
+    }
+
+
+    private SendMessage createMessage() {
+        return SendMessage.builder()
+                          .chatId("-1001234567890")
+                          .text(text)
+                          .parseMode("HTML")
+                          .disableWebPagePreview(true)
+                          .disableNotification(false)
+                          .build();
+    }
+
+    /**
+     * Request, that writes its body to the stream.
+     */
+    private static final class Request implements ClientHttpRequest {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final OutputStream body;
+
+        private Request(OutputStream body) {
+            this.body = body;
+        }
+
+        @Override
+        public ClientHttpResponse execute() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public String getMethodValue() {
+            return HttpMethod.POST.name();
+        }
+
+        @Override
+        public URI getURI() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.mixram.telegram.bot.services.services.tapicom;
+
+import com.mixram.telegram.bot.services.domain.entity.Update;
+import com.mixram.telegram.bot.services.domain.entity.UpdateHeader;
+import com.mixram.telegram.bot.services.domain.enums.UpdateKind;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class UpdatesStreamReaderTest {
+
+    private static final String RESPONSE = "{\"ok\":true,\"result\":[" +
+            "{\"update_id\":1,\"message\":{\"message_id\":10,\"from\":{\"id\":7,\"is_bot\":false,\"first_name\":\"a\"}," +
+            "\"chat\":{\"id\":-100,\"type\":\"supergroup\"},\"date\":1,\"text\":\"hello\",\"photo\":[{\"file_id\":\"x\"}]}}," +
+            "{\"update_id\":2,\"message\":{\"message_id\":11,\"chat\":{\"id\":-100,\"type\":\"supergroup\"},\"date\":1," +
+            "\"text\":\"/start@bot\",\"entities\":[{\"offset\":0,\"length\":10,\"type\":\"bot_command\"},{\"offset\":1,\"length\":1,\"type\":\"bold\"}]}}," +
+            "{\"update_id\":3,\"callback_query\":{\"id\":\"q\",\"data\":\"d\",\"message\":{\"message_id\":12,\"chat\":{\"id\":-200,\"type\":\"group\"},\"date\":1}}}," +
+            "{\"update_id\":4,\"message\":{\"message_id\":13,\"chat\":{\"id\":-100,\"type\":\"supergroup\"},\"date\":1," +
+            "\"new_chat_members\":[{\"id\":8,\"is_bot\":false,\"first_name\":\"b\"}]}}," +
+            "{\"update_id\":5,\"edited_message\":{\"message_id\":14,\"chat\":{\"id\":-100,\"type\":\"supergroup\"},\"date\":1," +
+            "\"media_group_id\":\"m\",\"caption\":\"c\"}}," +
+            "{\"update_id\":6,\"message\":{\"message_id\":15,\"chat\":{\"id\":-100,\"type\":\"supergroup\"},\"date\":1," +
+            "\"text\":\"x /start\",\"entities\":[{\"offset\":2,\"length\":6,\"type\":\"bot_command\"}]}}" +
+            "]}";
+
+    @Test
+    public void read_classifiesAndMaterializesSelectedOnly() throws Exception {
+        List<UpdateHeader> headers = new ArrayList<>();
+        UpdatesStreamReader reader = new UpdatesStreamReader(header -> {
+            headers.add(header);
+
+            return header.getKind() != UpdateKind.OTHER;
+        });
+
+        List<Update> updates = reader.read(RESPONSE.getBytes(StandardCharsets.UTF_8));
+
+        Assert.assertEquals(6, updates.size());
+        Assert.assertEquals(UpdateKind.OTHER, headers.get(0).getKind());
+        Assert.assertEquals(UpdateKind.COMMAND, headers.get(1).getKind());
+        Assert.assertEquals(UpdateKind.CALLBACK, headers.get(2).getKind());
+        Assert.assertEquals(-200L, (long) headers.get(2).getChatId());
+        Assert.assertEquals(UpdateKind.MEMBERS, headers.get(3).getKind());
+        Assert.assertEquals(UpdateKind.MEDIA_GROUP, headers.get(4).getKind());
+        Assert.assertEquals(UpdateKind.OTHER, headers.get(5).getKind());
+        Assert.assertEquals(-100L, (long) headers.get(5).getChatId());
+        Assert.assertEquals(7L, (long) headers.get(0).getUserId());
+        Assert.assertNull(headers.get(2).getUserId());
+        Assert.assertTrue(headers.get(4).isEdited());
+
+        Assert.assertEquals(1L, (long) updates.get(0).getUpdateId());
+        Assert.assertNull(updates.get(0).getMessage());
+        Assert.assertSame(headers.get(0), updates.get(0).getSkippedHeader());
+        Assert.assertNull(updates.get(1).getSkippedHeader());
+        Assert.assertEquals("/start@bot", updates.get(1).getMessage().getText());
+        Assert.assertEquals(-200L, (long) updates.get(2).getCallbackQuery().getMessage().getChat().getChatId());
+        Assert.assertEquals(1, updates.get(3).getMessage().getNewChatMembers().size());
+        Assert.assertEquals("m", updates.get(4).getEditedMessage().getMediaGroupId());
+        Assert.assertNull(updates.get(5).getMessage());
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void read_notOk() throws Exception {
+        new UpdatesStreamReader(header -> true).read(
+                "{\"ok\":false,\"error_code\":409,\"description\":\"Conflict\"}".getBytes(StandardCharsets.UTF_8));
+    }
+}
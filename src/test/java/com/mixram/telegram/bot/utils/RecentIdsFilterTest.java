@@ -0,0 +1,61 @@
+package com.mixram.telegram.bot.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class RecentIdsFilterTest {
+
+    @Test
+    public void add_evictsTheOldest() {
+        RecentIdsFilter filter = new RecentIdsFilter(100);
+        for (long id = 1; id <= 150; id++) {
+            Assert.assertTrue(filter.add(id));
+        }
+
+        for (long id = 1; id <= 50; id++) {
+            Assert.assertFalse(filter.contains(id));
+        }
+        for (long id = 51; id <= 150; id++) {
+            Assert.assertTrue(filter.contains(id));
+            Assert.assertFalse(filter.add(id));
+        }
+        Assert.assertEquals(100, filter.toArray().length);
+        Assert.assertEquals(51, filter.toArray()[0]);
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void add_agreesWithReferenceUnderEvictions() {
+        RecentIdsFilter filter = new RecentIdsFilter(64);
+        Deque<Long> reference = new ArrayDeque<>();
+        Random random = new Random(17);
+        for (int i = 0; i < 100_000; i++) {
+            //small range - many repeats and collisions
+            long id = random.nextInt(200);
+
+            boolean expected = !reference.contains(id);
+            if (expected) {
+                if (reference.size() == 64) {
+                    reference.removeFirst();
+                }
+                reference.addLast(id);
+            }
+
+            Assert.assertEquals(expected, filter.add(id));
+        }
+        for (long id = 0; id < 200; id++) {
+            Assert.assertEquals(reference.contains(id), filter.contains(id));
+        }
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+}
@@ -0,0 +1,127 @@
+package com.mixram.telegram.bot.utils.concurrent;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class KeyedOrderedExecutorTest {
+
+    @Test
+    public void submit_keepsOrderPerKey() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        KeyedOrderedExecutor<Long> executor = new KeyedOrderedExecutor<>("test", 4, 10, pool);
+
+        List<List<Integer>> results = new ArrayList<>();
+        for (int k = 0; k < 3; k++) {
+            results.add(Collections.synchronizedList(new ArrayList<>()));
+        }
+
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int key = i % 3;
+            int value = i;
+            futures.add(executor.submit((long) key, () -> results.get(key).add(value)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+        for (int k = 0; k < 3; k++) {
+            List<Integer> values = results.get(k);
+            Assert.assertEquals(100, values.size());
+            for (int i = 1; i < values.size(); i++) {
+                Assert.assertTrue(values.get(i - 1) < values.get(i));
+            }
+        }
+
+        executor.shutdown();
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void submit_blocksWhenCapacityIsReached() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        KeyedOrderedExecutor<Long> executor = new KeyedOrderedExecutor<>("test", 1, 2, pool);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch gate = new CountDownLatch(1);
+        CompletableFuture<?> running = executor.submit(1L, () -> {
+            started.countDown();
+            await(gate);
+
+            return null;
+        });
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        //the running task does not take a place in the queue
+        CompletableFuture<?> queued1 = executor.submit(1L, () -> null);
+        CompletableFuture<?> queued2 = executor.submit(2L, () -> null);
+
+        AtomicBoolean submitted = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            executor.submit(3L, () -> null);
+            submitted.set(true);
+        });
+        producer.start();
+
+        producer.join(300);
+        Assert.assertTrue(producer.isAlive());
+        Assert.assertFalse(submitted.get());
+
+        gate.countDown();
+        producer.join(5000);
+        Assert.assertTrue(submitted.get());
+        CompletableFuture.allOf(running, queued1, queued2).get(5, TimeUnit.SECONDS);
+
+        executor.shutdown();
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void submit_busyKeyDoesNotStarveOthers() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        KeyedOrderedExecutor<Long> executor = new KeyedOrderedExecutor<>("test", 1, 100, pool);
+
+        CountDownLatch gate = new CountDownLatch(1);
+        executor.submit(0L, () -> {
+            await(gate);
+
+            return null;
+        });
+
+        List<Long> order = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(executor.submit(1L, () -> order.add(1L)));
+        }
+        futures.add(executor.submit(2L, () -> order.add(2L)));
+
+        gate.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+        //one task per key per turn: the other key goes right after the first task of the busy one
+        Assert.assertEquals(11, order.size());
+        Assert.assertEquals(1, order.indexOf(2L));
+
+        executor.shutdown();
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.mixram.telegram.bot.utils.concurrent;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class WorkloadExecutorsTest {
+
+    @Test
+    public void submit_fullWorkloadDoesNotBlockOthers() throws Exception {
+        WorkloadExecutors executors = new WorkloadExecutors(ExecutionMode.POOLED, Collections.singletonMap(
+                Workload.ADMIN_NOTIFY.getName(), new WorkloadSettings(1, 1, RejectionPolicy.DISCARD_OLDEST)));
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            CompletableFuture<Object> running = executors.submit(Workload.ADMIN_NOTIFY, () -> await(latch));
+            CompletableFuture<Object> oldest = executors.submit(Workload.ADMIN_NOTIFY, () -> "oldest");
+            CompletableFuture<Object> newest = executors.submit(Workload.ADMIN_NOTIFY, () -> "newest");
+
+            Assert.assertEquals("moderation", executors.submit(Workload.MODERATION, () -> "moderation")
+                                                       .get(1, TimeUnit.SECONDS));
+
+            Assert.assertTrue(oldest.isCompletedExceptionally());
+            latch.countDown();
+            running.get(1, TimeUnit.SECONDS);
+            Assert.assertEquals("newest", newest.get(1, TimeUnit.SECONDS));
+        } finally {
+            latch.countDown();
+            executors.shutdown();
+        }
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void submit_abort() {
+        WorkloadExecutors executors = new WorkloadExecutors(ExecutionMode.POOLED, Collections.singletonMap(
+                Workload.SCRAPE.getName(), new WorkloadSettings(1, 1, RejectionPolicy.ABORT)));
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            executors.submit(Workload.SCRAPE, () -> await(latch));
+            executors.submit(Workload.SCRAPE, () -> null);
+            executors.submit(Workload.SCRAPE, () -> null);
+        } finally {
+            latch.countDown();
+            executors.shutdown();
+        }
+    }
+
+    private static Object await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.mixram.telegram.bot.utils.rest;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class PooledConnectionManagerTest {
+
+    private final HttpRoute route = new HttpRoute(new HttpHost("localhost", 80));
+
+    @Test
+    public void requestConnection_reportsLeaseWait() throws Exception {
+        PooledConnectionManager cm = RestClientFactory.newConnectionManager(1, 1, 1000, 60, false);
+        List<Long> waits = new CopyOnWriteArrayList<>();
+        cm.setLeaseWaitListener(waits :: add);
+
+        HttpClientConnection connection = cm.requestConnection(route, null).get(1, TimeUnit.SECONDS);
+        Assert.assertEquals(1, cm.getTotalStats().getLeased());
+
+        try {
+            cm.requestConnection(route, null).get(100, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (ConnectionPoolTimeoutException e) {
+            //the pool is exhausted
+        }
+        Assert.assertEquals(2, waits.size());
+        Assert.assertTrue(waits.get(1) >= TimeUnit.MILLISECONDS.toNanos(50));
+
+        cm.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(0, cm.getTotalStats().getLeased());
+
+        cm.shutdown();
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+}
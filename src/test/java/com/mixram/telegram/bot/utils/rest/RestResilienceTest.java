@@ -0,0 +1,93 @@
+package com.mixram.telegram.bot.utils.rest;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author mixram on 2026-10-17.
+ * @since 1.9.0.0
+ */
+public class RestResilienceTest {
+
+    private static final URI URI = java.net.URI.create("https://api.cas.chat/check?user_id=1");
+
+    @Test
+    public void execute_opensCircuitAndFailsFast() throws Exception {
+        RestResilience resilience = new RestResilience(true, 1, 0, 0, 0, 0, 2, 50);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                resilience.execute(HttpMethod.GET, URI, () -> {
+                    calls.incrementAndGet();
+
+                    throw new ResourceAccessException("down", new SocketTimeoutException());
+                });
+                Assert.fail();
+            } catch (ResourceAccessException e) {
+                //expected
+            }
+        }
+        Assert.assertEquals(CircuitBreaker.State.OPEN, resilience.getCircuitStates().get("GET api.cas.chat/check"));
+
+        try {
+            resilience.execute(HttpMethod.GET, URI, calls :: incrementAndGet);
+            Assert.fail();
+        } catch (CircuitBreakerOpenException e) {
+            Assert.assertEquals(2, calls.get());
+        }
+
+        TimeUnit.MILLISECONDS.sleep(60);
+
+        Assert.assertEquals(3, (int) resilience.execute(HttpMethod.GET, URI, calls :: incrementAndGet));
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, resilience.getCircuitStates().get("GET api.cas.chat/check"));
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void execute_retriesNotSentRequests() {
+        RestResilience resilience = new RestResilience(true, 3, 0, 0, 10, 0, 5, 1000);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = resilience.execute(HttpMethod.POST, URI, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new ResourceAccessException("refused", new ConnectException());
+            }
+
+            return "ok";
+        });
+
+        Assert.assertEquals("ok", result);
+        Assert.assertEquals(2, calls.get());
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+
+    @Test
+    public void execute_doesNotRetryPostAfterReadTimeout() {
+        RestResilience resilience = new RestResilience(true, 3, 0, 0, 10, 0, 5, 1000);
+        AtomicInteger calls = new AtomicInteger();
+
+        try {
+            resilience.execute(HttpMethod.POST, URI, () -> {
+                calls.incrementAndGet();
+
+                throw new ResourceAccessException("timeout", new SocketTimeoutException());
+            });
+            Assert.fail();
+        } catch (ResourceAccessException e) {
+            Assert.assertEquals(1, calls.get());
+        }
+
+        System.out.println("OK --- " + new Object() {}.getClass().getEnclosingMethod().getName());
+    }
+}